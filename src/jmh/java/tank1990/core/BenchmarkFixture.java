@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import tank1990.projectiles.Bullet;
+import tank1990.projectiles.BulletType;
+import tank1990.tank.AbstractTank;
+import tank1990.tank.TankFactory;
+import tank1990.tank.TankType;
+import tank1990.tile.Tile;
+
+/**
+ * @class BenchmarkFixture
+ * @brief Builds the game states used by the benchmarks.
+ * @details The game engine is created on the first predefined level without a game panel, and its game loop is not
+ * started, so the benchmarks step the simulation by themselves. Enemy tanks and bullets are placed with a fixed seed,
+ * which keeps the results comparable between runs.
+ */
+final class BenchmarkFixture {
+    static final long SEED = 1990;  /**< Seed of the placement of tanks and bullets. */
+
+    private static boolean isConfigParsed = false;
+
+    private BenchmarkFixture() {}
+
+    /**
+     * Creates a game engine with the first predefined level loaded.
+     * @return The game engine
+     */
+    static GameEngine createEngine() {
+        return createEngine(MapLayout.DEFAULT);
+    }
+
+    /**
+     * Creates a game engine with the first level of a map layout loaded. The first level is the predefined one for
+     * the default layout, and a random one for the others.
+     * @param mapLayout Layout of the map, which sets its size
+     * @return The game engine
+     */
+    static GameEngine createEngine(MapLayout mapLayout) {
+        if (!isConfigParsed) {
+            ConfigHandler.getInstance().parse(Globals.CONFIGURATION_FILE);
+            isConfigParsed = true;
+        }
+
+        GameEngine engine = new GameEngine(GameMode.MODE_SINGLE_PLAYER, SEED);
+        if (!mapLayout.equals(MapLayout.DEFAULT)) engine.setMapLayout(mapLayout);
+        engine.loadGameLevel();
+        engine.getCurrentLevel().setCurrentState(LevelState.PLAYING);
+        return engine;
+    }
+
+    /**
+     * Adds enemy tanks to the empty tiles of the current level, one tank per tile.
+     *
+     * @param engine The game engine
+     * @param count Number of enemy tanks
+     * @return The added tanks
+     * @throws IllegalArgumentException If the level does not have enough empty tiles
+     */
+    static List<AbstractTank> addEnemies(GameEngine engine, int count) {
+        List<GridLocation> emptyCells = findEmptyCells(engine);
+        if (emptyCells.size() < count) {
+            throw new IllegalArgumentException("Level has " + emptyCells.size() + " empty tiles, " + count + " tanks requested");
+        }
+
+        TankType[] tankTypes = new TankType[] {TankType.BASIC_TANK, TankType.FAST_TANK, TankType.POWER_TANK, TankType.ARMOR_TANK};
+
+        List<AbstractTank> tanks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Location loc = Utils.gridLoc2Loc(emptyCells.get(i));
+            AbstractTank tank = TankFactory.createTank(tankTypes[i % tankTypes.length], loc.x(), loc.y());
+            engine.addEnemy(tank);
+            tanks.add(tank);
+        }
+        return tanks;
+    }
+
+    /**
+     * Places a bullet of the fixture, see placeBullets().
+     */
+    @FunctionalInterface
+    interface BulletPlacer {
+        /**
+         * Places a bullet.
+         *
+         * @param owner Tank which the bullet belongs to
+         * @param x X coordinate of the bullet
+         * @param y Y coordinate of the bullet
+         * @param dir Direction of the bullet
+         */
+        void place(AbstractTank owner, int x, int y, Direction dir);
+    }
+
+    /**
+     * Adds bullets at random locations of the game area, moving in random directions.
+     *
+     * @param engine The game engine
+     * @param owners Tanks which the bullets belong to
+     * @param count Number of bullets
+     */
+    static void addBullets(GameEngine engine, List<AbstractTank> owners, int count) {
+        placeBullets(engine, owners, count, (owner, x, y, dir) -> {
+            Bullet bullet = engine.getBulletPool().acquire();
+            bullet.reset(owner, x, y, dir, Globals.BULLET_SPEED_PER_TICK, BulletType.NORMAL);
+            engine.addBullet(bullet);
+        });
+    }
+
+    /**
+     * Adds bullets to the bullet store at random locations of the game area, moving in random directions.
+     * The bullets are placed in the same way as by addBullets().
+     *
+     * @param engine The game engine
+     * @param owners Tanks which the bullets belong to
+     * @param count Number of bullets
+     */
+    static void addStoreBullets(GameEngine engine, List<AbstractTank> owners, int count) {
+        placeBullets(engine, owners, count, (owner, x, y, dir) ->
+                engine.getBulletStore().add(owner, x, y, dir, Globals.BULLET_SPEED_PER_TICK, BulletType.NORMAL));
+    }
+
+    /**
+     * Generates the seeded locations and directions of the bullets, so every benchmark places the same bullets.
+     *
+     * @param engine The game engine
+     * @param owners Tanks which the bullets belong to
+     * @param count Number of bullets
+     * @param placer Places each bullet into the game
+     */
+    private static void placeBullets(GameEngine engine, List<AbstractTank> owners, int count, BulletPlacer placer) {
+        Random random = new Random(SEED);
+        Dimension gameArea = engine.getCurrentLevel().getGameAreaSize();
+        Direction[] directions = new Direction[] {Direction.DIRECTION_UPWARDS, Direction.DIRECTION_RIGHT, Direction.DIRECTION_DOWNWARDS, Direction.DIRECTION_LEFT};
+
+        for (int i = 0; i < count; i++) {
+            AbstractTank owner = owners.get(i % owners.size());
+            int x = random.nextInt(gameArea.width - Globals.BULLET_WIDTH);
+            int y = random.nextInt(gameArea.height - Globals.BULLET_HEIGHT);
+            Direction dir = directions[random.nextInt(directions.length)];
+            placer.place(owner, x, y, dir);
+        }
+    }
+
+    /**
+     * Finds the tiles of the current level which have neither a tile object nor a tank, in a shuffled order.
+     *
+     * @param engine The game engine
+     * @return The empty tiles
+     */
+    private static List<GridLocation> findEmptyCells(GameEngine engine) {
+        Tile[][] map = engine.getCurrentLevel().getMap();
+
+        List<GridLocation> emptyCells = new ArrayList<>();
+        for (int row = 0; row < map.length; row++) {
+            for (int col = 0; col < map[row].length; col++) {
+                GridLocation gloc = new GridLocation(row, col);
+                if (map[row][col] == null && !engine.isTileOccupied(gloc, null)) emptyCells.add(gloc);
+            }
+        }
+
+        Collections.shuffle(emptyCells, new Random(SEED));
+        return emptyCells;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tank1990.tank.AbstractTank;
+import tank1990.tank.TankFactory;
+import tank1990.tank.TankType;
+
+/**
+ * @class BulletStoreBenchmark
+ * @brief Compares the collision check of many bullets kept as Bullet objects and kept in the bullet store.
+ * @details The bullets are fired by enemy tanks and a player tank, and placed in the same way in both cases. The store
+ * bullets are also moved, which is a separate pass for the store, while the object bullets are also checked against
+ * each other, which the store bullets are not. A collision check destroys bullets, tanks and tiles, so the game is
+ * created again before each invocation. Creating the game is not part of the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BulletStoreBenchmark {
+    private static final int ENEMY_COUNT = 8;
+
+    @Param({"1000", "10000"})
+    public int bulletCount;  /**< Number of bullets. */
+
+    @Param({"objects", "store"})
+    public String storage;   /**< Where the bullets are kept: as Bullet objects or in the bullet store. */
+
+    private GameEngine engine;
+    private GameLevel level;
+    private boolean isStore;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        this.engine = BenchmarkFixture.createEngine();
+        this.level = this.engine.getCurrentLevel();
+
+        List<AbstractTank> owners = new ArrayList<>(BenchmarkFixture.addEnemies(this.engine, ENEMY_COUNT));
+        owners.add(TankFactory.createTank(TankType.PLAYER_TANK, 0, 0));
+
+        this.isStore = this.storage.equals("store");
+        if (this.isStore) {
+            BenchmarkFixture.addStoreBullets(this.engine, owners, this.bulletCount);
+        } else {
+            BenchmarkFixture.addBullets(this.engine, owners, this.bulletCount);
+        }
+    }
+
+    @Benchmark
+    public void checkCollisions() {
+        if (this.isStore) {
+            this.engine.updateBulletStore(this.level);
+            this.engine.checkBulletStoreCollisions(this.level);
+        } else {
+            this.engine.checkProjectileCollisions(this.level);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tank1990.tank.AbstractTank;
+
+/**
+ * @class GameEngineBenchmark
+ * @brief Measures a complete game tick.
+ * @details The game is created again before each iteration, because the simulation runs on between the ticks:
+ * tanks move and get destroyed, bullets are fired, and new enemies are spawned.
+ * The results are the mean tick time of the game starting with the given number of enemy tanks and bullets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameEngineBenchmark {
+    @Param({"4", "16", "32"})
+    public int entityCount;  /**< Number of enemy tanks, and number of bullets, at the start of the iteration. */
+
+    private GameEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.engine = BenchmarkFixture.createEngine();
+        List<AbstractTank> enemies = BenchmarkFixture.addEnemies(this.engine, this.entityCount);
+        BenchmarkFixture.addBullets(this.engine, enemies, this.entityCount);
+    }
+
+    @Benchmark
+    public void update() {
+        this.engine.update();
+    }
+}
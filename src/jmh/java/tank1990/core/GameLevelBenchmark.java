@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tank1990.tank.AbstractTank;
+import tank1990.tile.Tile;
+
+/**
+ * @class GameLevelBenchmark
+ * @brief Measures the queries which the tanks make to the game level on every tick.
+ * @details None of the benchmarks changes the game state, so the game is created once per trial.
+ * Enemy tanks are placed at tile centers, where they plan their next move with the flow fields of the level
+ * (AbstractTank.findBestMove).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameLevelBenchmark {
+    @Param({"4", "16", "32"})
+    public int entityCount;  /**< Number of enemy tanks. */
+
+    private GameLevel level;
+    private List<AbstractTank> enemies;
+
+    @Setup
+    public void setUp() {
+        GameEngine engine = BenchmarkFixture.createEngine();
+        this.level = engine.getCurrentLevel();
+        this.enemies = BenchmarkFixture.addEnemies(engine, this.entityCount);
+        this.level.updateFlowFields();
+    }
+
+    @Benchmark
+    public void findBestMove() {
+        for (AbstractTank tank : this.enemies) {
+            tank.planMove(this.level);
+        }
+    }
+
+    @Benchmark
+    public void checkMovable(Blackhole blackhole) {
+        for (AbstractTank tank : this.enemies) {
+            blackhole.consume(this.level.checkMovable(tank, tank.moveForwardHint()));
+        }
+    }
+
+    @Benchmark
+    public void getBoundingBox(Blackhole blackhole) {
+        for (Tile[] row : this.level.getMap()) {
+            for (Tile tile : row) {
+                if (tile != null) blackhole.consume(tile.getBoundingBox());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @class RenderBenchmark
+ * @brief Measures painting a frame of the game area on maps of different sizes.
+ * @details The frame is painted into an off-screen image of the size of the game area, which shows the part of the map
+ * around the player. Enemy tanks are placed on the first empty tiles of the map, so on the large maps most of them
+ * are out of the game area. Paint time should not depend on the size of the map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    private static final int ENEMY_COUNT = 16;
+
+    @Param({"13x13", "64x64", "256x256"})
+    public String mapSize;  /**< Size of the map in tiles, rowsxcolumns. */
+
+    private GameEngine engine;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        this.engine = BenchmarkFixture.createEngine(MapLayout.parse(this.mapSize));
+        BenchmarkFixture.addEnemies(this.engine, ENEMY_COUNT);
+        this.engine.publishFrame();  // Frame of the loaded level does not have the enemy tanks yet
+
+        Dimension gameAreaSize = this.engine.getCurrentLevel().getGameAreaSize();
+        this.image = new BufferedImage(gameAreaSize.width, gameAreaSize.height, BufferedImage.TYPE_INT_ARGB);
+        this.graphics = this.image.createGraphics();
+        this.graphics.setClip(0, 0, gameAreaSize.width, gameAreaSize.height);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.graphics.dispose();
+    }
+
+    @Benchmark
+    public void paintComponent() {
+        this.engine.paintComponent(this.graphics);
+    }
+}
@@ -0,0 +1,201 @@
+package tank1990;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import tank1990.core.ConfigHandler;
+import tank1990.core.GameEngine;
+import tank1990.core.GameMode;
+import tank1990.core.Globals;
+import tank1990.core.MapLayout;
+import tank1990.player.PlayerBot;
+import tank1990.player.PlayerType;
+
+/**
+ * @class BatchRunner
+ * @brief Plays many games between a bot player and the enemy AI without any window, and reports their results.
+ * @details Every match has its own game engine, which is stepped on a thread of the batch without a game loop.
+ * Match i is played with seed firstSeed+i, so a batch is reproducible, and a single match can be watched again
+ * by starting the headless game with its seed. A match is one level: the player wins by destroying all enemy tanks,
+ * and loses when the eagle or all of its tanks are destroyed.
+ * The results are used for balance tuning: win rate, ticks until the eagle is destroyed and score distribution.
+ *
+ * Usage: BatchRunner [matchCount] [threadCount] [firstSeed] [tickLimit] [mapSize]
+ * Map size is given as rowsxcolumns (e.g. 64x64), the matches are played on the first predefined level otherwise.
+ */
+public class BatchRunner {
+    private static final int DEFAULT_MATCH_COUNT = 1000;
+    private static final long DEFAULT_FIRST_SEED = 1;
+    private static final long DEFAULT_TICK_LIMIT = 100_000;  // Around 20 minutes of game time
+
+    /**
+     * Outcome of a match.
+     */
+    private enum Outcome {
+        PLAYER_WON,
+        EAGLE_DESTROYED,
+        PLAYER_DESTROYED,
+        UNFINISHED
+    }
+
+    /**
+     * Result of a match.
+     *
+     * @param seed Seed of the match
+     * @param outcome How the match ended
+     * @param ticks Number of ticks until the end of the match
+     * @param score Score of the player
+     */
+    private record MatchResult(long seed, Outcome outcome, long ticks, int score) {}
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+
+        ConfigHandler.getInstance().parse(Globals.CONFIGURATION_FILE);
+
+        int matchCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MATCH_COUNT;
+        int threadCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_FIRST_SEED;
+        long tickLimit = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_TICK_LIMIT;
+        MapLayout mapLayout = args.length > 4 ? MapLayout.parse(args[4]) : null;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "batch-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startTime = System.nanoTime();
+
+        List<Future<MatchResult>> futures = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            long seed = firstSeed + i;
+            futures.add(executor.submit(() -> playMatch(seed, tickLimit, mapLayout)));
+        }
+
+        List<MatchResult> results = new ArrayList<>(matchCount);
+        for (Future<MatchResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                // A failing match is left out of the results, the rest of the batch is still useful
+                e.getCause().printStackTrace();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        printSummary(results, threadCount, elapsedNanos);
+
+        System.exit(0);
+    }
+
+    /**
+     * Plays a match from the beginning to the end on the caller thread.
+     *
+     * @param seed Seed of the match
+     * @param tickLimit Maximum number of ticks of the match
+     * @param mapLayout Layout of the random map of the match, or null to play the first predefined level
+     * @return The result of the match
+     */
+    private static MatchResult playMatch(long seed, long tickLimit, MapLayout mapLayout) {
+        GameEngine gameEngine = new GameEngine(GameMode.MODE_SINGLE_PLAYER, seed);
+        // Matches already keep all cores busy, planning in the shared pool would only add waiting
+        gameEngine.setParallelPlanning(false);
+        gameEngine.getTickProfiler().setEnabled(false);
+        // The events of the matches would flood the summary, and every print locks the shared standard output
+        gameEngine.setLogging(false);
+        if (mapLayout != null) gameEngine.setMapLayout(mapLayout);
+        gameEngine.loadGameLevel();
+
+        PlayerBot playerBot = new PlayerBot(gameEngine, PlayerType.PLAYER_1, gameEngine.getRandom().split());
+
+        gameEngine.startGameLevelWithoutLoop();
+        while (!gameEngine.isStopped() && gameEngine.getTickCount() < tickLimit) {
+            playerBot.update();
+            gameEngine.update();
+        }
+
+        Outcome outcome;
+        if (gameEngine.isEagleDestroyed()) {
+            outcome = Outcome.EAGLE_DESTROYED;
+        } else if (gameEngine.isLevelCompleted()) {
+            outcome = Outcome.PLAYER_WON;
+        } else if (gameEngine.isStopped()) {
+            outcome = Outcome.PLAYER_DESTROYED;
+        } else {
+            outcome = Outcome.UNFINISHED;
+        }
+
+        return new MatchResult(seed, outcome, gameEngine.getTickCount(), gameEngine.getGameLevelManager().getPlayerScore());
+    }
+
+    /**
+     * Prints the aggregated results of the matches.
+     *
+     * @param results Results of the matches
+     * @param threadCount Number of threads the matches are played on
+     * @param elapsedNanos Duration of the batch
+     */
+    private static void printSummary(List<MatchResult> results, int threadCount, long elapsedNanos) {
+        int matchCount = results.size();
+        long totalTicks = results.stream().mapToLong(MatchResult::ticks).sum();
+        double elapsedSeconds = elapsedNanos / 1e9;
+
+        System.out.printf("Played %d matches on %d threads in %.3f s: %.1f matches/s, %.0f ticks/s%n",
+                matchCount,
+                threadCount,
+                elapsedSeconds,
+                matchCount / elapsedSeconds,
+                totalTicks / elapsedSeconds);
+        if (matchCount == 0) return;
+
+        for (Outcome outcome : Outcome.values()) {
+            long count = results.stream().filter(result -> result.outcome() == outcome).count();
+            System.out.printf("  %-16s %6d (%5.1f%%)%n", outcome, count, 100.0 * count / matchCount);
+        }
+
+        long[] eagleKillTicks = results.stream()
+                .filter(result -> result.outcome() == Outcome.EAGLE_DESTROYED)
+                .mapToLong(MatchResult::ticks)
+                .sorted()
+                .toArray();
+        if (eagleKillTicks.length > 0) {
+            System.out.printf("Ticks to eagle kill: mean %.0f, min %d, median %d, p90 %d, max %d%n",
+                    Arrays.stream(eagleKillTicks).average().orElse(0),
+                    eagleKillTicks[0],
+                    percentile(eagleKillTicks, 50),
+                    percentile(eagleKillTicks, 90),
+                    eagleKillTicks[eagleKillTicks.length - 1]);
+        }
+
+        long[] scores = results.stream().mapToLong(MatchResult::score).sorted().toArray();
+        System.out.printf("Score: mean %.0f, min %d, p25 %d, median %d, p75 %d, p90 %d, max %d%n",
+                Arrays.stream(scores).average().orElse(0),
+                scores[0],
+                percentile(scores, 25),
+                percentile(scores, 50),
+                percentile(scores, 75),
+                percentile(scores, 90),
+                scores[scores.length - 1]);
+    }
+
+    /**
+     * Gets a percentile of sorted values with the nearest-rank method.
+     *
+     * @param sortedValues Values in ascending order, at least one
+     * @param percent Percentile to get (0-100)
+     * @return The percentile
+     */
+    private static long percentile(long[] sortedValues, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(0, rank - 1)];
+    }
+}
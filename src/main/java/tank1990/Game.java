@@ -2,6 +2,7 @@ package tank1990;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
 
 import tank1990.core.ConfigHandler;
 import tank1990.core.Globals;
@@ -10,6 +11,8 @@ import tank1990.panels.MenuPanel;
 /**
  * @class Game
  * @brief The main class to start the Tank 1990 game.
+ * @details Usage: Game [--replay file [speed]]
+ * With --replay, the recorded game session is played at the given speed (1, 4, 16 etc.) instead of the menu.
  */
 public class Game {
     public static int iPlayerScore = 0; // Static variable to hold the player's score
@@ -41,6 +44,11 @@ public class Game {
             MenuPanel menuPanel = new MenuPanel(frame);
             frame.add(menuPanel);
             frame.setVisible(true);
+
+            if (args.length > 1 && args[0].equals("--replay")) {
+                int speed = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+                menuPanel.playReplay(new File(args[1]), speed);
+            }
         });
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package tank1990;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import tank1990.core.ConfigHandler;
+import tank1990.core.GameEngine;
+import tank1990.core.GameMode;
+import tank1990.core.Globals;
+import tank1990.core.MapLayout;
+import tank1990.core.ObjectPool;
+import tank1990.core.ReplayPlayer;
+import tank1990.tile.Tile;
+
+/**
+ * @class HeadlessGame
+ * @brief Runs the game simulation without any window.
+ * @details The game engine is created without a game panel and its loop runs ticks as fast as possible.
+ * It is intended for soak testing the simulation. The run ends when the tick limit is reached,
+ * or when the level is over.
+ *
+ * Usage: HeadlessGame [tickLimit] [seed] [mapSize]
+ * A run with a given seed is reproducible, otherwise (or if the seed is -) the seed is printed at the end of the run.
+ * Map size is given as rowsxcolumns (e.g. 256x256), the predefined levels are played if it is not given.
+ *
+ * Usage: HeadlessGame --replay file
+ * Simulates a recorded game session as fast as possible, including its level transitions, until the replay is over.
+ */
+public class HeadlessGame {
+    private static final long DEFAULT_TICK_LIMIT = 100_000;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        ConfigHandler.getInstance().parse(Globals.CONFIGURATION_FILE);
+
+        if (args.length > 1 && args[0].equals("--replay")) {
+            playReplay(new File(args[1]));
+            System.exit(0);
+        }
+
+        long tickLimit = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICK_LIMIT;
+        long seed = args.length > 1 && !args[1].equals("-") ? Long.parseLong(args[1]) : System.nanoTime();
+
+        GameEngine gameEngine = new GameEngine(GameMode.MODE_SINGLE_PLAYER, seed);
+        gameEngine.setUnboundedTickRate(true);
+        gameEngine.getTickProfiler().registerMBean();
+        if (args.length > 2) gameEngine.setMapLayout(MapLayout.parse(args[2]));
+        gameEngine.loadGameLevel();
+
+        long startTime = System.nanoTime();
+        gameEngine.startGameLevel();
+
+        while (gameEngine.getTickCount() < tickLimit && !gameEngine.isStopped()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        gameEngine.stop();
+
+        System.out.printf("Seed: %d%n", seed);
+        printStatistics(gameEngine, System.nanoTime() - startTime);
+
+        System.exit(0);
+    }
+
+    /**
+     * Simulates a recorded game session from a replay file, and closes the file when the replay is over.
+     *
+     * @param replayFile The replay file to play
+     */
+    private static void playReplay(File replayFile) {
+        try (ReplayPlayer replayPlayer = new ReplayPlayer(new FileInputStream(replayFile))) {
+            playReplay(replayPlayer);
+        } catch (IOException e) {
+            System.err.println("Cannot read replay: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Simulates a recorded game session. Levels are switched the same way as the game panel does.
+     *
+     * @param replayPlayer The replay to play
+     */
+    private static void playReplay(ReplayPlayer replayPlayer) {
+        GameEngine gameEngine = replayPlayer.createEngine();
+        gameEngine.setUnboundedTickRate(true);
+        gameEngine.loadGameLevel();
+
+        long startTime = System.nanoTime();
+        gameEngine.startGameLevel();
+
+        while (true) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            if (!gameEngine.isStopped()) continue;
+
+            gameEngine.stop();  // Wait until the last tick is finished
+            if (replayPlayer.isFinished(gameEngine.getTickCount()) || !gameEngine.isLevelCompleted()) break;
+
+            gameEngine.reset();
+            gameEngine.loadGameLevel();
+            gameEngine.startGameLevel();
+        }
+
+        System.out.printf("Replay: seed %d, finished at level %d with score %d%n",
+                replayPlayer.getSeed(),
+                gameEngine.getCurrentLevelIndex() + 1,
+                gameEngine.getGameLevelManager().getPlayerScore());
+        printStatistics(gameEngine, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Prints the speed of the simulation, the measurements of the tick profiler and the statistics of the caches.
+     *
+     * @param gameEngine The game engine which run the simulation
+     * @param elapsedNanos Duration of the simulation
+     */
+    private static void printStatistics(GameEngine gameEngine, long elapsedNanos) {
+        long ticks = gameEngine.getTickCount();
+        System.out.printf("Simulated %d ticks (%.1f s of game time) in %.3f s: %.0f ticks/s%n",
+                ticks,
+                ticks * Globals.GAME_TICK_MS / 1000.0,
+                elapsedNanos / 1e9,
+                ticks / (elapsedNanos / 1e9));
+
+        for (String line : gameEngine.getTickProfiler().formatReport()) {
+            System.out.println(line);
+        }
+
+        long cacheHits = Tile.getBoundingBoxCacheHits();
+        long cacheRequests = cacheHits + Tile.getBoundingBoxCacheMisses();
+        System.out.printf("Tile bounding box cache: %d hits, %d requests (%.1f%% hit rate)%n",
+                cacheHits,
+                cacheRequests,
+                cacheRequests > 0 ? 100.0 * cacheHits / cacheRequests : 0.0);
+
+        printPoolStatistics("Bullet", gameEngine.getBulletPool());
+        printPoolStatistics("Blast", gameEngine.getBlastPool());
+    }
+
+    /**
+     * Prints how many of the objects acquired from a pool were created instead of reused.
+     *
+     * @param name Name of the pooled objects
+     * @param pool The pool
+     */
+    private static void printPoolStatistics(String name, ObjectPool<?> pool) {
+        System.out.printf("%s pool: %d acquired, %d created, %d free%n",
+                name,
+                pool.getAcquiredCount(),
+                pool.getCreatedCount(),
+                pool.getFreeCount());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import tank1990.tank.AbstractTank;
+
+/**
+ * @class AIScheduler
+ * @brief Computes the movement decisions of the enemy tanks in parallel.
+ * @details The path finding of every tank that moves in a tick is submitted to a single pool shared by all game
+ * engines, and the caller waits until all of them are finished. This wait is the barrier of the tick: decisions are
+ * computed from the state at the beginning of the movement phase, and applied afterward in the order of the
+ * enemies list on the game loop thread. Therefore, the outcome of a tick does not depend on the order in which the
+ * workers finish.
+ */
+public class AIScheduler {
+    private static final int PARALLEL_THRESHOLD = 2;  /**< Minimum number of tanks to use the pool for. */
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            pool -> {
+                ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                worker.setName("tank-ai-" + worker.getPoolIndex());
+                worker.setDaemon(true);
+                return worker;
+            },
+            null,
+            false);
+
+    private final ArrayList<Callable<Void>> tasks = new ArrayList<>();
+
+    private boolean isParallel = true;  /**< Whether the pool is used at all. */
+
+    /**
+     * Enables or disables planning in the pool. When many games are simulated at the same time, each game already
+     * keeps a core busy, and planning on the caller thread avoids waiting for the shared pool.
+     *
+     * @param isParallel true to plan the tanks in the pool, false to plan them on the caller thread
+     */
+    public void setParallel(boolean isParallel) {
+        this.isParallel = isParallel;
+    }
+
+    /**
+     * Decides the next move of the given tanks and waits until all decisions are made.
+     * This method must be called from the game loop, and the tanks must not be moved until it returns.
+     *
+     * @param tanks Tanks to plan
+     * @param level The current game level
+     */
+    public void planMoves(List<AbstractTank> tanks, GameLevel level) {
+        // Handing over a single tank to the pool costs more than planning it on the caller thread
+        if (!this.isParallel || tanks.size() < PARALLEL_THRESHOLD) {
+            for (AbstractTank tank : tanks) {
+                tank.planMove(level);
+            }
+            return;
+        }
+
+        this.tasks.clear();
+        for (AbstractTank tank : tanks) {
+            this.tasks.add(() -> {
+                tank.planMove(level);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> result : POOL.invokeAll(this.tasks)) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            // A failing decision only costs the movement of that tank in this tick
+            e.getCause().printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -32,8 +32,23 @@ import java.awt.Graphics;
  */
 public abstract class DynamicGameObject extends GameObject {
     /**
-     * Draws the dynamic game object on the provided graphics context.
+     * Records the dynamic game object into a frame, which is drawn later by the renderer.
+     * This method is called by the simulation thread, so it can read the state of the object freely.
+     * @param frame Frame to record the object into
+     */
+    public abstract void render(RenderFrame frame);
+
+    /**
+     * Draws the dynamic game object alone on the provided graphics context.
+     * The game engine does not use this method, it draws the frames recorded at the end of each tick instead.
      * @param g Graphics context to draw on
      */
-    public abstract void draw(Graphics g);
+    @Override
+    public void draw(Graphics g) {
+        RenderFrame frame = new RenderFrame();
+        frame.begin(-1, null);
+        render(frame);
+        frame.drawLowerLayers(g);
+        frame.drawUpperLayers(g);
+    }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @class EventBus
+ * @brief Delivers the events of the game engine to the observers subscribed to their types.
+ * @details Events raised during a tick are posted, and delivered together when the bus is flushed at the end of the tick.
+ * Events are delivered in the order they were posted, except that an event of a coalesced type is delivered once
+ * per tick, in the place it was first posted, with the data it was last posted with. Events raised outside a tick (e.g. by the UI or the save game worker) are published,
+ * and delivered immediately.
+ *
+ * An observer subscribed with an executor receives its events through the executor, so a slow observer, such as
+ * a Swing component, cannot stall the tick. If the observer has not handled the previous event of a coalesced type
+ * yet, the new data replaces the old one instead of queueing another delivery.
+ *
+ * Subscriptions are copy-on-write, so observers can subscribe and unsubscribe from any thread while events are
+ * delivered. Events must be posted and flushed on the game loop thread.
+ */
+public class EventBus {
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final EnumMap<EventType, List<Subscription>> subscriptionsByType = new EnumMap<>(EventType.class);
+
+    // Latest data of the coalesced events posted during the tick
+    private final boolean[] isPending = new boolean[EVENT_TYPES.length];
+    private final Object[] pendingData = new Object[EVENT_TYPES.length];
+
+    // Events posted during the tick in posting order, coalesced events only where they were first posted
+    private final List<PendingEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * Event waiting to be delivered at the end of the tick.
+     *
+     * @param event Type of the event
+     * @param data Data of the event
+     */
+    private record PendingEvent(EventType event, Object data) {}
+
+    public EventBus() {
+        for (EventType event : EVENT_TYPES) {
+            this.subscriptionsByType.put(event, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Subscribes an observer to events.
+     *
+     * @param observer The observer to subscribe
+     * @param executor Executor to deliver the events with, or null to deliver them on the thread raising them
+     * @param events Types of the events to deliver, all types if none is given
+     */
+    public void subscribe(Observer observer, Executor executor, EventType... events) {
+        Set<EventType> eventSet = events.length == 0 ? EnumSet.allOf(EventType.class) : EnumSet.of(events[0], events);
+
+        Subscription subscription = new Subscription(observer, executor, eventSet);
+        this.subscriptions.add(subscription);
+        for (EventType event : eventSet) {
+            this.subscriptionsByType.get(event).add(subscription);
+        }
+    }
+
+    /**
+     * Unsubscribes an observer from all events.
+     * Events already handed over to the executor of the observer are still delivered.
+     *
+     * @param observer The observer to unsubscribe
+     */
+    public void unsubscribe(Observer observer) {
+        this.subscriptions.removeIf(subscription -> subscription.observer == observer);
+        for (List<Subscription> subscriptionList : this.subscriptionsByType.values()) {
+            subscriptionList.removeIf(subscription -> subscription.observer == observer);
+        }
+    }
+
+    /**
+     * Posts an event raised during the tick. It is delivered when the bus is flushed.
+     * Nothing is stored if no observer is subscribed to the event type, e.g. in headless games.
+     *
+     * @param event Type of the event
+     * @param data Data of the event
+     */
+    public void post(EventType event, Object data) {
+        checkDataType(event, data);
+        if (this.subscriptionsByType.get(event).isEmpty()) return;
+
+        if (event.isCoalesced()) {
+            // Keep the place of the first post, its data is filled in with the latest one when the bus is flushed
+            if (!this.isPending[event.ordinal()]) {
+                this.isPending[event.ordinal()] = true;
+                this.pendingEvents.add(new PendingEvent(event, null));
+            }
+            this.pendingData[event.ordinal()] = data;
+        } else {
+            this.pendingEvents.add(new PendingEvent(event, data));
+        }
+    }
+
+    /**
+     * Delivers the events posted during the tick in posting order.
+     * An event of a coalesced type is delivered in the place it was first posted, with its latest data.
+     */
+    public void flush() {
+        if (this.pendingEvents.isEmpty()) return;
+
+        for (int i = 0; i < this.pendingEvents.size(); i++) {
+            EventType event = this.pendingEvents.get(i).event();
+            if (!event.isCoalesced()) continue;
+
+            int index = event.ordinal();
+            this.pendingEvents.set(i, new PendingEvent(event, this.pendingData[index]));
+            this.isPending[index] = false;
+            this.pendingData[index] = null;
+        }
+
+        for (Subscription subscription : this.subscriptions) {
+            subscription.deliverAll(this.pendingEvents);
+        }
+        this.pendingEvents.clear();
+    }
+
+    /**
+     * Delivers an event immediately to the observers subscribed to its type.
+     * Unlike posting, it can be called from any thread.
+     *
+     * @param event Type of the event
+     * @param data Data of the event
+     */
+    public void publish(EventType event, Object data) {
+        checkDataType(event, data);
+
+        for (Subscription subscription : this.subscriptionsByType.get(event)) {
+            subscription.deliver(event, data);
+        }
+    }
+
+    /**
+     * Checks that the data of an event has the data type of the event type.
+     *
+     * @param event Type of the event
+     * @param data Data of the event
+     * @throws IllegalArgumentException If the data is not of the data type of the event type
+     */
+    private static void checkDataType(EventType event, Object data) {
+        if (data != null && !event.getDataType().isInstance(data)) {
+            throw new IllegalArgumentException("Event " + event + " expects " + event.getDataType().getSimpleName() +
+                    " data, got " + data.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * @class Subscription
+     * @brief Subscription of an observer to a set of event types.
+     */
+    private static final class Subscription {
+        private static final Object NO_DATA = new Object();  // Marks a waiting event without data in a mailbox
+
+        private final Observer observer;
+        private final Executor executor;
+        private final Set<EventType> events;
+
+        // Latest data of the coalesced events waiting for the executor, null if none is waiting
+        private final AtomicReferenceArray<Object> mailboxes = new AtomicReferenceArray<>(EVENT_TYPES.length);
+
+        private Subscription(Observer observer, Executor executor, Set<EventType> events) {
+            this.observer = observer;
+            this.executor = executor;
+            this.events = events;
+        }
+
+        /**
+         * Delivers an event to the observer.
+         *
+         * @param event Type of the event
+         * @param data Data of the event
+         */
+        private void deliver(EventType event, Object data) {
+            if (this.executor == null) {
+                this.observer.eventFilter(event, data);
+            } else if (!event.isCoalesced()) {
+                this.executor.execute(() -> this.observer.eventFilter(event, data));
+            } else if (this.mailboxes.getAndSet(event.ordinal(), data == null ? NO_DATA : data) == null) {
+                // No delivery is waiting for the event type, so queue one. It takes the latest data when it runs.
+                this.executor.execute(() -> {
+                    Object latestData = this.mailboxes.getAndSet(event.ordinal(), null);
+                    this.observer.eventFilter(event, latestData == NO_DATA ? null : latestData);
+                });
+            }
+        }
+
+        /**
+         * Delivers the events of a tick which the observer is subscribed to.
+         * Through an executor, they are delivered together in a single task. A coalesced event whose delivery from
+         * an earlier task is still waiting is left out, the waiting delivery takes its data instead.
+         *
+         * @param pendingEvents Events of the tick in posting order
+         */
+        private void deliverAll(List<PendingEvent> pendingEvents) {
+            List<PendingEvent> batch = new ArrayList<>(pendingEvents.size());
+            for (PendingEvent pendingEvent : pendingEvents) {
+                EventType event = pendingEvent.event();
+                if (!this.events.contains(event)) continue;
+
+                if (this.executor != null && event.isCoalesced()) {
+                    Object data = pendingEvent.data() == null ? NO_DATA : pendingEvent.data();
+                    if (this.mailboxes.getAndSet(event.ordinal(), data) != null) continue;
+                }
+                batch.add(pendingEvent);
+            }
+            if (batch.isEmpty()) return;
+
+            if (this.executor == null) {
+                deliverBatch(batch);
+            } else {
+                this.executor.execute(() -> deliverBatch(batch));
+            }
+        }
+
+        /**
+         * Delivers events to the observer on the calling thread.
+         * Through an executor, coalesced events take their latest data from the mailboxes.
+         * @param batch Events to deliver
+         */
+        private void deliverBatch(List<PendingEvent> batch) {
+            for (PendingEvent pendingEvent : batch) {
+                EventType event = pendingEvent.event();
+                Object data = pendingEvent.data();
+                if (this.executor != null && event.isCoalesced()) {
+                    Object latestData = this.mailboxes.getAndSet(event.ordinal(), null);
+                    data = latestData == NO_DATA ? null : latestData;
+                }
+                this.observer.eventFilter(event, data);
+            }
+        }
+    }
+}
@@ -1,20 +1,52 @@
 package tank1990.core;
 
+import tank1990.powerup.PowerupType;
+import tank1990.tank.TankType;
+
 /**
  * @class EventType
  * @brief Enum representing different types of events in the game.
  * @details This enum is used to categorize events of GameEngine.
+ * Every event type has the type of its data, and whether the events of a tick are coalesced into the last one.
+ * Coalesced events describe a state, so only the latest one matters (e.g. repaint, game info). The other events
+ * describe something that happened, so each of them is delivered (e.g. tank destroyed, powerup collected).
  */
 public enum EventType {
-    NULL,
-    UPDATE,
-    REPAINT,
-    UPDATE_MAP,
-    PAUSED,
-    STARTED,
-    UPDATE_GAME_INFO,
-    NEXT_LEVEL,
-    GAMEOVER,
-    GAME_LOADED,
-    GAME_SAVED
+    NULL(Void.class, false),
+    UPDATE(Void.class, true),
+    REPAINT(Void.class, true),
+    UPDATE_MAP(Void.class, true),
+    PAUSED(Void.class, false),
+    STARTED(Void.class, false),
+    UPDATE_GAME_INFO(GameScoreStruct.class, true),
+    NEXT_LEVEL(GameScoreStruct.class, false),
+    GAMEOVER(GameScoreStruct.class, false),
+    GAME_LOADED(Void.class, false),
+    GAME_SAVED(String.class, false),
+    ENEMY_DESTROYED(TankType.class, false),
+    POWERUP_COLLECTED(PowerupType.class, false);
+
+    private final Class<?> dataType;
+    private final boolean coalesced;
+
+    EventType(Class<?> dataType, boolean coalesced) {
+        this.dataType = dataType;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Gets the type of the data of the event. Events without data have Void type, and their data is null.
+     * @return Type of the event data
+     */
+    public Class<?> getDataType() {
+        return this.dataType;
+    }
+
+    /**
+     * Checks whether the events of this type raised during a tick are coalesced into the last one.
+     * @return true if only the latest event of the tick is delivered, false if all of them are delivered
+     */
+    public boolean isCoalesced() {
+        return this.coalesced;
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import tank1990.tile.Tile;
+import tank1990.tile.TileType;
+
+/**
+ * @class FlowField
+ * @brief Distance map from every tile of the level to a target tile.
+ * @details The field is computed with a single Dijkstra run that starts from the target, where moving into a tile
+ * costs TileType.getCost() of that tile. After that, the shortest path from any tile is found by following the
+ * neighbor with the lowest distance, so tanks can read their next move in constant time instead of running path
+ * finding on their own. The field only depends on the tiles and the target, so it is recomputed only when one of
+ * them changes.
+ */
+public class FlowField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;  /**< Distance of the tiles which cannot reach the target. */
+
+    // Neighbor offsets in the order of Direction values (upwards, right, downwards, left)
+    private static final int[] NEIGHBOR_ROWS = {-1, 0, 1, 0};
+    private static final int[] NEIGHBOR_COLS = {0, 1, 0, -1};
+
+    private final int rowCount;
+    private final int colCount;
+    private final int[] distances;   /**< Path cost from each tile to the target. */
+    private final int[] costs;       /**< Cost of moving into each tile, or UNREACHABLE if the tile is not passable. */
+
+    private final long[] heap;       /**< Priority queue entries encoded as (distance << 32 | tile index). */
+    private int heapSize = 0;
+
+    private GridLocation target = null;
+    private int mapVersion = -1;
+
+    /**
+     * Constructs an empty FlowField. All tiles are unreachable until the field is computed.
+     *
+     * @param rowCount Number of tile rows of the level
+     * @param colCount Number of tile columns of the level
+     */
+    public FlowField(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.distances = new int[rowCount * colCount];
+        this.costs = new int[rowCount * colCount];
+        // Each tile can be queued once per each of its four neighbors
+        this.heap = new long[rowCount * colCount * 4 + 1];
+
+        Arrays.fill(this.distances, UNREACHABLE);
+    }
+
+    /**
+     * Recomputes the field if the target or the tiles have changed since the last computation.
+     *
+     * @param map Tiles of the level
+     * @param mapVersion Version of the tiles. It must change whenever a tile is placed or removed.
+     * @param target Target tile, or null if there is no target
+     */
+    public void update(Tile[][] map, int mapVersion, GridLocation target) {
+        if (this.mapVersion == mapVersion && (target == null ? this.target == null : target.equals(this.target))) return;
+
+        this.mapVersion = mapVersion;
+        this.target = target;
+        compute(map);
+    }
+
+    /**
+     * Gets the path cost from the given tile to the target.
+     *
+     * @param row Row index of the tile
+     * @param col Column index of the tile
+     * @return Path cost, or UNREACHABLE if there is no path to the target
+     */
+    public int getDistance(int row, int col) {
+        if (row < 0 || row >= this.rowCount || col < 0 || col >= this.colCount) return UNREACHABLE;
+        return this.distances[row * this.colCount + col];
+    }
+
+    /**
+     * Gets the path cost from the given tile to the target.
+     *
+     * @param gloc Location of the tile
+     * @return Path cost, or UNREACHABLE if there is no path to the target
+     */
+    public int getDistance(GridLocation gloc) {
+        return getDistance(gloc.rowIndex(), gloc.colIndex());
+    }
+
+    /**
+     * Finds the first tile on the shortest path from the start tile to the target.
+     *
+     * @param start Start tile
+     * @param isBlocked Returns true for the tiles which cannot be entered at the moment (e.g. occupied by a tank)
+     * @return The next tile, or null if the start is the target or no neighbor leads to the target
+     */
+    public GridLocation getNextMove(GridLocation start, Predicate<GridLocation> isBlocked) {
+        if (start == null || start.equals(this.target)) return null;
+
+        GridLocation bestMove = null;
+        long bestDistance = UNREACHABLE;
+
+        for (int i = 0; i < NEIGHBOR_ROWS.length; i++) {
+            int row = start.rowIndex() + NEIGHBOR_ROWS[i];
+            int col = start.colIndex() + NEIGHBOR_COLS[i];
+
+            int distance = getDistance(row, col);
+            if (distance == UNREACHABLE) continue;
+
+            // Total cost of the path is the distance of the neighbor plus the cost of moving into the neighbor
+            long pathDistance = (long) distance + this.costs[row * this.colCount + col];
+            if (pathDistance >= bestDistance) continue;
+
+            GridLocation neighbor = new GridLocation(row, col);
+            if (isBlocked.test(neighbor)) continue;
+
+            bestDistance = pathDistance;
+            bestMove = neighbor;
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * Runs Dijkstra from the target over the passable tiles.
+     *
+     * @param map Tiles of the level
+     */
+    private void compute(Tile[][] map) {
+        Arrays.fill(this.distances, UNREACHABLE);
+
+        for (int row = 0; row < this.rowCount; row++) {
+            for (int col = 0; col < this.colCount; col++) {
+                Tile t = map[row][col];
+                if (t == null) this.costs[row * this.colCount + col] = 1;
+                else if (!TileType.isPassable(t.getType())) this.costs[row * this.colCount + col] = UNREACHABLE;
+                else this.costs[row * this.colCount + col] = TileType.getCost(t.getType());
+            }
+        }
+
+        if (this.target == null) return;
+
+        int targetIndex = this.target.rowIndex() * this.colCount + this.target.colIndex();
+        if (this.costs[targetIndex] == UNREACHABLE) return;
+
+        this.heapSize = 0;
+        this.distances[targetIndex] = 0;
+        push(0, targetIndex);
+
+        while (this.heapSize > 0) {
+            long entry = pop();
+            int distance = (int) (entry >>> 32);
+            int index = (int) entry;
+
+            if (distance > this.distances[index]) continue;  // Stale entry
+
+            // A tank on a neighbor has to move into the current tile to follow the path
+            int newDistance = distance + this.costs[index];
+            int row = index / this.colCount;
+            int col = index % this.colCount;
+
+            for (int i = 0; i < NEIGHBOR_ROWS.length; i++) {
+                int nRow = row + NEIGHBOR_ROWS[i];
+                int nCol = col + NEIGHBOR_COLS[i];
+                if (nRow < 0 || nRow >= this.rowCount || nCol < 0 || nCol >= this.colCount) continue;
+
+                int nIndex = nRow * this.colCount + nCol;
+                if (this.costs[nIndex] == UNREACHABLE) continue;
+
+                if (newDistance < this.distances[nIndex]) {
+                    this.distances[nIndex] = newDistance;
+                    push(newDistance, nIndex);
+                }
+            }
+        }
+    }
+
+    private void push(int distance, int index) {
+        long entry = ((long) distance << 32) | index;
+        int i = this.heapSize++;
+
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (this.heap[parent] <= entry) break;
+            this.heap[i] = this.heap[parent];
+            i = parent;
+        }
+        this.heap[i] = entry;
+    }
+
+    private long pop() {
+        long top = this.heap[0];
+        long last = this.heap[--this.heapSize];
+
+        int i = 0;
+        int half = this.heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < this.heapSize && this.heap[child + 1] < this.heap[child]) child++;
+            if (last <= this.heap[child]) break;
+            this.heap[i] = this.heap[child];
+            i = child;
+        }
+        this.heap[i] = last;
+        return top;
+    }
+}
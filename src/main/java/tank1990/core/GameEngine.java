@@ -31,13 +31,19 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import tank1990.panels.GameAreaPanel;
 import tank1990.player.Player;
+import tank1990.player.PlayerAction;
+import tank1990.player.PlayerInput;
 import tank1990.player.PlayerType;
 import tank1990.powerup.AbstractPowerup;
 import tank1990.projectiles.Blast;
 import tank1990.projectiles.Bullet;
+import tank1990.projectiles.BulletStore;
 import tank1990.projectiles.BulletType;
 import tank1990.tank.AbstractTank;
 import tank1990.tank.Enemy;
@@ -48,6 +54,8 @@ import tank1990.tile.Tile;
  * @brief The main game engine that manages the game state, updates game objects, and handles game logic.
  * @details This class is responsible for managing players, enemies, powerups, bullets, and other game objects.
  * It also handles the game loop and updates the game state periodically.
+ * The game state is updated on the thread of the game loop. Other threads (e.g. Swing event dispatch thread) must
+ * not modify game objects directly; they queue player actions and draw the last published render frame instead.
  */
 public class GameEngine extends Subject {
     private GameAreaPanel parentPanel = null;
@@ -56,20 +64,93 @@ public class GameEngine extends Subject {
     private ArrayList<Player> players = null;       /*< List of zombies in the game. */
     private ArrayList<Enemy> enemies = null;        /*< List of enemies in the game. */
     private ArrayList<AbstractPowerup> powerups = null;     /*< List of powerups in the game. */
-    private ArrayList<Blast> blastFXs = null;    /*< List of blast effects in the game. */
-    private ArrayList<Bullet> bullets = null;       /*< List of bullets in the game. */
+    private final SwapRemoveList<Blast> blastFXs;   /*< List of blast effects in the game. */
+    private final SwapRemoveList<Bullet> bullets;   /*< List of bullets in the game. */
+
+    // Bullets and blasts are reused, so that a fight does not allocate them in every tick
+    private final ObjectPool<Bullet> bulletPool = new ObjectPool<>(
+            () -> new Bullet(null, 0, 0, Direction.DIRECTION_UPWARDS, Globals.BULLET_SPEED_PER_TICK), Globals.PROJECTILE_POOL_SIZE);
+    private final ObjectPool<Blast> blastPool = new ObjectPool<>(() -> new Blast(0, 0), Globals.PROJECTILE_POOL_SIZE);
+
+    // Bullets of game modes with thousands of bullets, kept as arrays instead of objects
+    private final BulletStore bulletStore;
+    private final Bullet bulletProbe = new Bullet(null, 0, 0, Direction.DIRECTION_UPWARDS, Globals.BULLET_SPEED_PER_TICK);  /*< Passes store bullets to tiles. */
+    private final BulletStore.TileHitHandler tileHitHandler = this::hitTile;
+
+    // Collision broad-phase
+    private SpatialGrid<AbstractTank> tankGrid;                  /*< Player and enemy tanks bucketed by grid cell. */
+    private SpatialGrid<Bullet> bulletGrid;                      /*< Bullets bucketed by grid cell. */
+    private SpatialGrid<AbstractPowerup> powerupGrid;            /*< Powerups bucketed by grid cell. */
+    private final ArrayList<AbstractTank> nearbyTanks = new ArrayList<>();      /*< Reused result of tank queries. */
+    private final ArrayList<Bullet> nearbyBullets = new ArrayList<>();          /*< Reused result of bullet queries. */
+    private final SweptCollision sweptCollision = new SweptCollision();        /*< Finds the tiles along the movement of a bullet. */
+    private final Rectangle bulletStart = new Rectangle();                     /*< Reused bounds of a bullet before its movement. */
+    private final Rectangle otherBulletStart = new Rectangle();                /*< Reused bounds of another bullet before its movement. */
+    private final Rectangle bulletArea = new Rectangle();                      /*< Reused area covered by a bullet during its movement. */
+    private OccupancyMap occupancyMap;                                          /*< Number of tanks on each tile. */
+    private GridTransform spatialGridTransform = null;                          /*< Cells of the collision grids. */
+    private final ArrayList<AbstractTank> blockingTanks = new ArrayList<>();    /*< Reused result of tank movement queries. */
+
+    // Enemy AI
+    private final AIScheduler aiScheduler = new AIScheduler();              /*< Computes enemy movement decisions in parallel. */
+    private final ArrayList<AbstractTank> movingEnemies = new ArrayList<>(); /*< Enemies that move in the current tick. */
 
     // Game parameters
     private boolean isStopped = false;
     private boolean isPaused = false;               /*< Flag indicating whether the game is paused. */
+    private boolean isEagleDestroyed = false;       /*< Flag indicating whether the game is lost by the eagle. */
+    private boolean isLogging = true;               /*< Flag indicating whether the events of the game are printed. */
 
-    private Timer gameTimer;                        /*< Timer for handling periodic updates. */
+    private final GameLoop gameLoop;                /*< Fixed timestep loop for handling periodic updates. */
+    private final TickProfiler tickProfiler = new TickProfiler();  /*< Measures the phases of the ticks and painting. */
+
+    private final Queue<PlayerInput> pendingInputs = new ConcurrentLinkedQueue<>();  /*< Player actions waiting for the next tick. */
+    private final RenderBuffer renderBuffer = new RenderBuffer();                   /*< Frames of the game objects published for rendering. */
+    private final TileLayerCache[] layerCaches = {new TileLayerCache(0), new TileLayerCache(1)};  /*< Pre-rendered map layers (ground and trees), only used for painting. */
+
+    // Saving
+    private final SaveGameWorker saveGameWorker = new SaveGameWorker();  /*< Writes save games in the background. */
+    private volatile boolean isSaveRequested = false;                    /*< Save the game at the end of the next tick. */
+    private int autosaveIntervalTicks = 0;                               /*< Ticks between autosaves, 0 if disabled. */
+    private long nextAutosaveTick = 0;                                   /*< Tick count of the next autosave. */
 
     private GameMode gameMode = GameMode.MODE_SINGLE_PLAYER;
+    private GameLevelManager gameLevelManager;     /*< Levels, scores and lives of the game session. */
     private GameLevel currentGameLevel = null;
 
+    private final long seed;            /*< Seed of the random number generator of the game session. */
+    private final GameRandom random;    /*< Source of all random decisions of the simulation. */
+    private long tickCount = 0;         /*< Number of simulated ticks, whether they are run by the game loop or not. */
+
+    // Replays
+    private ReplayRecorder replayRecorder = null;   /*< Records the applied player inputs, if the session is recorded. */
+    private ReplayPlayer replayPlayer = null;       /*< Source of the player inputs, if the session is a replay. */
+
+    /**
+     * Creates a game engine with a random seed.
+     *
+     * @param gameMode The game mode
+     */
     public GameEngine(GameMode gameMode) {
+        this(gameMode, System.nanoTime());
+    }
+
+    /**
+     * Creates a game engine whose random decisions are drawn from the given seed.
+     * Games started with the same seed and the same player inputs are reproduced exactly.
+     *
+     * @param gameMode The game mode
+     * @param seed Seed of the random number generator
+     */
+    public GameEngine(GameMode gameMode, long seed) {
         this.gameMode = gameMode;
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+
+        // Every game engine has its own levels, so that several games can be played side by side
+        this.gameLevelManager = new GameLevelManager();
+        this.gameLevelManager.setGameEngine(this);
+        this.gameLevelManager.addPredefinedGameLevels();
 
         this.players = new ArrayList<>();
 
@@ -81,25 +162,23 @@ public class GameEngine extends Subject {
             players.add(new Player(PlayerType.PLAYER_2));
         }
 
-        // Game level manager stores the players lives even if game engine is created again.
         for (Player player : players) {
-            player.setRemainingLives(GameLevelManager.getInstance().getPlayerLives(player.getPlayerType()));
+            player.setRemainingLives(this.gameLevelManager.getPlayerLives(player.getPlayerType()));
         }
 
         // Initialize other game objects
         this.enemies = new ArrayList<>();
         this.powerups = new ArrayList<>();
-        this.blastFXs = new ArrayList<>();
-        this.bullets = new ArrayList<>();
+        this.blastFXs = new SwapRemoveList<>();
+        this.bullets = new SwapRemoveList<>();
 
-        // Sets the game engine instance to the GameLevelManager.
-        // I know this is ugly but only solution to ensure game levels can access game objects
-        GameLevelManager.getInstance().setGameEngine(this);
-        GameLevelManager.getInstance().addPredefinedGameLevels();
+        // Initialize collision grids. Cells of the grids are same as the tiles of the game level.
+        Dimension gameAreaSize = Utils.getGameAreaDimension();
+        this.bulletStore = new BulletStore(gameAreaSize);
+        createSpatialGrids(GridTransform.forGameArea(gameAreaSize));
 
-        // Initialize game timer
-        gameTimer = new Timer(Globals.GAME_TICK_MS, e -> this.update());
-        gameTimer.setRepeats(true);
+        // Initialize game loop
+        gameLoop = new GameLoop(this::update, Globals.GAME_TICK_MS);
     }
 
     /**
@@ -109,76 +188,311 @@ public class GameEngine extends Subject {
      * @param g The Graphics object used to render the game area.
      */
     public void paintComponent(Graphics g) {
-        // Draw map [Layer - 0]
-        GameLevel gameLevel = GameLevelManager.getInstance().getCurrentLevel();
-        if (gameLevel!=null) gameLevel.draw(g, 0);
-        
-        // Draw player(s) [Layer - 1]
-        for (Player p: this.players) {
-            p.draw(g);
-        }
+        this.tickProfiler.beginPaint();
 
-        // Draw enemies [Layer - 2]
-        for (Enemy e : this.enemies) {
-            AbstractTank t = (AbstractTank) e;
-            t.draw(g);
-        }
+        // Draw the objects of the last completed tick
+        RenderFrame frame = this.renderBuffer.acquireFront();
 
-        // Draw bullets [Layer - 3]
-        for (Bullet b : this.bullets) {
-            if (b == null) continue;
-            b.draw(g);
-        }
+        // Game objects are drawn in map coordinates, the camera selects the part of the map shown in the game area
+        Graphics mapGraphics = g.create();
+        mapGraphics.translate(-frame.getCameraX(), -frame.getCameraY());
 
-        // Draw higher layers of game map (trees etc.)
-        if (gameLevel!=null) gameLevel.draw(g, 1);
+        // Map is drawn from the snapshot of its tiles, so the game level is never read while the tick changes it
+        TileSnapshot tiles = frame.getTiles();
 
-        // Draw blast animations [Layer - 5]
-        for (Blast blastFX : this.blastFXs) {
-            blastFX.draw(g);
-        }
+        // Draw map [Layer - 0]
+        if (tiles!=null) this.layerCaches[0].draw(mapGraphics, tiles);
 
-        // Draw powerups [Layer - 6]
-        for (AbstractPowerup p : this.powerups) {
-            if (p == null) continue;
-            p.draw(g);
-        }
+        // Draw animated tiles, player(s), enemies and bullets [Layer - 0, 1, 2, 3]
+        frame.drawLowerLayers(mapGraphics);
 
+        // Draw higher layers of game map (trees etc.)
+        if (tiles!=null) this.layerCaches[1].draw(mapGraphics, tiles);
+
+        // Draw blast animations and powerups [Layer - 5, 6]
+        frame.drawUpperLayers(mapGraphics);
+
+        mapGraphics.dispose();
+        this.tickProfiler.endPaint();
     }
 
     /**
      * Updates all game objects, and notify the panel to draw them accordingly.
-     * This method is called periodically to update all the game objects and check for collisions.
+     * This method is called periodically by the game loop to update all the game objects and check for collisions.
+     * It can also be called directly to step the simulation manually, as long as the game loop is not running.
      */
     public void update() {
+        // A replay ends at its last recorded tick
+        if (this.replayPlayer!=null && this.replayPlayer.isFinished(this.tickCount)) {
+            stop();
+            return;
+        }
+
+        this.tickCount++;
+        this.tickProfiler.beginTick();
+
         // Update map
-        GameLevel gameLevel = GameLevelManager.getInstance().getCurrentLevel();
+        GameLevel gameLevel = this.gameLevelManager.getCurrentLevel();
+
+        // Apply player actions received since the last tick
+        processPlayerInputs();
+        this.tickProfiler.endPhase(TickPhase.INPUTS);
 
         // Update game level
         updateGameLevel();
+        this.tickProfiler.endPhase(TickPhase.GAME_LEVEL);
 
         // Update players
         updatePlayers(gameLevel);
+        this.tickProfiler.endPhase(TickPhase.PLAYERS);
 
         // Update enemies movement
         updateEnemies(gameLevel);
+        this.tickProfiler.endPhase(TickPhase.ENEMIES);
 
         // Update projectiles movement
         updateProjectiles(gameLevel);
+        this.tickProfiler.endPhase(TickPhase.PROJECTILES);
 
         // Update projectiles movement
         updatePowerups(gameLevel);
+        this.tickProfiler.endPhase(TickPhase.POWERUPS);
 
         // Check collisions
         checkCollisions(gameLevel);
+        this.tickProfiler.endPhase(TickPhase.COLLISIONS);
+
+        // Update Visual FXs
+        updateBlasts();
+        this.tickProfiler.endPhase(TickPhase.BLASTS);
 
         // Update Game Info
         updateGameInfo();
 
-        // Update Visual FXs
-        updateBlasts();
+        // Publish game objects for rendering. There is no need to do it if nothing renders them.
+        if (this.parentPanel!=null) publishFrame();
+
+        // Save the game at the tick boundary, where the game objects are consistent
+        updateSaves();
+
+        post(EventType.REPAINT, null);  // Notify observers to repaint event
+        flushEvents();  // Deliver the events of the tick
+        this.tickProfiler.endPhase(TickPhase.PUBLISH);
+
+        this.tickProfiler.setEntityCounts(this.players.size(), this.enemies.size(), this.bullets.size() + this.bulletStore.size(), this.powerups.size(), this.blastFXs.size());
+        this.tickProfiler.endTick(this.tickCount);
+    }
+
+    /**
+     * Records the game objects into the back frame of the render buffer, and publishes the frame for the renderer.
+     * The renderer reads only the published frames, so the game objects can be updated without locking them.
+     */
+    void publishFrame() {
+        GameLevel gameLevel = this.gameLevelManager.getCurrentLevel();
+        RenderFrame frame = this.renderBuffer.beginFrame(this.tickCount, gameLevel);
+        if (gameLevel != null) {
+            updateCamera(frame, gameLevel);
+
+            // Map [Layer - 0]
+            frame.setTiles(gameLevel.getTileSnapshot());
+            gameLevel.renderAnimatedTiles(frame);
+        }
+
+        // Player(s) [Layer - 1]
+        for (Player p : this.players) {
+            p.render(frame);
+        }
+
+        // Enemies [Layer - 2]
+        for (Enemy e : this.enemies) {
+            ((AbstractTank) e).render(frame);
+        }
+
+        // Bullets [Layer - 3]
+        for (Bullet b : this.bullets) {
+            b.render(frame);
+        }
+        this.bulletStore.render(frame);
+
+        // Blast animations [Layer - 5]
+        frame.beginUpperLayers();
+        for (Blast blastFX : this.blastFXs) {
+            blastFX.render(frame);
+        }
+
+        // Powerups [Layer - 6]
+        for (AbstractPowerup p : this.powerups) {
+            p.render(frame);
+        }
+
+        this.renderBuffer.publish();
+    }
+
+    /**
+     * Moves the camera of a frame to follow the first player on a map which is larger than the game area.
+     * The camera is centered on the tank of the player, and stops at the borders of the map.
+     *
+     * @param frame The frame to set the camera of
+     * @param gameLevel The current game level
+     */
+    private void updateCamera(RenderFrame frame, GameLevel gameLevel) {
+        GridTransform transform = gameLevel.getGridTransform();
+        Dimension viewSize = gameLevel.getGameAreaSize();
+        int maxX = transform.getWidth() - viewSize.width;
+        int maxY = transform.getHeight() - viewSize.height;
+        if (maxX <= 0 && maxY <= 0) return;  // Whole map is visible
+
+        AbstractTank tank = this.players.isEmpty() ? null : this.players.get(0).getTank();
+        if (tank == null) return;
+
+        int x = Math.max(0, Math.min(tank.getX() - viewSize.width / 2, maxX));
+        int y = Math.max(0, Math.min(tank.getY() - viewSize.height / 2, maxY));
+        frame.setCamera(x, y);
+    }
 
-        notify(EventType.REPAINT, null);  // Notify observers to repaint event
+    /**
+     * Queues an action of a player. Queued actions are applied at the beginning of the next tick.
+     * This method is safe to call from any thread. Actions are ignored while a replay is played.
+     *
+     * @param playerType The player who issued the action
+     * @param action The action to apply
+     */
+    public void queuePlayerAction(PlayerType playerType, PlayerAction action) {
+        if (this.replayPlayer!=null) return;
+
+        this.pendingInputs.add(new PlayerInput(playerType, action));
+    }
+
+    /**
+     * Applies the queued player actions to the players.
+     * If the session is recorded, the actions are recorded together with the current tick.
+     */
+    private void processPlayerInputs() {
+        if (this.replayPlayer!=null) this.replayPlayer.queueInputs(this.tickCount, this.pendingInputs);
+
+        PlayerInput input;
+        while ((input = this.pendingInputs.poll()) != null) {
+            recordPlayerInput(input);
+
+            Player player = input.playerType()==PlayerType.PLAYER_1 ? getPlayer1() : getPlayer2();
+            if (player==null || player.getPlayerType()!=input.playerType()) continue;
+
+            switch (input.action()) {
+                case MOVE_UP -> player.decrementDy();
+                case MOVE_RIGHT -> player.incrementDx();
+                case MOVE_DOWN -> player.incrementDy();
+                case MOVE_LEFT -> player.decrementDx();
+                case STOP_HORIZONTAL -> player.resetDx();
+                case STOP_VERTICAL -> player.resetDy();
+                case SHOOT -> triggerPlayerShooting(player);
+            }
+        }
+
+        if (this.replayRecorder!=null) {
+            try {
+                this.replayRecorder.flush();
+            } catch (IOException e) {
+                System.err.println("Failed to record replay: " + e.getMessage());
+                e.printStackTrace();
+                this.replayRecorder = null;
+            }
+        }
+    }
+
+    /**
+     * Records a player action applied in the current tick, if the session is recorded.
+     *
+     * @param input The applied player action
+     */
+    private void recordPlayerInput(PlayerInput input) {
+        if (this.replayRecorder==null) return;
+
+        try {
+            this.replayRecorder.record(this.tickCount, input);
+        } catch (IOException e) {
+            System.err.println("Failed to record replay: " + e.getMessage());
+            e.printStackTrace();
+            this.replayRecorder = null;
+        }
+    }
+
+    /**
+     * Starts recording the session to a replay file. Recording must start before the first tick of a new game,
+     * since a replay is played from the beginning of the game.
+     *
+     * @param file The replay file to write
+     * @throws IOException If the replay file cannot be created
+     */
+    public void startRecording(File file) throws IOException {
+        stopRecording();
+
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null) directory.mkdirs();
+
+        this.replayRecorder = new ReplayRecorder(new FileOutputStream(file), this.gameMode, this.seed);
+        System.out.println("Recording replay to: " + file.getAbsolutePath());
+    }
+
+    /**
+     * Stops recording the session, and completes the replay file at the current tick.
+     * The game loop is stopped first, so that the session does not go on without being recorded.
+     */
+    public void stopRecording() {
+        if (this.replayRecorder==null) return;
+
+        this.gameLoop.stop();
+
+        try (ReplayRecorder recorder = this.replayRecorder) {
+            recorder.recordEnd(this.tickCount);
+        } catch (IOException e) {
+            System.err.println("Failed to record replay: " + e.getMessage());
+            e.printStackTrace();
+        }
+        this.replayRecorder = null;
+    }
+
+    /**
+     * Sets the replay which provides the player actions instead of the players. See ReplayPlayer.createEngine().
+     *
+     * @param replayPlayer The replay to play
+     */
+    void setReplayPlayer(ReplayPlayer replayPlayer) {
+        this.replayPlayer = replayPlayer;
+    }
+
+    /**
+     * Closes the replay file when the replay is no longer played. The game loop is stopped first, since it reads the
+     * replay. The engine is still a replay engine afterward, but it cannot be started again.
+     */
+    public void closeReplay() {
+        if (this.replayPlayer==null) return;
+
+        this.gameLoop.stop();
+
+        try {
+            this.replayPlayer.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close replay: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Checks if the game engine plays a replay.
+     *
+     * @return true if the player actions are taken from a replay, false otherwise.
+     */
+    public boolean isReplay() {
+        return this.replayPlayer!=null;
+    }
+
+    /**
+     * Sets how many times faster than real time the game loop runs, e.g. for fast-forwarding a replay.
+     *
+     * @param speed Number of ticks to run in the real time of a tick, at least 1.
+     */
+    public void setPlaybackSpeed(int speed) {
+        this.gameLoop.setSpeed(speed);
     }
 
     /**
@@ -196,7 +510,7 @@ public class GameEngine extends Subject {
      * @return Current game level
      */
     public GameLevel getCurrentLevel() {
-        return GameLevelManager.getInstance().getCurrentLevel();
+        return this.gameLevelManager.getCurrentLevel();
     }
 
     /**
@@ -205,7 +519,25 @@ public class GameEngine extends Subject {
      * @return Index of the current game level
      */
     public int getCurrentLevelIndex() {
-        return GameLevelManager.getInstance().getCurrentIndex();
+        return this.gameLevelManager.getCurrentIndex();
+    }
+
+    /**
+     * Gets the profiler which measures the phases of the ticks and painting.
+     *
+     * @return The tick profiler of this game engine
+     */
+    public TickProfiler getTickProfiler() {
+        return this.tickProfiler;
+    }
+
+    /**
+     * Gets the game level manager which holds the levels, the score and the lives of the game session.
+     *
+     * @return The game level manager of this game engine
+     */
+    public GameLevelManager getGameLevelManager() {
+        return this.gameLevelManager;
     }
 
     /**
@@ -235,6 +567,14 @@ public class GameEngine extends Subject {
         return this.isStopped;
     }
 
+    /**
+     * Checks if the eagle is destroyed, which ends the game.
+     * @return true if the eagle is destroyed, false otherwise.
+     */
+    public boolean isEagleDestroyed() {
+        return this.isEagleDestroyed;
+    }
+
     /**
      * Checks if the game is paused.
      * @return true if the game is paused, false otherwise.
@@ -243,91 +583,200 @@ public class GameEngine extends Subject {
         return this.isPaused;
     }
 
+    /**
+     * Gets the seed of the random number generator of the game session.
+     * @return Seed of the game session.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the random number generator of the game session.
+     * It must only be used from the game loop.
+     * @return Random number generator of the game session.
+     */
+    public GameRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Gets the number of simulated ticks, including the ones stepped without the game loop.
+     * @return Number of simulated ticks.
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * Sets whether the game loop runs ticks as fast as possible instead of in real time.
+     * This is mainly useful for headless simulations where nothing is rendered.
+     *
+     * @param isUnbounded true to run as fast as possible, false to run in real time.
+     */
+    public void setUnboundedTickRate(boolean isUnbounded) {
+        this.gameLoop.setUnbounded(isUnbounded);
+    }
+
     /**
      * Saves game objects and saves to default save location.
+     * If the game loop is running, the game is saved at the end of the current tick. Otherwise, it is saved
+     * immediately. In both cases, the file is written in the background and GAME_SAVED event is raised afterward.
+     * This method is safe to call from any thread.
      */
     public void saveGame() {
-        SwingUtilities.invokeLater(() -> {
-            // Create saves directory if it doesn't exist
-            File savesDir = new File(Globals.DEFAULT_SAVE_LOCATION);
-            if (!savesDir.exists()) {
-                savesDir.mkdirs();
-            }
+        if (this.gameLoop.isRunning()) {
+            this.isSaveRequested = true;
+            return;
+        }
+
+        captureSave(createSaveFilename());
+    }
+
+    /**
+     * Generates a filename for a save game with the current timestamp.
+     *
+     * @return Filename of the save game.
+     */
+    private static String createSaveFilename() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmm");
+        String formattedDatetime = LocalDateTime.now().format(formatter);
+        return formattedDatetime + ".dat";
+    }
+
+    /**
+     * Enables or disables parallel path finding of the enemy tanks. It is enabled by default, and should be disabled
+     * when several game engines are run at the same time.
+     *
+     * @param isParallel true to plan the enemy moves in parallel, false to plan them on the game loop thread.
+     */
+    public void setParallelPlanning(boolean isParallel) {
+        this.aiScheduler.setParallel(isParallel);
+    }
+
+    /**
+     * Enables or disables printing the events of the game, such as spawned tanks and expired powerups, to the
+     * standard output. It is enabled by default, and should be disabled when several game engines are run at the
+     * same time, since the standard output is shared by them.
+     *
+     * @param isLogging true to print the events of the game, false to drop them.
+     */
+    public void setLogging(boolean isLogging) {
+        this.isLogging = isLogging;
+    }
 
-            // Generate filename with timestamp
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmm");
-            String formattedDatetime = LocalDateTime.now().format(formatter);
-            String defaultFilename = formattedDatetime + ".dat";
+    /**
+     * Prints an event of the game to the standard output, unless logging is disabled.
+     *
+     * @param message The message describing the event.
+     */
+    void log(String message) {
+        if (this.isLogging) System.out.println(message);
+    }
 
-            File fileToSave = new File(savesDir, defaultFilename);
+    /**
+     * Sets the period of autosaves. Autosaves are written to the same file in default save location while the game
+     * loop is running.
+     *
+     * @param intervalMs Period of autosaves in milliseconds, 0 to disable autosaves.
+     */
+    public void setAutosaveInterval(int intervalMs) {
+        this.autosaveIntervalTicks = Math.max(0, Utils.Time2GameTick(intervalMs));
+        this.nextAutosaveTick = this.tickCount + this.autosaveIntervalTicks;
+    }
 
-            // Save content to the file
-            try (FileOutputStream savedFile = new FileOutputStream(fileToSave);
-                 ObjectOutputStream os = new ObjectOutputStream(savedFile)) {
+    /**
+     * Saves the game if it is requested, or an autosave is due.
+     * This method must be called at the end of a tick.
+     */
+    private void updateSaves() {
+        if (this.isSaveRequested) {
+            this.isSaveRequested = false;
+            captureSave(createSaveFilename());
+        }
 
-                serializeGameObjects(os);
+        if (this.autosaveIntervalTicks > 0 && this.tickCount >= this.nextAutosaveTick) {
+            this.nextAutosaveTick = this.tickCount + this.autosaveIntervalTicks;
+            captureSave(Globals.AUTOSAVE_FILENAME);
+        }
+    }
 
-                notify(EventType.GAME_SAVED, fileToSave.getAbsolutePath());  // Notify observers to repaint event
-                System.out.println("Game saved to: " + fileToSave.getAbsolutePath());
+    /**
+     * Encodes the game objects into memory, and hands them over to the save game worker to write them to a file
+     * in default save location.
+     * Encoding takes a fraction of a tick, so the game objects are captured without stopping the game loop.
+     *
+     * @param filename Name of the file to save.
+     */
+    private void captureSave(String filename) {
+        File fileToSave = new File(Globals.DEFAULT_SAVE_LOCATION, filename);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (SaveGameWriter writer = new SaveGameWriter(buffer)) {
+            writeGameObjects(writer);
+        } catch (IOException e) {
+            System.err.println("Failed to save game: " + e.getMessage());
+            e.printStackTrace();
+            return;
+        }
 
-            } catch (IOException e) {
-                System.err.println("Failed to save game: " + e.getMessage());
-                e.printStackTrace();
-            }
+        this.saveGameWorker.submit(buffer.toByteArray(), fileToSave, savedFile -> {
+            notify(EventType.GAME_SAVED, savedFile.getAbsolutePath());  // Notify observers to repaint event
+            System.out.println("Game saved to: " + savedFile.getAbsolutePath());
         });
     }
 
     /**
-     * Serializes the game objects to the specified output stream.
+     * Writes the game objects to the specified save game writer.
      *
-     * @param os The output stream to write the serialized game objects to.
+     * @param writer The save game writer to write the game objects to.
      * @throws IOException If an I/O error occurs while writing to the output stream.
      */
-    private void serializeGameObjects(ObjectOutputStream os) throws IOException{
-        // Serialize game level manager
-        os.writeObject(GameLevelManager.getInstance());
-
-        // Serialize player object
-        os.writeObject(this.players);
-
-        // Serialize enemies
-        os.writeObject(this.enemies);
+    void writeGameObjects(SaveGameWriter writer) throws IOException {
+        writer.writeHeader(this.gameMode);
+        writer.writeRandom(this.random);
 
-        // Serialize projectiles
-        os.writeObject(this.bullets);
+        // Game level manager together with the current game level
+        writer.writeGameLevelManager(this.gameLevelManager);
 
-        // Serialize powerups
-        os.writeObject(this.powerups);
+        // Tanks must be written before the bullets which refer to them
+        writer.writePlayers(this.players);
+        writer.writeEnemies(this.enemies);
 
-        // Serialize blast effects
-        os.writeObject(this.blastFXs);
+        writer.writeBullets(this.bullets);
+        writer.writeBulletStore(this.bulletStore);
+        writer.writePowerups(this.powerups);
+        writer.writeBlasts(this.blastFXs);
 
-        os.write(this.gameMode.ordinal());
+        writer.flush();
     }
 
     /**
-     * Creates game objects from the stream of saved file.
-     * The order of the objects in the stream must match the order in which they were serialized.
-     * @param inputStream The input stream containing the serialized game state.
-     * @throws ClassNotFoundException If a class definition cannot be found during deserialization.
-     * @throws IOException If an I/O error occurs while reading from the input stream.
+     * Creates game objects from the specified save game reader.
+     * The game objects are read in the same order in which they were written.
+     * @param reader The save game reader containing the saved game state.
+     * @throws IOException If an I/O error occurs while reading from the input stream, or the stream is not a valid save game.
      */
-    @SuppressWarnings("unchecked")
-    private void createGameObjects(ObjectInputStream inputStream) throws IOException, ClassNotFoundException{
-        try {
-            GameLevelManager.setInstance((GameLevelManager) inputStream.readObject());
-            GameLevelManager.getInstance().setGameEngine(this);
-
-            this.players = (ArrayList<Player>) inputStream.readObject();
-            this.enemies = (ArrayList<Enemy>) inputStream.readObject();
-            this.bullets = (ArrayList<Bullet>) inputStream.readObject();
-            this.powerups = (ArrayList<AbstractPowerup>) inputStream.readObject();
-            this.blastFXs = (ArrayList<Blast>) inputStream.readObject();
-
-            this.currentGameLevel = GameLevelManager.getInstance().getCurrentLevel();
-        } catch (EOFException e) {
-            // Reached to end of file
-        }
+    void readGameObjects(SaveGameReader reader) throws IOException {
+        this.gameMode = reader.readHeader();
+        reader.readRandom(this.random);
+
+        this.gameLevelManager = reader.readGameLevelManager();
+        this.gameLevelManager.setGameEngine(this);
+
+        this.players = reader.readPlayers();
+        this.enemies = reader.readEnemies();
+        releaseProjectiles();
+        this.bullets.addAll(reader.readBullets());
+        reader.readBulletStore(this.bulletStore);
+        this.powerups = reader.readPowerups();
+        this.blastFXs.addAll(reader.readBlasts());
+
+        this.currentGameLevel = this.gameLevelManager.getCurrentLevel();
+
+        if (this.currentGameLevel != null) placeOnMap(this.currentGameLevel, false);  // Saved tanks keep their positions
+        rebuildSpatialGrids();
+        publishFrame();
     }
 
     /**
@@ -341,13 +790,14 @@ public class GameEngine extends Subject {
     public void loadGame(FileInputStream inputStream) throws IOException, ClassNotFoundException{
         if (inputStream==null) return;
 
-        ObjectInputStream os = new ObjectInputStream(inputStream);
+        // A replay cannot start from a saved game
+        stopRecording();
 
         reset();
 
-        createGameObjects(os);
-
-        os.close();
+        try (SaveGameReader reader = new SaveGameReader(inputStream)) {
+            readGameObjects(reader);
+        }
     }
 
     /**
@@ -357,7 +807,7 @@ public class GameEngine extends Subject {
     public void start() {
         this.isStopped = false;
         this.isPaused = false;
-        this.gameTimer.start();
+        this.gameLoop.start();
 
         notify(EventType.STARTED, null);  // Notify observers to repaint event
     }
@@ -369,7 +819,7 @@ public class GameEngine extends Subject {
     public void pause() {
         this.isStopped = false;
         this.isPaused = true;
-        this.gameTimer.stop();
+        this.gameLoop.stop();
 
         notify(EventType.PAUSED, null);  // Notify observers to repaint event
     }
@@ -381,7 +831,7 @@ public class GameEngine extends Subject {
     public void stop() {
         this.isStopped = true;
         this.isPaused = false;
-        if (this.gameTimer!=null) this.gameTimer.stop();
+        this.gameLoop.stop();
     }
 
     /**
@@ -391,13 +841,13 @@ public class GameEngine extends Subject {
     public void reset() {
         this.isStopped = false;
         this.isPaused = false;
+        this.isEagleDestroyed = false;
 
         // Reset game objects
         this.players.clear();
         this.enemies.clear();
         this.powerups.clear();
-        this.blastFXs.clear();
-        this.bullets.clear();
+        releaseProjectiles();
 
         // Add first player by default
         players.add(new Player(PlayerType.PLAYER_1));
@@ -407,6 +857,95 @@ public class GameEngine extends Subject {
             players.add(new Player(PlayerType.PLAYER_2));
         }
 
+        this.pendingInputs.clear();
+        rebuildSpatialGrids();
+        publishFrame();
+    }
+
+    /**
+     * Removes all bullets and blasts from the game and returns them to their pools.
+     */
+    private void releaseProjectiles() {
+        for (int i = 0; i < this.bullets.size(); i++) {
+            this.bulletPool.release(this.bullets.get(i));
+        }
+        for (int i = 0; i < this.blastFXs.size(); i++) {
+            this.blastPool.release(this.blastFXs.get(i));
+        }
+        this.bullets.clear();
+        this.blastFXs.clear();
+        this.bulletStore.clear();
+    }
+
+    /**
+     * Prepares the game for the size of the map of a level. The collision grids are resized to the map, and the spawn
+     * locations of the players are moved to the layout of the map. Tanks of the players are moved only if their spawn
+     * point changes, so they keep their position between the levels of the same size.
+     * @param level The game level to prepare for
+     * @param moveTanks Whether the tanks of the players are moved to their new spawn locations
+     */
+    private void placeOnMap(GameLevel level, boolean moveTanks) {
+        createSpatialGrids(level.getGridTransform());
+
+        for (Player player : this.players) {
+            GridLocation spawnLocation = level.getLayout().getPlayerSpawnLocation(player.getPlayerType());
+            Location spawnPoint = player.getSpawnPoint();
+
+            player.setSpawnLocation(spawnLocation, level.getGridTransform());
+            if (moveTanks && !spawnPoint.equals(player.getSpawnPoint())) player.moveTankToSpawnLocation();
+        }
+        rebuildSpatialGrids();
+    }
+
+    /**
+     * Creates empty collision grids covering the map, if the current grids do not have its size.
+     * The grids are created once for each map size, since their cells are the tiles of the map.
+     * @param transform The grid transform of the map
+     */
+    private void createSpatialGrids(GridTransform transform) {
+        if (transform.hasSameCells(this.spatialGridTransform)) return;
+
+        // Objects keep their cells in the old grids until they are cleared, which would be wrong in the new ones
+        if (this.tankGrid != null) {
+            this.tankGrid.clear();
+            this.bulletGrid.clear();
+            this.powerupGrid.clear();
+        }
+
+        Dimension mapSize = new Dimension(transform.getWidth(), transform.getHeight());
+        this.spatialGridTransform = transform;
+        this.tankGrid = new SpatialGrid<>(mapSize, transform.getRowCount(), transform.getColCount());
+        this.bulletGrid = new SpatialGrid<>(mapSize, transform.getRowCount(), transform.getColCount());
+        this.powerupGrid = new SpatialGrid<>(mapSize, transform.getRowCount(), transform.getColCount());
+        this.occupancyMap = new OccupancyMap(mapSize, transform.getRowCount(), transform.getColCount());
+        rebuildSpatialGrids();
+    }
+
+    /**
+     * Refills the collision grids from the game object lists.
+     * This method is used when the game objects are replaced at once (e.g. reset or load).
+     */
+    private void rebuildSpatialGrids() {
+        this.tankGrid.clear();
+        this.bulletGrid.clear();
+        this.powerupGrid.clear();
+        this.occupancyMap.clear();
+
+        // Tanks may refer to the tiles of another occupancy map, so they are added regardless of their tiles
+        for (Player player : this.players) {
+            this.tankGrid.insert(player.getTank());
+            this.occupancyMap.add(player.getTank());
+        }
+        for (Enemy enemy : this.enemies) {
+            this.tankGrid.insert((AbstractTank) enemy);
+            this.occupancyMap.add((AbstractTank) enemy);
+        }
+        for (Bullet bullet : this.bullets) {
+            this.bulletGrid.insert(bullet);
+        }
+        for (AbstractPowerup powerup : this.powerups) {
+            this.powerupGrid.insert(powerup);
+        }
     }
 
     /**
@@ -416,11 +955,14 @@ public class GameEngine extends Subject {
     public void loadGameLevel() {
         this.stop();
 
-        GameLevel currentGameLevel = GameLevelManager.getInstance().nextLevel();
+        GameLevel currentGameLevel = this.gameLevelManager.nextLevel();
         if (currentGameLevel != null) {
             this.currentGameLevel = currentGameLevel;
             this.currentGameLevel.setCurrentState(LevelState.LOADED);
+            placeOnMap(currentGameLevel, true);
         }
+
+        publishFrame();
     }
 
     /**
@@ -432,23 +974,138 @@ public class GameEngine extends Subject {
         this.currentGameLevel.setCurrentState(LevelState.PLAYING);
     }
 
+    /**
+     * Starts the current game level without starting the game loop. The caller runs the ticks by calling update()
+     * until the game is stopped, e.g. to simulate many games on the threads of a batch.
+     */
+    public void startGameLevelWithoutLoop() {
+        this.isStopped = false;
+        this.isPaused = false;
+        this.currentGameLevel.setCurrentState(LevelState.PLAYING);
+    }
+
+    /**
+     * Checks if all enemy tanks of the current level are destroyed.
+     *
+     * @return true if the current level is completed, false otherwise.
+     */
+    public boolean isLevelCompleted() {
+        GameLevel gameLevel = this.gameLevelManager.getCurrentLevel();
+        return gameLevel!=null && gameLevel.getRemainingEnemyTanks()==0 && gameLevel.getActiveEnemyTankCount()==0;
+    }
+
     /**
      * Adds a projectile to the projectile list when the player shoots.
+     * This method must be called from the game loop. Use queuePlayerAction from other threads.
      */
     public void triggerPlayerShooting(Player player) {
-        Bullet bullet = player.shoot();
+        Bullet bullet = player.shoot(this.bulletPool);
         if (bullet != null) addBullet(bullet);
     }
 
+    /**
+     * Gets the pool of the bullets fired in the game.
+     * @return The bullet pool
+     */
+    public ObjectPool<Bullet> getBulletPool() {
+        return this.bulletPool;
+    }
+
+    /**
+     * Gets the pool of the blast effects shown in the game.
+     * @return The blast pool
+     */
+    public ObjectPool<Blast> getBlastPool() {
+        return this.blastPool;
+    }
+
+    /**
+     * Sets the layout of the maps of the random levels, which sets their size. Maps larger than the default size
+     * extend beyond the game area, which scrolls with the first player. Predefined levels have the default size, so
+     * they are skipped otherwise. This method must be called before the first level is loaded.
+     * @param mapLayout Layout of the random maps
+     */
+    public void setMapLayout(MapLayout mapLayout) {
+        this.gameLevelManager.setMapLayout(mapLayout);
+    }
+
+    /**
+     * Gets the store of the bullets which are kept as arrays instead of Bullet objects.
+     * Game modes with thousands of bullets add their bullets to the store; it is empty in a regular game.
+     * Bullets must be added from the game loop.
+     * @return The bullet store
+     */
+    public BulletStore getBulletStore() {
+        return this.bulletStore;
+    }
+
     /**
      * Adds a bullet to the game.
      * @param bullet The bullet to be added
      */
-    private void addBullet(Bullet bullet) {
+    void addBullet(Bullet bullet) {
         if (bullet==null) return;
 
         this.bullets.add(bullet);
-    } 
+        this.bulletGrid.insert(bullet);
+    }
+
+    /**
+     * Destroys a bullet and adds its blast effect to the game.
+     * Destroyed bullets are removed from the game at the end of the collision check.
+     * @param bullet The bullet to be destroyed
+     */
+    private void destroyBullet(Bullet bullet) {
+        Blast blast = bullet.destroy(this.blastPool);  // Notify the tank that bullet is destroyed
+        this.blastFXs.add(blast);
+    }
+
+    /**
+     * Adds an enemy tank to the game.
+     * @param enemyTank The enemy tank to be added
+     */
+    void addEnemy(AbstractTank enemyTank) {
+        this.enemies.add((Enemy) enemyTank);
+        this.tankGrid.insert(enemyTank);
+        this.occupancyMap.update(enemyTank);
+    }
+
+    /**
+     * Removes an enemy tank from the game.
+     * @param enemyTank The enemy tank to be removed
+     */
+    private void removeEnemy(AbstractTank enemyTank) {
+        this.enemies.remove((Enemy) enemyTank);
+        this.tankGrid.remove(enemyTank);
+        this.occupancyMap.remove(enemyTank);
+    }
+
+    /**
+     * Replaces the existing powerup with a new one.
+     * @param powerup The new powerup
+     */
+    private void addPowerup(AbstractPowerup powerup) {
+        // Clear existing powerups to avoid duplicate powerups
+        this.powerups.clear();
+        this.powerupGrid.clear();
+
+        // Size of the powerup is relative to the size of the game area, like the size of the other objects
+        powerup.setSize(Utils.normalizeDimension(this.currentGameLevel.getGameAreaSize(), Globals.POWERUP_WIDTH, Globals.POWERUP_HEIGHT));
+        this.powerups.add(powerup);
+        this.powerupGrid.insert(powerup);
+    }
+
+    /**
+     * Finds the player who owns the given tank.
+     * @param tank The tank to look up
+     * @return The owner player, or null if the tank does not belong to a player
+     */
+    private Player findPlayer(AbstractTank tank) {
+        for (Player player : this.players) {
+            if (player.getTank() == tank) return player;
+        }
+        return null;
+    }
 
     /**
      * Updates the players' tanks and checks for player deaths.
@@ -462,16 +1119,24 @@ public class GameEngine extends Subject {
             Player p = it.next();
 
             if (p.isTankDestroyed() && p.getRemainingLives() >= 0) {
+                this.tankGrid.remove(p.getTank());
+                this.occupancyMap.remove(p.getTank());
                 p.spawnTank();
             }
 
             if (p.getRemainingLives() < 0) {
                 // Player is dead, remove from the game
+                this.tankGrid.remove(p.getTank());
+                this.occupancyMap.remove(p.getTank());
                 it.remove();
             }
 
             p.update(gameLevel);
-            GameLevelManager.getInstance().setPlayerLives(p.getPlayerType(), p.getRemainingLives());
+            if (p.getRemainingLives() >= 0) {
+                this.tankGrid.update(p.getTank());
+                this.occupancyMap.update(p.getTank());
+            }
+            this.gameLevelManager.setPlayerLives(p.getPlayerType(), p.getRemainingLives());
         }
 
         // If there are no players left, game is over
@@ -486,18 +1151,18 @@ public class GameEngine extends Subject {
      * Updates the game level status, including checking level progression.
      */
     private void updateGameLevel() {
-        GameLevel gameLevel = GameLevelManager.getInstance().getCurrentLevel();
+        GameLevel gameLevel = this.gameLevelManager.getCurrentLevel();
 
         // If all tanks are destroyed, go to the next level
-        if (gameLevel.getRemainingEnemyTanks()==0 && gameLevel.getActiveEnemyTankCount()==0) {
-            System.out.println("All enemy tanks destroyed, going to next level...");
+        if (isLevelCompleted()) {
+            log("All enemy tanks destroyed, going to next level...");
             goToNextLevel();
             return;
         }
 
-        AbstractTank newEnemyTank = GameLevelManager.getInstance().update();
+        AbstractTank newEnemyTank = this.gameLevelManager.update();
         if (newEnemyTank != null) {
-            this.enemies.add((Enemy) newEnemyTank);
+            addEnemy(newEnemyTank);
             //notify(EventType.ENEMY_TANK_SPAWNED, newEnemyTank);
         }
 
@@ -513,14 +1178,33 @@ public class GameEngine extends Subject {
         Iterator<Enemy> it = this.enemies.iterator();
         while (it.hasNext()) {
             AbstractTank t = (AbstractTank) it.next();
-            if (t.isDestroyed()) it.remove();
+            if (t.isDestroyed()) {
+                this.tankGrid.remove(t);
+                this.occupancyMap.remove(t);
+                it.remove();
+            }
         }
 
-        // Update remaining enemies
+        // Update remaining enemies, and collect the ones that move in this tick
+        this.movingEnemies.clear();
         for (Enemy e: this.enemies) {
             AbstractTank t = (AbstractTank) e;
-            t.update(gameLevel);
-            Bullet bullet = t.shoot();
+            if (t.prepareMove(gameLevel)) this.movingEnemies.add(t);
+        }
+
+        // Decide movements of the enemies together, then move them one by one in list order
+        gameLevel.updateFlowFields();
+        this.aiScheduler.planMoves(this.movingEnemies, gameLevel);
+        for (AbstractTank t : this.movingEnemies) {
+            t.applyMove(gameLevel, this.random);
+            // Keep the grid and the occupancy up to date for the next tanks
+            this.tankGrid.update(t);
+            this.occupancyMap.update(t);
+        }
+
+        for (Enemy e: this.enemies) {
+            AbstractTank t = (AbstractTank) e;
+            Bullet bullet = t.shoot(this.bulletPool, gameLevel);
             if (bullet != null) {
                 addBullet(bullet);
             }
@@ -533,21 +1217,37 @@ public class GameEngine extends Subject {
      * If a bullet is out of bounds, it is destroyed and removed from the game.
      */
     private void updateProjectiles(GameLevel gameLevel) {
-        Iterator<Bullet> it = this.bullets.iterator();
-        while (it.hasNext()) {
-            Bullet b = it.next();
-            
+        // Iterate backwards, so that the bullet swapped into the place of a removed one is already updated
+        for (int i = this.bullets.size() - 1; i >= 0; i--) {
+            Bullet b = this.bullets.get(i);
+
             // Update bullet position
             b.update(gameLevel);
-            
-            if (b.isOutOfBounds(gameLevel.getGameAreaSize().width, gameLevel.getGameAreaSize().height)) {
-                Blast blast = b.destroy(); // Notify the tank that bullet is destroyed
-                blastFXs.add(blast);
-                it.remove(); // Remove bullet
+
+            if (b.isOutOfBounds(gameLevel.getGridTransform().getWidth(), gameLevel.getGridTransform().getHeight())) {
+                destroyBullet(b);
+                this.bulletGrid.remove(b);
+                this.bullets.swapRemove(i); // Remove bullet
+                this.bulletPool.release(b);
                 continue;
             }
 
+            this.bulletGrid.update(b);
         }
+
+        updateBulletStore(gameLevel);
+    }
+
+    /**
+     * Moves the bullets of the bullet store, and destroys the ones which are out of the map.
+     * Destroyed bullets are removed at the end of the collision check.
+     * @param gameLevel The current game level
+     */
+    void updateBulletStore(GameLevel gameLevel) {
+        if (this.bulletStore.size() == 0) return;
+
+        this.bulletStore.update();
+        this.bulletStore.markOutOfBounds(gameLevel.getGridTransform().getWidth(), gameLevel.getGridTransform().getHeight());
     }
 
     /**
@@ -556,10 +1256,18 @@ public class GameEngine extends Subject {
      */
     private void updatePowerups(GameLevel gameLevel) {
         // Remove expired powerup first
-        this.powerups.removeIf(AbstractPowerup::isExpired);
+        Iterator<AbstractPowerup> it = this.powerups.iterator();
+        while (it.hasNext()) {
+            AbstractPowerup p = it.next();
+            if (p.isExpired()) {
+                this.powerupGrid.remove(p);
+                it.remove();
+            }
+        }
 
         for (AbstractPowerup p : this.powerups) {
              p.update();
+             if (p.isExpired()) log("Powerup expired: " + p.getPowerupType());
         }
     }
 
@@ -579,182 +1287,233 @@ public class GameEngine extends Subject {
      * If a collision occurs, the bullet is destroyed and the appropriate effects are applied.
      * @param gameLevel The current game level to check for collisions
      */
-    private void checkProjectileCollisions(GameLevel gameLevel) {
-        // Collect bullets to be removed to avoid ConcurrentModificationException
-        ArrayList<Bullet> bulletsToRemove = new ArrayList<>();
+    void checkProjectileCollisions(GameLevel gameLevel) {
+        // Check bullet collisions with tiles, tanks, and other bullets.
+        // Bullets are only marked as destroyed while iterating, and removed afterward.
+        for (int i = 0; i < this.bullets.size(); i++) {
+            Bullet bullet = this.bullets.get(i);
+
+            // Skip if bullet is already destroyed by another bullet
+            if (bullet.isDestroyed()) {
+                continue;
+            }
 
-        // Check bullet collisions with tiles, tanks, and other bullets
-        Iterator<Bullet> bulletIt = this.bullets.iterator();
-        while (bulletIt.hasNext()) {
-            Bullet bullet = bulletIt.next();
-            RectangleBound bulletBounds = bullet.getBoundingBox();
-            boolean bulletDestroyed = false;
+            // Bullets are checked along their whole movement in this tick, so fast bullets cannot skip obstacles
+            Rectangle bulletStart = bullet.getStartBounds(this.bulletStart);
+            int dx = bullet.getX() - bullet.getPrevX();
+            int dy = bullet.getY() - bullet.getPrevY();
+            Rectangle bulletArea = SweptCollision.sweptArea(bulletStart, dx, dy, this.bulletArea);
+
+            // Only the tanks around the bullet can be hit. Find the tank which the bullet reaches first.
+            this.tankGrid.query(bulletArea, this.nearbyTanks);
+            AbstractTank hitTank = null;
+            double tankHitTime = 1.0;
+            for (AbstractTank tank : this.nearbyTanks) {
+                if (!canBeHit(tank, bullet)) continue;
+
+                double time = SweptCollision.sweep(bulletStart, dx, dy, tank.getBoundingBox());
+                if (time != SweptCollision.NO_HIT && (hitTank == null || time < tankHitTime)) {
+                    hitTank = tank;
+                    tankHitTime = time;
+                }
+            }
 
-            // Skip if bullet is already marked for removal
-            if (bulletsToRemove.contains(bullet)) {
+            // 1. Check collision with tiles on the way to the tank
+            if (checkBulletTileCollision(bullet, gameLevel, tankHitTime)) {
+                destroyBullet(bullet);
                 continue;
             }
 
-            // 1. Check collision with tiles
-            if (!bulletDestroyed && checkBulletTileCollision(bullet, gameLevel)) {
-                Blast blast = bullet.destroy();
-                blastFXs.add(blast);
-                bulletsToRemove.add(bullet);
-                bulletDestroyed = true;
+            // 2. Check collision with tanks: player tanks for enemy bullets, enemy tanks for player bullets
+            if (hitTank != null) {
+                bullet.rewind(tankHitTime);
+                if (bullet.isEnemyBullet()) {
+                    hitPlayerTank(findPlayer(hitTank), hitTank);
+                } else {
+                    hitEnemyTank(gameLevel, hitTank);  // Destroy the bullet even if enemy tank is not damaged
+                }
+                destroyBullet(bullet);
                 continue;
             }
 
-            // 2. Check collision with player tanks
-            if (!bulletDestroyed) {
-                for (Player player : this.players) {
-                    if (!player.isTankDestroyed()) {
-                        RectangleBound tankBounds = player.getBoundingBox();
-                        if (tankBounds==null) continue;
-
-                        // Check if bullet intersects with player tank
-                        if (RectangleBound.isCollided(bulletBounds, tankBounds)) {
-                            // Check if bullet belongs to enemy
-                            if (bullet.isEnemyBullet()) {
-                                // Player tank hit by enemy bullet
-                                // TODO uncomment this line to enable player damage
-                                player.getDamage();
-
-                                Blast blast = bullet.destroy();
-                                blastFXs.add(blast);
-                                bulletsToRemove.add(bullet);
-                                bulletDestroyed = true;
-                                break;
-                            }
-                        }
-                    }
+            // 3. Check collision with other bullets
+            for (Bullet otherBullet : this.bulletGrid.query(bulletArea, this.nearbyBullets)) {
+                // Don't check bullet against itself or against destroyed bullets
+                if (bullet == otherBullet || otherBullet.isDestroyed()) {
+                    continue;
                 }
-            }
 
-            // 3. Check collision with enemy tanks
-            if (!bulletDestroyed) {
-                Iterator<Enemy> enemyIt = this.enemies.iterator();
-                while (enemyIt.hasNext() && !bulletDestroyed) {
-                    Enemy enemy = enemyIt.next();
-                    AbstractTank enemyTank = (AbstractTank) enemy;
-                    if (!enemyTank.isDestroyed()) {
-                        RectangleBound tankBounds = enemyTank.getBoundingBox();
-                        if (RectangleBound.isCollided(bulletBounds, tankBounds)) {
-                            // Check if bullet belongs to player (don't let enemies shoot themselves)
-                            if (!bullet.isEnemyBullet()) {
-                                // Enemy tank hit by player bullet
-                                boolean isDamaged = enemyTank.getDamage();
-                                if (!isDamaged) {
-                                    // Just destroy the bullet if enemy tank is not damaged
-                                    Blast blast = bullet.destroy();
-                                    blastFXs.add(blast);
-                                    bulletsToRemove.add(bullet);
-                                    bulletDestroyed = true;
-                                    break;
-                                }
-
-                                // If enemy tank is red, spawn a powerup
-                                if (enemyTank.isRedTank()) {
-                                    AbstractPowerup powerup = gameLevel.spawnPowerup();
-                                    if (powerup != null) {
-                                        this.powerups.clear();  // Clear existing powerups to avoid duplicate powerups
-                                        this.powerups.add(powerup);
-                                    }
-                                }
-
-                                // Remove enemy if destroyed
-                                if (enemyTank.isDestroyed()) {
-                                    gameLevel.decreaseActiveEnemyTank();
-                                    updateEnemyTankScore(enemyTank);
-                                    enemyIt.remove();
-                                }
-
-                                Blast blast = bullet.destroy();
-                                blastFXs.add(blast);
-                                bulletsToRemove.add(bullet);
-                                bulletDestroyed = true;
-                                break;
-                            }
-                        }
-                    }
+                // Check if bullets belong to different teams
+                if (bullet.isEnemyBullet() == otherBullet.isEnemyBullet()) {
+                    continue;
+                }
+
+                // Both bullets moved in this tick, check their movements against each other
+                Rectangle otherStart = otherBullet.getStartBounds(this.otherBulletStart);
+                int otherDx = otherBullet.getX() - otherBullet.getPrevX();
+                int otherDy = otherBullet.getY() - otherBullet.getPrevY();
+                double time = SweptCollision.sweep(bulletStart, dx, dy, otherStart, otherDx, otherDy);
+                if (time != SweptCollision.NO_HIT) {
+                    // Bullets from different teams (enemy vs player tanks) collided - destroy both
+                    bullet.rewind(time);
+                    otherBullet.rewind(time);
+                    destroyBullet(bullet);
+                    destroyBullet(otherBullet);
+                    break;
                 }
             }
+        }
 
-            // 4. Check collision with other bullets
-            if (!bulletDestroyed) {
-                for (Bullet otherBullet : this.bullets) {
-                    // Don't check bullet against itself
-                    if (bullet == otherBullet) {
-                        continue;
-                    }
+        // Remove all destroyed bullets
+        for (int i = this.bullets.size() - 1; i >= 0; i--) {
+            Bullet bullet = this.bullets.get(i);
+            if (bullet.isDestroyed()) {
+                this.bulletGrid.remove(bullet);
+                this.bullets.swapRemove(i);
+                this.bulletPool.release(bullet);
+            }
+        }
 
-                    // Skip if other bullet is already marked for removal
-                    if (bulletsToRemove.contains(otherBullet)) {
-                        continue;
-                    }
+        checkBulletStoreCollisions(gameLevel);
+    }
 
-                    RectangleBound otherBulletBounds = otherBullet.getBoundingBox();
-                    if (RectangleBound.isCollided(bulletBounds, otherBulletBounds)) {
-                        // Check if bullets belong to different teams
-                        if (bullet.isEnemyBullet() != otherBullet.isEnemyBullet()) {
-                            // Bullets from different teams (enemy vs player tanks) collided - destroy both
-                            Blast blast1 = bullet.destroy();
-                            Blast blast2 = otherBullet.destroy();
-                            blastFXs.add(blast1);
-                            blastFXs.add(blast2);
-
-                            bulletsToRemove.add(bullet);
-                            bulletsToRemove.add(otherBullet);
-                            bulletDestroyed = true;
-                            break;
-                        }
-                    }
-                }
+    /**
+     * Checks the bullets of the bullet store against tiles and tanks, and removes the destroyed ones.
+     * Bullets of the store do not collide with other bullets.
+     * @param gameLevel The current game level
+     */
+    void checkBulletStoreCollisions(GameLevel gameLevel) {
+        if (this.bulletStore.size() == 0) return;
+
+        // 1. Check collision with tiles
+        this.bulletStore.collideTiles(gameLevel, this.sweptCollision, this.bulletProbe, this.tileHitHandler);
+
+        // 2. Check collision with player tanks
+        for (Player player : this.players) {
+            AbstractTank tank = player.getTank();
+            int hit = -1;
+            while (!player.isTankDestroyed() && (hit = this.bulletStore.findHit(tank.getBoundingBox(), BulletStore.TEAM_ENEMY, hit + 1)) >= 0) {
+                hitPlayerTank(player, tank);
+                this.bulletStore.destroy(hit);
+            }
+        }
+
+        // 3. Check collision with enemy tanks. Iterate backwards, since destroyed enemies are removed.
+        for (int i = this.enemies.size() - 1; i >= 0; i--) {
+            AbstractTank enemyTank = (AbstractTank) this.enemies.get(i);
+            int hit = -1;
+            while (!enemyTank.isDestroyed() && (hit = this.bulletStore.findHit(enemyTank.getBoundingBox(), BulletStore.TEAM_PLAYER, hit + 1)) >= 0) {
+                hitEnemyTank(gameLevel, enemyTank);
+                this.bulletStore.destroy(hit);
             }
         }
 
-        // Remove all bullets that were marked for removal
-        this.bullets.removeAll(bulletsToRemove);
+        this.bulletStore.removeDestroyed(this.blastPool, this.blastFXs);
     }
 
     /**
-     * Checks if a bullet collides with any destroyable tiles.
+     * Checks if a tank can be hit by a bullet: enemy bullets hit player tanks, and player bullets hit enemy tanks.
+     * Destroyed tanks cannot be hit.
+     *
+     * @param tank The tank
+     * @param bullet The bullet
+     * @return true if the bullet damages the tank when they collide
+     */
+    private boolean canBeHit(AbstractTank tank, Bullet bullet) {
+        if (bullet.isEnemyBullet()) {
+            if (tank instanceof Enemy) return false;
+
+            Player player = findPlayer(tank);
+            return player != null && !player.isTankDestroyed();
+        }
+        return tank instanceof Enemy && !tank.isDestroyed();
+    }
+
+    /**
+     * Applies the damage of an enemy bullet to a player tank.
+     * @param player The player whose tank is hit
+     * @param tank The tank of the player
+     */
+    private void hitPlayerTank(Player player, AbstractTank tank) {
+        // Player tank hit by enemy bullet
+        player.getDamage();
+        this.occupancyMap.update(tank);  // Destroyed tanks do not occupy tiles
+    }
+
+    /**
+     * Applies the damage of a player bullet to an enemy tank, and removes the enemy if it is destroyed.
+     * @param gameLevel The current game level
+     * @param enemyTank The enemy tank which is hit
+     */
+    private void hitEnemyTank(GameLevel gameLevel, AbstractTank enemyTank) {
+        // Enemy tank hit by player bullet
+        boolean isDamaged = enemyTank.getDamage();
+        if (isDamaged) {
+            // If enemy tank is red, spawn a powerup
+            if (enemyTank.isRedTank()) {
+                AbstractPowerup powerup = gameLevel.spawnPowerup(this.random);
+                if (powerup != null) addPowerup(powerup);
+            }
+
+            // Remove enemy if destroyed
+            if (enemyTank.isDestroyed()) {
+                gameLevel.decreaseActiveEnemyTank();
+                updateEnemyTankScore(enemyTank);
+                removeEnemy(enemyTank);
+            }
+        }
+    }
+
+    /**
+     * Checks if a bullet collides with any destroyable tiles along its movement in this tick.
+     * The tiles are hit in the order the bullet reaches them, until a tile stops the bullet. A stopped bullet is moved
+     * back to the point where it hit the tile.
      * @param bullet The bullet to check
      * @param gameLevel The current game level
-     * @return true if collision occurred and tile was destroyed
+     * @param maxTime Fraction of the movement to check, e.g. until the bullet hits a tank
+     * @return true if the bullet is stopped by a tile
      */
-    private boolean checkBulletTileCollision(Bullet bullet, GameLevel gameLevel) {
+    private boolean checkBulletTileCollision(Bullet bullet, GameLevel gameLevel, double maxTime) {
         if (gameLevel == null || gameLevel.getMap() == null) {
             return false;
         }
 
-        RectangleBound bulletBounds = bullet.getBoundingBox();
-
-        // Convert bullet position to grid coordinates
-        GridLocation bulletGridLoc = Utils.loc2GridLoc(new Location(bullet.getX(), bullet.getY()));
+        Rectangle bulletStart = bullet.getStartBounds(this.bulletStart);
+        int dx = bullet.getX() - bullet.getPrevX();
+        int dy = bullet.getY() - bullet.getPrevY();
 
-        // Get the neighboring tiles of the bullet's grid location
-        Tile[] neighborTiles = gameLevel.getNeighbors(bulletGridLoc);
-        for (Tile tile: neighborTiles) {
-
-            if (tile == null) { continue; }
-            RectangleBound tileBounds = tile.getBoundingBox();
-
-            // Check for intersection
-            if (RectangleBound.isCollided(bulletBounds, tileBounds)) {
-                // If the bullet hits to any tile, try to destroy the tile
-                switch(tile.getType()) {
-                    case TILE_BRICKS, TILE_STEEL, TILE_TREES: return tile.destroy(bullet);
-                    case TILE_EAGLE: return destroyEagleTile(tile);
-                    default: break;
-                }
-                // Trees, ice, and water don't stop bullets
-                break;
+        int tileCount = this.sweptCollision.findTiles(gameLevel.getMap(), gameLevel.getGridTransform(), bulletStart, dx, dy);
+        for (int i = 0; i < tileCount && this.sweptCollision.getTime(i) <= maxTime; i++) {
+            if (hitTile(bullet, this.sweptCollision.getTile(i))) {
+                bullet.rewind(this.sweptCollision.getTime(i));
+                return true;
             }
         }
 
         return false;  // Do not stop bullet if no collision occurred
     }
 
+    /**
+     * Applies the effect of a bullet hitting a tile.
+     * @param bullet The bullet which hits the tile
+     * @param tile The tile which is hit
+     * @return true if the bullet is stopped by the tile
+     */
+    private boolean hitTile(Bullet bullet, Tile tile) {
+        // If the bullet hits to any tile, try to destroy the tile. The level removes the destroyed tiles on its update.
+        switch(tile.getType()) {
+            case TILE_BRICKS, TILE_STEEL, TILE_TREES:
+                this.gameLevelManager.getCurrentLevel().notifyTileHit(tile);
+                return tile.destroy(bullet);
+            case TILE_EAGLE:
+                this.gameLevelManager.getCurrentLevel().notifyTileHit(tile);
+                return destroyEagleTile(tile);
+            default: break;
+        }
+        // Trees, ice, and water don't stop bullets
+        return false;
+    }
+
     /**
      * Checks powerup collisions with tanks.
      * @param gameLevel The current game level to check for collisions
@@ -769,50 +1528,53 @@ public class GameEngine extends Subject {
             AbstractPowerup powerup = it.next();
             RectangleBound powerupBounds = powerup.getBoundingBox();
 
+            // Only the tanks around the powerup can collect it
+            this.tankGrid.query(powerupBounds, this.nearbyTanks);
+
             // Check collision with player tanks
-            for (Player player : this.players) {
-                if (!player.isTankDestroyed()) {
-                    RectangleBound tankBounds = player.getBoundingBox();
-                    if (tankBounds==null) continue;
-
-                    // Check if powerup intersects with player tank
-                    if (RectangleBound.isCollided(powerupBounds, tankBounds)) {
-                        // Player collected the powerup
-                        player.collectPowerup(powerup);
-                        collectedPowerupsByPlayer.put(powerup, player);
-                        break;  // No need to check other players
-                    }
+            for (AbstractTank tank : this.nearbyTanks) {
+                if (tank instanceof Enemy) continue;
+
+                Player player = findPlayer(tank);
+                if (player == null || player.isTankDestroyed()) continue;
+
+                // Check if powerup intersects with player tank
+                if (RectangleBound.isCollided(powerupBounds, tank.getBoundingBox())) {
+                    // Player collected the powerup
+                    player.collectPowerup(powerup);
+                    this.gameLevelManager.addPlayerScore(powerup.getPoints());
+                    collectedPowerupsByPlayer.put(powerup, player);
+                    break;  // No need to check other players
                 }
             }
 
             // Check collision with enemy tanks
-            for (Enemy enemy : this.enemies) {
-                AbstractTank enemyTank = (AbstractTank) enemy;
-                if (!enemyTank.isDestroyed()) {
-                    RectangleBound tankBounds = enemyTank.getBoundingBox();
-                    if (tankBounds==null) continue;
-
-                    // Check if powerup intersects with enemy tank
-                    if (RectangleBound.isCollided(powerupBounds, tankBounds)) {
-                        // Enemy collected the powerup
-                        enemyTank.collectPowerup(powerup);
-                        collectedPowerupsByEnemy.put(powerup, enemyTank);
-                        break;  // No need to check other enemies
-                    }
+            for (AbstractTank enemyTank : this.nearbyTanks) {
+                if (!(enemyTank instanceof Enemy) || enemyTank.isDestroyed()) continue;
+
+                // Check if powerup intersects with enemy tank
+                if (RectangleBound.isCollided(powerupBounds, enemyTank.getBoundingBox())) {
+                    // Enemy collected the powerup
+                    enemyTank.collectPowerup(powerup);
+                    collectedPowerupsByEnemy.put(powerup, enemyTank);
+                    break;  // No need to check other enemies
                 }
             }
         }
 
         for (AbstractPowerup powerup : collectedPowerupsByPlayer.keySet()) {
             applyPowerupEffects(gameLevel, powerup, collectedPowerupsByPlayer.get(powerup));
+            post(EventType.POWERUP_COLLECTED, powerup.getPowerupType());  // Notify observers that a powerup is collected
             // Remove collected powerups from the game
             this.powerups.remove(powerup);
+            this.powerupGrid.remove(powerup);
         }
 
         for (AbstractPowerup powerup : collectedPowerupsByEnemy.keySet()) {
             applyPowerupEffects(gameLevel, powerup, collectedPowerupsByEnemy.get(powerup));
             // Remove collected powerups from the game
             this.powerups.remove(powerup);
+            this.powerupGrid.remove(powerup);
         }
 
     }
@@ -824,34 +1586,39 @@ public class GameEngine extends Subject {
      * @return true if the tank collides with any other tank, false otherwise
      */
     public boolean checkTankCollisions(AbstractTank tank, RectangleBound tentativeTankBound) {
-        for (Player player : this.players) {
-            if (player.getTank() == tank) continue;
-
-            if (RectangleBound.isCollided(tentativeTankBound, player.getBoundingBox())) return true;
-        }
-
-        for (Enemy enemy : this.enemies) {
-            AbstractTank enemyTank = (AbstractTank) enemy;
-            if (enemyTank == tank) continue;
-            if (RectangleBound.isCollided(tentativeTankBound, enemyTank.getBoundingBox())) return true;
+        // Only the tanks around the tentative position can block the tank
+        for (AbstractTank otherTank : this.tankGrid.query(tentativeTankBound, this.blockingTanks)) {
+            if (otherTank == tank) continue;
+            if (RectangleBound.isCollided(tentativeTankBound, otherTank.getBoundingBox())) return true;
         }
 
         return false;  // No collision detected
     }
 
+    /**
+     * Checks if a tile is occupied by any tank.
+     *
+     * @param gloc Location of the tile
+     * @param exceptionLoc Location of a tank to ignore, or null to count every tank
+     * @return true if the tile is occupied, false otherwise
+     */
+    public boolean isTileOccupied(GridLocation gloc, GridLocation exceptionLoc) {
+        return this.occupancyMap.isOccupied(gloc, exceptionLoc);
+    }
+
     /**
      * Gets the locations of all tanks in the game.
      * @return A list of grid locations representing the positions of all tanks (both player and enemy).
      */
     public ArrayList<GridLocation> getTankLocations() {
         ArrayList<GridLocation> tankLocations = new ArrayList<>();
+        GridTransform transform = this.gameLevelManager.getCurrentLevel().getGridTransform();
 
         // Add player tanks
         for (Player player : this.players) {
             if (!player.isTankDestroyed()) {
                 RectangleBound bound = player.getBoundingBox();
-                GridLocation loc = Utils.loc2GridLoc(new Location(bound.getOriginX(), bound.getOriginY()));
-                tankLocations.add(loc);
+                tankLocations.add(transform.toGridLocation(bound.getOriginX(), bound.getOriginY()));
             }
         }
 
@@ -860,8 +1627,7 @@ public class GameEngine extends Subject {
             AbstractTank enemyTank = (AbstractTank) enemy;
             if (!enemyTank.isDestroyed()) {
                 RectangleBound bound = enemyTank.getBoundingBox();
-                GridLocation loc = Utils.loc2GridLoc(new Location(bound.getOriginX(), bound.getOriginY()));
-                tankLocations.add(loc);
+                tankLocations.add(transform.toGridLocation(bound.getOriginX(), bound.getOriginY()));
             }
         }
 
@@ -886,11 +1652,13 @@ public class GameEngine extends Subject {
                     Enemy enemy = enemyIt.next();
                     AbstractTank enemyTank = (AbstractTank) enemy;
                     if (!enemyTank.isDestroyed()) {
-                        Blast b = enemyTank.destroy();  // Destroy call directly destructs the tank
+                        Blast b = enemyTank.destroy(this.blastPool);  // Destroy call directly destructs the tank
                         updateEnemyTankScore(enemyTank);
                         gameLevel.decreaseActiveEnemyTank();
 
                         this.blastFXs.add(b);
+                        this.tankGrid.remove(enemyTank);
+                        this.occupancyMap.remove(enemyTank);
                         enemyIt.remove();
                     }
                 }
@@ -900,7 +1668,7 @@ public class GameEngine extends Subject {
             }
             case POWERUP_SHOVEL -> {
                 // Shovel around the eagle tile
-                GameLevelManager.getInstance().getCurrentLevel().activateShovelPowerup();
+                this.gameLevelManager.getCurrentLevel().activateShovelPowerup();
             }
             case POWERUP_STAR -> {
                 // No specific action for tank powerup
@@ -943,8 +1711,9 @@ public class GameEngine extends Subject {
                 while (playerIt.hasNext()) {
                     Player player = playerIt.next();
                     // TODO uncomment this line to enable player damage
-                    Blast b = player.destroy();  // Destroy call directly destructs player's tank
+                    Blast b = player.destroy(this.blastPool);  // Destroy call directly destructs player's tank
                     this.blastFXs.add(b);
+                    this.occupancyMap.update(player.getTank());
                 }
             }
             case POWERUP_HELMET -> {
@@ -952,7 +1721,7 @@ public class GameEngine extends Subject {
             }
             case POWERUP_SHOVEL -> {
                 // Remove the protection around the eagle tile
-                GameLevelManager.getInstance().getCurrentLevel().activateAntiShovelPowerup();
+                this.gameLevelManager.getCurrentLevel().activateAntiShovelPowerup();
             }
             case POWERUP_STAR -> {
                 // No specific action for tank powerup
@@ -981,7 +1750,18 @@ public class GameEngine extends Subject {
      * This method can be expanded later to include more detailed game statistics.
      */
     private void updateGameInfo() {
-        notify(EventType.UPDATE_GAME_INFO, GameLevelManager.getInstance().getGameScore());  // Notify observers that the next level is loaded
+        post(EventType.UPDATE_GAME_INFO, snapshotGameScore());  // Notify observers that the game info is updated
+    }
+
+    /**
+     * Returns a copy of the current game scores.
+     * Observers receive the copy so that they never share the instance the game loop keeps updating.
+     *
+     * @return A copy of the game scores, or null if there are no scores yet
+     */
+    private GameScoreStruct snapshotGameScore() {
+        GameScoreStruct gameScore = this.gameLevelManager.getGameScore();
+        return (gameScore==null)? null: new GameScoreStruct(gameScore);
     }
 
     /**
@@ -994,7 +1774,8 @@ public class GameEngine extends Subject {
     private void updateEnemyTankScore(AbstractTank enemyTank) {
         if (enemyTank==null) return;
 
-        GameLevelManager.getInstance().addTankScore(enemyTank);
+        this.gameLevelManager.addTankScore(enemyTank);
+        post(EventType.ENEMY_DESTROYED, enemyTank.getTankType());  // Notify observers that an enemy tank is destroyed
     }
 
     /**
@@ -1004,9 +1785,12 @@ public class GameEngine extends Subject {
     private void goToNextLevel() {
         stop();  // Stop the game engine
 
+        // Take the scores now, the level may be reset before the timer fires
+        GameScoreStruct gameScore = snapshotGameScore();
+
         // Add some delay before notifying observers
         Timer delayedTimer = new Timer(2000, e -> {
-            notify(EventType.NEXT_LEVEL, GameLevelManager.getInstance().getGameScore());  // Notify observers that the next level is loaded
+            notify(EventType.NEXT_LEVEL, gameScore);  // Notify observers that the next level is loaded
         });
         delayedTimer.start();
         delayedTimer.setRepeats(false);
@@ -1019,9 +1803,12 @@ public class GameEngine extends Subject {
     private void endGame() {
         stop();  // Stop the game engine
 
+        // Take the scores now, the level may be reset before the timer fires
+        GameScoreStruct gameScore = snapshotGameScore();
+
         // Add some delay before notifying observers
         Timer delayedTimer = new Timer(2000, e -> {
-            notify(EventType.GAMEOVER, GameLevelManager.getInstance().getGameScore());  // Notify observers that the game is over
+            notify(EventType.GAMEOVER, gameScore);  // Notify observers that the game is over
         });
         delayedTimer.setRepeats(false);
         delayedTimer.start();
@@ -1037,6 +1824,7 @@ public class GameEngine extends Subject {
     private boolean destroyEagleTile(Tile tile) {
         tile.destroy(null);
 
+        this.isEagleDestroyed = true;
         endGame();
         return true;  // Stop bullet
     }
@@ -1047,13 +1835,13 @@ public class GameEngine extends Subject {
      * If a blast effect is done, it is removed from the list.
      */
     private void updateBlasts() {
-        Iterator<Blast> it = blastFXs.iterator();
-        while (it.hasNext()) {
-            Blast blast = it.next();
+        for (int i = this.blastFXs.size() - 1; i >= 0; i--) {
+            Blast blast = this.blastFXs.get(i);
 
             if (!blast.update()) {
                 // If the blast animation is done, remove it
-                it.remove();
+                this.blastFXs.swapRemove(i);
+                this.blastPool.release(blast);
             }
         }
     }
@@ -23,13 +23,18 @@
  package tank1990.core;
 
 import java.awt.Dimension;
-import java.awt.Graphics;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.*;
 
+import tank1990.player.Player;
 import tank1990.powerup.AbstractPowerup;
 import tank1990.powerup.PowerupType;
 import tank1990.powerup.PowerupFactory;
+import tank1990.projectiles.BulletType;
 import tank1990.tank.AbstractTank;
 import tank1990.tank.TankFactory;
 import tank1990.tank.TankType;
@@ -44,7 +49,7 @@ import tank1990.tile.*;
  */
 public class GameLevel implements Serializable {
     // Create a min-heap for spawn location which spawn location and timestamp of last enemy tank created.
-    private static final PriorityQueue<Map.Entry<GridLocation, Long>> SPAWN_LOCATIONS = new PriorityQueue<>(Comparator.comparingLong(Map.Entry::getValue));
+    private final transient PriorityQueue<Map.Entry<GridLocation, Long>> spawnLocations = new PriorityQueue<>(Comparator.comparingLong(Map.Entry::getValue));
 
     private HashMap<TankType, Integer> enemyTankCounts; // Map of tank types to their counts in the level
 
@@ -53,9 +58,12 @@ public class GameLevel implements Serializable {
     private LevelInfo levelInfo;
 
     private Dimension gameAreaSize;
+    private transient GridTransform gridTransform = null;  // Conversion between positions and tiles of the game area
 
     private int activeEnemyTankCount;
 
+    private long elapsedTimeMs = 0;  // Simulation time elapsed in the level. It is driven by game ticks, not by the wall clock.
+
     private GridLocation eagleLocation = null;
     private GridLocation playerLocation = null;
 
@@ -74,24 +82,37 @@ public class GameLevel implements Serializable {
     private TimeTick shovelTick;
     private TimeTick antiShovelTick;
 
+    private transient int mapVersion = 0;  // Incremented whenever a tile is placed or removed
+    private transient FlowField eagleFlowField = null;   // Distances of the tiles to the eagle
+    private transient FlowField playerFlowField = null;  // Distances of the tiles to the player
+    private transient LineOfSight lineOfSight = null;    // Nearest bullet blockers of the tiles, built on first use
+    private transient MapLayout layout = null;           // Spawn locations and enemy limits for the size of the map
+
+    private transient List<Tile> animatedTiles = null;                   // Tiles updated on every tick, collected on first use
+    private transient List<Tile> hitTiles = null;                        // Tiles hit by bullets since the last update
+
+    private transient TileSnapshot tileSnapshot = null;  // Static tiles as last published to the renderer, taken on first use
+    private transient BitSet changedChunks = null;       // Chunks of the snapshot whose tiles changed since it was taken
+
+    private transient GameEngine gameEngine = null;  // Game engine which plays the level, set when the level is loaded
+
     public GameLevel(String levelPath) {
         this.currentState = LevelState.NOT_LOADED;
         this.levelInfo = MapGenerator.readLevelInfo(levelPath);
         this.enemyTankCounts = new HashMap<TankType, Integer>();
         this.activeEnemyTankCount = 0;
 
-        // Set default size values for now, it will be updated on draw method
-        this.gameAreaSize = new Dimension(Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT);
+        // Place the tiles according to the size of the game area
+        setGameAreaSize(Utils.getGameAreaDimension());
 
         HashMap<TankType, Integer> enemyTankCount = this.levelInfo.enemyTankCount;
         this.setEnemyTankCount(enemyTankCount);
         this.totalEnemyTankCount = enemyTankCount.values().stream().mapToInt(Integer::intValue).sum();
 
         // Default timestamp for spawn locations is -1 which means invalid
-        SPAWN_LOCATIONS.clear();
-        SPAWN_LOCATIONS.add(new AbstractMap.SimpleEntry<>(Globals.ENEMY_SPAWN_LOCATION_1, -1L));
-        SPAWN_LOCATIONS.add(new AbstractMap.SimpleEntry<>(Globals.ENEMY_SPAWN_LOCATION_2, -1L));
-        SPAWN_LOCATIONS.add(new AbstractMap.SimpleEntry<>(Globals.ENEMY_SPAWN_LOCATION_3, -1L));
+        for (GridLocation spawnLocation : getLayout().getEnemySpawnLocations()) {
+            this.spawnLocations.add(new AbstractMap.SimpleEntry<>(spawnLocation, -1L));
+        }
 
         this.eagleLocation = findEagleLocation();
 
@@ -108,24 +129,47 @@ public class GameLevel implements Serializable {
         this.antiShovelTick.setRepeats(-1);  // Repeat indefinitely
     }
 
-    public GameLevel() {
+    /**
+     * Creates a game level with the given map only. Other fields are set by readState().
+     *
+     * @param levelInfo The map and the enemy tanks of the level.
+     */
+    private GameLevel(LevelInfo levelInfo) {
+        this.levelInfo = levelInfo;
+    }
+
+    /**
+     * Creates a game level with a random map of the default size and random enemy tanks.
+     *
+     * @param random The random number generator to generate the level with.
+     */
+    public GameLevel(GameRandom random) {
+        this(random, MapLayout.DEFAULT);
+    }
+
+    /**
+     * Creates a game level with a random map and random enemy tanks.
+     *
+     * @param random The random number generator to generate the level with.
+     * @param layout The layout of the map, which sets its size.
+     */
+    public GameLevel(GameRandom random, MapLayout layout) {
         this.currentState = LevelState.NOT_LOADED;
-        this.levelInfo = MapGenerator.generateRandomLevelInfo();
+        this.levelInfo = MapGenerator.generateRandomLevelInfo(random, layout);
         this.enemyTankCounts = new HashMap<TankType, Integer>();
         this.activeEnemyTankCount = 0;
 
-        // Set default size values for now, it will be updated on draw method
-        this.gameAreaSize = new Dimension(Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT);
+        // Place the tiles according to the size of the game area
+        setGameAreaSize(Utils.getGameAreaDimension());
 
         HashMap<TankType, Integer> enemyTankCount = this.levelInfo.enemyTankCount;
         this.setEnemyTankCount(enemyTankCount);
         this.totalEnemyTankCount = enemyTankCount.values().stream().mapToInt(Integer::intValue).sum();
 
         // Default timestamp for spawn locations is -1 which means invalid
-        SPAWN_LOCATIONS.clear();
-        SPAWN_LOCATIONS.add(new AbstractMap.SimpleEntry<>(Globals.ENEMY_SPAWN_LOCATION_1, -1L));
-        SPAWN_LOCATIONS.add(new AbstractMap.SimpleEntry<>(Globals.ENEMY_SPAWN_LOCATION_2, -1L));
-        SPAWN_LOCATIONS.add(new AbstractMap.SimpleEntry<>(Globals.ENEMY_SPAWN_LOCATION_3, -1L));
+        for (GridLocation spawnLocation : getLayout().getEnemySpawnLocations()) {
+            this.spawnLocations.add(new AbstractMap.SimpleEntry<>(spawnLocation, -1L));
+        }
 
         this.eagleLocation = findEagleLocation();
 
@@ -155,8 +199,8 @@ public class GameLevel implements Serializable {
 
     /**
      * Gets the size of the game area.
-     * This method returns the current size of the game area, which is typically
-     * updated during the drawing process.
+     * This method returns the current size of the game area which the tiles of the level are placed on.
+     * The game area shows the default number of tiles, so a larger map extends beyond it, see getGridTransform().
      *
      * @return A Dimension object representing the width and height of the game area.
      */
@@ -164,6 +208,56 @@ public class GameLevel implements Serializable {
         return this.gameAreaSize;
     }
 
+    /**
+     * Sets the size of the game area and places the tiles accordingly.
+     *
+     * @param gameAreaSize The new size of the game area.
+     */
+    public void setGameAreaSize(Dimension gameAreaSize) {
+        this.gameAreaSize = new Dimension(gameAreaSize);
+        this.gridTransform = GridTransform.forMap(this.gameAreaSize, this.levelInfo.getRowCount(), this.levelInfo.getColCount());
+        this.tileSnapshot = null;  // Every tile is moved
+
+        for (Tile[] tileRows: this.levelInfo.levelGrid) {
+            for (Tile tile: tileRows) {
+                if (tile!=null) tile.updateGeometry(this.gameAreaSize);
+            }
+        }
+    }
+
+
+    /**
+     * Gets the transform between the positions in the map and its tiles. Its width and height are the size of the
+     * map in pixels, which game objects must stay in.
+     *
+     * @return The grid transform of the map.
+     */
+    public GridTransform getGridTransform() {
+        if (this.gridTransform == null) {
+            this.gridTransform = GridTransform.forMap(this.gameAreaSize, this.levelInfo.getRowCount(), this.levelInfo.getColCount());
+        }
+        return this.gridTransform;
+    }
+
+    /**
+     * Gets the layout of the map, which places the spawn locations and limits the enemy tanks according to its size.
+     *
+     * @return The layout of the map.
+     */
+    public MapLayout getLayout() {
+        if (this.layout == null) this.layout = this.levelInfo.getLayout();
+        return this.layout;
+    }
+
+    /**
+     * Gets the simulation time elapsed in the game level.
+     *
+     * @return Elapsed time in milliseconds.
+     */
+    public long getElapsedTime() {
+        return this.elapsedTimeMs;
+    }
+
     /**
      * Gets the count of active enemy tanks in the game level.
      * This method returns the number of enemy tanks that are currently active.
@@ -181,6 +275,34 @@ public class GameLevel implements Serializable {
         this.activeEnemyTankCount = this.activeEnemyTankCount>0 ? this.activeEnemyTankCount - 1 : 0;
     }
 
+    /**
+     * Sets the game engine which plays the level. Tanks of the level are looked up from the game engine.
+     *
+     * @param gameEngine The game engine
+     */
+    void setGameEngine(GameEngine gameEngine) {
+        this.gameEngine = gameEngine;
+    }
+
+    /**
+     * Gets the game engine which plays the level.
+     *
+     * @return The game engine, or null if the level is not loaded yet.
+     */
+    public GameEngine getGameEngine() {
+        return this.gameEngine;
+    }
+
+    /**
+     * Prints an event of the level through the game engine, which may drop it.
+     *
+     * @param message The message describing the event.
+     */
+    private void log(String message) {
+        if (this.gameEngine!=null) this.gameEngine.log(message);
+        else System.out.println(message);
+    }
+
     /**
      * Sets the current state of the game level.
      * This method allows the game level to change its state, which can be used
@@ -193,29 +315,37 @@ public class GameLevel implements Serializable {
     }
 
     public void update() {
+        this.elapsedTimeMs += Globals.GAME_TICK_MS;
+
         // Check timestamp of spawn time. Set the timestamp to invalid if it is too old
-        Map.Entry<GridLocation, Long> oldestSpawnLocationEntry = SPAWN_LOCATIONS.poll();
+        Map.Entry<GridLocation, Long> oldestSpawnLocationEntry = this.spawnLocations.poll();
 
         if (oldestSpawnLocationEntry!=null) {
-            if (System.currentTimeMillis() - oldestSpawnLocationEntry.getValue() > Globals.ENEMY_TANK_SPAWN_DELAY_MS) {
+            if (this.elapsedTimeMs - oldestSpawnLocationEntry.getValue() > Globals.ENEMY_TANK_SPAWN_DELAY_MS) {
                 // Set the timestamp to invalid
                 oldestSpawnLocationEntry.setValue(-1L);
             }
             // Update the list
-            SPAWN_LOCATIONS.add(oldestSpawnLocationEntry);
+            this.spawnLocations.add(oldestSpawnLocationEntry);
         }
 
-        for (int row = 0; row < this.levelInfo.levelGrid.length; row++) {
-            for (int col = 0; col < this.levelInfo.levelGrid[row].length; col++) {
-                Tile tile = this.levelInfo.levelGrid[row][col];
-                if (tile == null) continue;
+        // Tiles are destroyed only by bullets, so only the hit tiles are checked instead of the whole map
+        for (Tile tile : getHitTiles()) {
+            if (!tile.isDestroyed()) continue;
 
-                if (tile.isDestroyed()) {
-                    this.levelInfo.levelGrid[row][col] = null; // Set the array element to null
-                } else {
-                    tile.update();
-                }
-            }
+            int row = tile.getGridLocation().rowIndex();
+            int col = tile.getGridLocation().colIndex();
+            if (this.levelInfo.levelGrid[row][col] != tile) continue;  // Already removed or replaced
+
+            this.levelInfo.levelGrid[row][col] = null; // Set the array element to null
+            this.mapVersion++;
+            markTileChanged(row, col);
+            if (this.lineOfSight != null) this.lineOfSight.update(this.levelInfo.levelGrid, row, col);
+        }
+        getHitTiles().clear();
+
+        for (Tile tile : getAnimatedTiles()) {
+            tile.update();
         }
 
         if (this.isShovelActive) {
@@ -248,22 +378,81 @@ public class GameLevel implements Serializable {
     }
 
     /**
-     * Draws the game level on the provided graphics context.
-     * This method iterates through all tiles in the map and draws them
-     * if their depth is greater than or equal to the specified minimum depth.
+     * Records a tile hit by a bullet. If the hit destroyed the tile, it is removed from the map on the next update.
      *
-     * @param g The graphics context to draw on.
-     * @param minDepth The minimum depth of tiles to draw.
+     * @param tile The tile which is hit.
      */
-    public void draw(Graphics g, int minDepth) {
-        for (Tile[] tileRows: this.levelInfo.levelGrid) {
-            for (Tile tile: tileRows) {
-                if (tile!=null && tile.depth>=minDepth) tile.draw(g);
+    public void notifyTileHit(Tile tile) {
+        getHitTiles().add(tile);
+        markTileChanged(tile.getGridLocation().rowIndex(), tile.getGridLocation().colIndex());
+    }
+
+    /**
+     * Marks a tile to be taken again into the next snapshot of the map.
+     *
+     * @param row Row index of the tile.
+     * @param col Column index of the tile.
+     */
+    private void markTileChanged(int row, int col) {
+        if (this.tileSnapshot == null) return;  // Whole map is taken into the next snapshot
+        this.changedChunks.set(this.tileSnapshot.chunkIndexOf(row, col));
+    }
+
+    /**
+     * Gets the tiles hit since the last update, created on first use since the field is not serialized.
+     *
+     * @return The hit tiles.
+     */
+    private List<Tile> getHitTiles() {
+        if (this.hitTiles == null) this.hitTiles = new ArrayList<>();
+        return this.hitTiles;
+    }
+
+    /**
+     * Gets the tiles which change on every tick (e.g. sea). Other tiles change only when they are hit.
+     *
+     * @return The animated tiles of the map.
+     */
+    private List<Tile> getAnimatedTiles() {
+        if (this.animatedTiles == null) {
+            this.animatedTiles = new ArrayList<>();
+            for (Tile[] tileRows : this.levelInfo.levelGrid) {
+                for (Tile tile : tileRows) {
+                    if (tile != null && tile.isAnimated()) this.animatedTiles.add(tile);
+                }
             }
         }
+        return this.animatedTiles;
+    }
+
+    /**
+     * Gets the snapshot of the static tiles of the map, which the renderer draws the map from.
+     * It must be called on the game loop thread, at the end of a tick. Only the chunks of the tiles which were placed,
+     * removed or hit since the previous call are taken again, the others are shared with the previous snapshot.
+     *
+     * @return The snapshot of the map.
+     */
+    public TileSnapshot getTileSnapshot() {
+        if (this.tileSnapshot == null) {
+            this.tileSnapshot = TileSnapshot.of(this.levelInfo.levelGrid, getGridTransform());
+            this.changedChunks = new BitSet();
+        } else if (!this.changedChunks.isEmpty()) {
+            this.tileSnapshot = this.tileSnapshot.withChanges(this.levelInfo.levelGrid, this.changedChunks);
+            this.changedChunks.clear();
+        }
+        return this.tileSnapshot;
+    }
 
-        this.gameAreaSize.width = g.getClipBounds().width;
-        this.gameAreaSize.height = g.getClipBounds().height;
+    /**
+     * Records the animated tiles (e.g. sea), which are not part of the snapshot of the map, into a frame to be drawn.
+     * They are drawn on the ground, below the game objects.
+     *
+     * @param frame The frame to record the tiles into.
+     */
+    public void renderAnimatedTiles(RenderFrame frame) {
+        for (Tile tile : getAnimatedTiles()) {
+            tile.render(frame);
+        }
     }
 
     /**
@@ -291,15 +480,18 @@ public class GameLevel implements Serializable {
         // Add the center tile
         neighbors[0] = this.levelInfo.levelGrid[row][col];
 
+        int lastRow = this.levelInfo.getRowCount() - 1;
+        int lastCol = this.levelInfo.getColCount() - 1;
+
         // Check bounds and get all 8 neighbors (including corners)
         if (row > 0) neighbors[1] = this.levelInfo.levelGrid[row - 1][col]; // Up
-        if (col < Globals.COL_TILE_COUNT - 1) neighbors[2] = this.levelInfo.levelGrid[row][col + 1]; // Right
-        if (row < Globals.ROW_TILE_COUNT - 1) neighbors[3] = this.levelInfo.levelGrid[row + 1][col]; // Down
+        if (col < lastCol) neighbors[2] = this.levelInfo.levelGrid[row][col + 1]; // Right
+        if (row < lastRow) neighbors[3] = this.levelInfo.levelGrid[row + 1][col]; // Down
         if (col > 0) neighbors[4] = this.levelInfo.levelGrid[row][col - 1]; // Left
         if (row > 0 && col > 0) neighbors[5] = this.levelInfo.levelGrid[row - 1][col - 1]; // Top-Left
-        if (row > 0 && col < Globals.COL_TILE_COUNT - 1) neighbors[6] = this.levelInfo.levelGrid[row - 1][col + 1]; // Top-Right
-        if (row < Globals.ROW_TILE_COUNT - 1 && col < Globals.COL_TILE_COUNT - 1) neighbors[7] = this.levelInfo.levelGrid[row + 1][col + 1]; // Bottom-Right
-        if (row < Globals.ROW_TILE_COUNT - 1 && col > 0) neighbors[8] = this.levelInfo.levelGrid[row + 1][col - 1]; // Bottom-Left
+        if (row > 0 && col < lastCol) neighbors[6] = this.levelInfo.levelGrid[row - 1][col + 1]; // Top-Right
+        if (row < lastRow && col < lastCol) neighbors[7] = this.levelInfo.levelGrid[row + 1][col + 1]; // Bottom-Right
+        if (row < lastRow && col > 0) neighbors[8] = this.levelInfo.levelGrid[row + 1][col - 1]; // Bottom-Left
 
         return neighbors;
     }
@@ -335,21 +527,21 @@ public class GameLevel implements Serializable {
      * This method randomly selects a powerup type and spawns it at a random location
      * within the game area.
      *
+     * @param random The random number generator of the game session.
      * @return An instance of AbstractPowerup representing the spawned powerup, or null if no powerup is created.
      */
-    public AbstractPowerup spawnPowerup() {
-        Random random = new Random();
+    public AbstractPowerup spawnPowerup(GameRandom random) {
         PowerupType powerupType = PowerupType.valueOf(random.nextInt(PowerupType.values().length));
 
-        Dimension gameArea = getGameAreaSize();
+        GridTransform transform = getGridTransform();
 
-        // Ensure the powerup spawns within the game area, leaving space for its dimensions
-        int x = random.nextInt(gameArea.width - Globals.POWERUP_WIDTH);
-        int y = random.nextInt(gameArea.height - Globals.POWERUP_HEIGHT);
+        // Ensure the powerup spawns within the map, leaving space for its dimensions
+        int x = random.nextInt(transform.getWidth() - Globals.POWERUP_WIDTH);
+        int y = random.nextInt(transform.getHeight() - Globals.POWERUP_HEIGHT);
 
         AbstractPowerup powerup = PowerupFactory.createPowerup(powerupType, x, y);
         if (powerup != null) {
-            System.out.println("Spawning powerup: " + powerupType + " at (" + x + ", " + y + ")");
+            log("Spawning powerup: " + powerupType + " at (" + x + ", " + y + ")");
         }
         return powerup;
     }
@@ -360,14 +552,14 @@ public class GameLevel implements Serializable {
      * and spawns it at a random spawn location with a random direction.
      * It also updates the count of active enemy tanks and the remaining counts of each tank type.
      *
+     * @param random The random number generator of the game session.
      * @return An instance of AbstractTank representing the spawned enemy tank, or null if no tanks are available to spawn.
      */
-    public AbstractTank spawnEnemyTank() {
+    public AbstractTank spawnEnemyTank(GameRandom random) {
         if (getRemainingEnemyTanks() <= 0) {
             return null;
         }
 
-        Random random = new Random();
         TankType[] tankTypes = new TankType[] {TankType.BASIC_TANK, TankType.FAST_TANK, TankType.POWER_TANK, TankType.ARMOR_TANK};
 
         TankType currentTankType = null;
@@ -382,37 +574,37 @@ public class GameLevel implements Serializable {
             return null;
         }
 
-        Map.Entry<GridLocation, Long> spawnLocationEntry = SPAWN_LOCATIONS.poll();
+        Map.Entry<GridLocation, Long> spawnLocationEntry = this.spawnLocations.poll();
 
         if (spawnLocationEntry==null) return null;
 
         //If spawn time is not old enough, do not spawn any tank
         if (spawnLocationEntry.getValue()>0) {
             //Update the list
-            SPAWN_LOCATIONS.add(spawnLocationEntry);
+            this.spawnLocations.add(spawnLocationEntry);
             return null;
         }
 
         // If tile is occupied, do not spawn any tank
         if (isTileOccupied(spawnLocationEntry.getKey(), null)) {
             //Update the list
-            SPAWN_LOCATIONS.add(spawnLocationEntry);
+            this.spawnLocations.add(spawnLocationEntry);
             return null;
         }
 
         // Set timestamp of spawn time
-        spawnLocationEntry.setValue(System.currentTimeMillis());
+        spawnLocationEntry.setValue(this.elapsedTimeMs);
 
         // Update the list
-        SPAWN_LOCATIONS.add(spawnLocationEntry);
+        this.spawnLocations.add(spawnLocationEntry);
 
         Direction[] directions = Direction.values();
         Direction spawnDir = directions[random.nextInt(1,directions.length)];
 
         this.activeEnemyTankCount++;
         enemyTankCounts.put(currentTankType, enemyTankCounts.get(currentTankType) - 1);
-        System.out.println("Spawning enemy tank: " + currentTankType + " at " + spawnLocationEntry.getKey() + " facing " + spawnDir + ". Remaining: " + enemyTankCounts.get(currentTankType) + " Active: " + activeEnemyTankCount);
-        Location loc = Utils.gridLoc2Loc(spawnLocationEntry.getKey());
+        log("Spawning enemy tank: " + currentTankType + " at " + spawnLocationEntry.getKey() + " facing " + spawnDir + ". Remaining: " + enemyTankCounts.get(currentTankType) + " Active: " + activeEnemyTankCount);
+        Location loc = getGridTransform().toLocation(spawnLocationEntry.getKey());
 
         AbstractTank enemyTank = TankFactory.createTank(currentTankType, loc.x(), loc.y());
 
@@ -422,7 +614,7 @@ public class GameLevel implements Serializable {
             enemyTank.setAsRed();
         } else {
             // There is a 30% chance to spawn a red tank
-            if (Utils.getRandomProbability(30)) enemyTank.setAsRed();
+            if (random.nextProbability(30)) enemyTank.setAsRed();
         }
 
         return enemyTank;
@@ -450,8 +642,8 @@ public class GameLevel implements Serializable {
             return this.eagleLocation;
         }
 
-        for (int i = 0; i < Globals.ROW_TILE_COUNT; i++) {
-            for (int j = 0; j < Globals.COL_TILE_COUNT; j++) {
+        for (int i = 0; i < this.levelInfo.getRowCount(); i++) {
+            for (int j = 0; j < this.levelInfo.getColCount(); j++) {
                 Tile tile = this.levelInfo.levelGrid[i][j];
                 if (tile==null) continue;
 
@@ -532,6 +724,40 @@ public class GameLevel implements Serializable {
         return dx+dy;
     }
 
+    /**
+     * Recomputes the flow fields towards the eagle and the player if the tiles or the player location have changed.
+     * This method must be called from the game loop before the enemy tanks plan their moves.
+     */
+    public void updateFlowFields() {
+        Tile[][] map = this.levelInfo.levelGrid;
+
+        if (this.eagleFlowField == null) {
+            this.eagleFlowField = new FlowField(map.length, map[0].length);
+            this.playerFlowField = new FlowField(map.length, map[0].length);
+        }
+
+        this.eagleFlowField.update(map, this.mapVersion, this.eagleLocation);
+        this.playerFlowField.update(map, this.mapVersion, this.playerLocation);
+    }
+
+    /**
+     * Gets the flow field towards the eagle.
+     *
+     * @return The flow field, or null if the flow fields are not computed yet.
+     */
+    public FlowField getEagleFlowField() {
+        return this.eagleFlowField;
+    }
+
+    /**
+     * Gets the flow field towards the player.
+     *
+     * @return The flow field, or null if the flow fields are not computed yet.
+     */
+    public FlowField getPlayerFlowField() {
+        return this.playerFlowField;
+    }
+
     /**
      * Checks if the eagle is alive in the game level.
      * The eagle is considered alive if its location is set and the corresponding tile in the map is not null.
@@ -542,10 +768,25 @@ public class GameLevel implements Serializable {
         return this.eagleLocation != null && this.levelInfo.levelGrid[this.eagleLocation.rowIndex()][this.eagleLocation.colIndex()] != null;
     }
 
+    /**
+     * Gets the line of sight tables of the level. The tables are built on the first call and kept up to date as
+     * the tiles are placed and removed.
+     *
+     * @return The line of sight tables.
+     */
+    public LineOfSight getLineOfSight() {
+        if (this.lineOfSight == null) {
+            Tile[][] map = this.levelInfo.levelGrid;
+            this.lineOfSight = new LineOfSight(map.length, map[0].length);
+            this.lineOfSight.rebuild(map);
+        }
+        return this.lineOfSight;
+    }
+
     /**
      * Checks if a tank can see the eagle with a specified bounding rectangle and direction.
-     * A tank can see the eagle if it is alive and the tank is in the same row or column as the eagle,
-     * and the direction of the tank matches the direction towards the eagle.
+     * A tank can see the eagle if it is alive, the tank is in the same row or column as the eagle and faces
+     * towards it, and no tile that stops a normal bullet (e.g. steel) is between them.
      *
      * @param tankBound The bounding rectangle of the tank.
      * @param tankDir The direction of the tank.
@@ -555,20 +796,64 @@ public class GameLevel implements Serializable {
         // Check if the eagle is alive
         if (!isEagleAlive()) return false;
 
-        // Calculate the bound that sees directly towards its direction
-        GridLocation tankGloc = Utils.loc2GridLoc(new Location(tankBound.getOriginX(), tankBound.getOriginY()));
+        int row = getGridTransform().toRow(tankBound.getOriginY());
+        int col = getGridTransform().toCol(tankBound.getOriginX());
+        if (row == this.eagleLocation.rowIndex() && col == this.eagleLocation.colIndex()) return true;
 
-        int rowDiff = this.eagleLocation.rowIndex() - tankGloc.rowIndex();
-        int colDiff = this.eagleLocation.colIndex() - tankGloc.colIndex();
+        return getLineOfSight().canHit(row, col, tankDir, this.eagleLocation.rowIndex(), this.eagleLocation.colIndex(), false);
+    }
 
-        if (rowDiff==0 || colDiff==0) {
-            if (rowDiff>0 && tankDir==Direction.DIRECTION_DOWNWARDS) return true;
-            if (rowDiff<0 && tankDir==Direction.DIRECTION_UPWARDS) return true;
-            if (colDiff>0 && tankDir==Direction.DIRECTION_RIGHT) return true;
-            if (colDiff<0 && tankDir==Direction.DIRECTION_LEFT) return true;
+    /**
+     * Checks if a tank has anything worth shooting at in its direction: the eagle or a player tank which its bullet
+     * can reach, or a tile right in front of it which its bullet destroys to open its way.
+     * The check takes constant time and does not allocate, so it can be made for every tank in every tick.
+     *
+     * @param tank The tank to check.
+     * @return true if a bullet of the tank would not be wasted, false otherwise.
+     */
+    public boolean hasLineOfFire(AbstractTank tank) {
+        int row = getGridTransform().toRow(tank.getY());
+        int col = getGridTransform().toCol(tank.getX());
+        Direction dir = tank.getDir();
+        boolean isPiercing = tank.getBulletType() == BulletType.UPGRADED;
+        LineOfSight lineOfSight = getLineOfSight();
+
+        if (isEagleAlive() && lineOfSight.canHit(row, col, dir, this.eagleLocation.rowIndex(), this.eagleLocation.colIndex(), isPiercing)) {
+            return true;
         }
 
-        return rowDiff == 0 && colDiff == 0;
+        if (this.gameEngine != null) {
+            if (canHitPlayer(this.gameEngine.getPlayer1(), row, col, dir, isPiercing)) return true;
+            if (canHitPlayer(this.gameEngine.getPlayer2(), row, col, dir, isPiercing)) return true;
+        }
+
+        // Tile in front of the tank, which the tank has to destroy if its path goes through it
+        int frontRow = row + switch (dir) { case DIRECTION_UPWARDS -> -1; case DIRECTION_DOWNWARDS -> 1; default -> 0; };
+        int frontCol = col + switch (dir) { case DIRECTION_LEFT -> -1; case DIRECTION_RIGHT -> 1; default -> 0; };
+        Tile[][] map = this.levelInfo.levelGrid;
+        if (frontRow < 0 || frontRow >= map.length || frontCol < 0 || frontCol >= map[frontRow].length) return false;
+
+        Tile frontTile = map[frontRow][frontCol];
+        if (frontTile == null) return false;
+        return frontTile.getType() == TileType.TILE_BRICKS || (isPiercing && LineOfSight.isBlocker(frontTile));
+    }
+
+    /**
+     * Checks if a bullet fired from a tile reaches the tank of a player.
+     *
+     * @param player The player, or null if there is no such player.
+     * @param row Row index of the shooter.
+     * @param col Column index of the shooter.
+     * @param dir Direction of the bullet.
+     * @param isPiercing True if the bullet destroys steel tiles as well.
+     * @return true if the bullet can reach the tank of the player, false otherwise.
+     */
+    private boolean canHitPlayer(Player player, int row, int col, Direction dir, boolean isPiercing) {
+        if (player == null || player.isTankDestroyed()) return false;
+
+        AbstractTank playerTank = player.getTank();
+        GridTransform transform = getGridTransform();
+        return getLineOfSight().canHit(row, col, dir, transform.toRow(playerTank.getY()), transform.toCol(playerTank.getX()), isPiercing);
     }
 
     /**
@@ -582,13 +867,8 @@ public class GameLevel implements Serializable {
         // Check if the eagle is alive
         if (!isEagleAlive()) return false;
 
-        // Calculate the bound that aligns with the eagle
-        GridLocation tankGloc = Utils.loc2GridLoc(new Location(tankBound.getOriginX(), tankBound.getOriginY()));
-
-        int rowDiff = this.eagleLocation.rowIndex() - tankGloc.rowIndex();
-        int colDiff = this.eagleLocation.colIndex() - tankGloc.colIndex();
-
-        return rowDiff == 0 || colDiff == 0;
+        return getGridTransform().toRow(tankBound.getOriginY()) == this.eagleLocation.rowIndex() ||
+               getGridTransform().toCol(tankBound.getOriginX()) == this.eagleLocation.colIndex();
     }
 
     /**
@@ -597,17 +877,14 @@ public class GameLevel implements Serializable {
      * and returns the corresponding Direction enum value.
      *
      * @param tankBound The bounding rectangle of the tank.
-     * @return The Direction towards the eagle, or DIRECTION_INVALID if the eagle is not alive.
+     * @return The Direction towards the eagle, or DIRECTION_INVALID if the eagle is not alive or not aligned with the tank.
      */
     public Direction getTargetDirection(RectangleBound tankBound) {
         // Check if the eagle is alive
         if (!isEagleAlive()) return Direction.DIRECTION_INVALID;
 
-        // Calculate the bound that sees directly towards its direction
-        GridLocation tankGloc = Utils.loc2GridLoc(new Location(tankBound.getOriginX(), tankBound.getOriginY()));
-
-        int rowDiff = this.eagleLocation.rowIndex() - tankGloc.rowIndex();
-        int colDiff = this.eagleLocation.colIndex() - tankGloc.colIndex();
+        int rowDiff = this.eagleLocation.rowIndex() - getGridTransform().toRow(tankBound.getOriginY());
+        int colDiff = this.eagleLocation.colIndex() - getGridTransform().toCol(tankBound.getOriginX());
 
         if (rowDiff==0 || colDiff==0) {
             if (rowDiff>0) return Direction.DIRECTION_DOWNWARDS;
@@ -628,31 +905,35 @@ public class GameLevel implements Serializable {
      * @return true if the tank can move, false otherwise.
      */
     public boolean checkMovable(AbstractTank tank, RectangleBound tankBound) {
-        // 1- Check tank-bound is within game area
-        Dimension gameArea = GameLevelManager.getInstance().getCurrentLevel().getGameAreaSize();
-        if (tankBound.getMaxX() > gameArea.width ||
-            tankBound.getMaxY() > gameArea.height ||
+        // 1- Check tank-bound is within the map
+        GridTransform transform = getGridTransform();
+        if (tankBound.getMaxX() > transform.getWidth() ||
+            tankBound.getMaxY() > transform.getHeight() ||
             tankBound.getMinX() < 0 ||
             tankBound.getMinY() < 0) return false;
 
-        // 2- Get neighbor tiles in order to check tile collisions 
-        GridLocation tankGLoc = Utils.loc2GridLoc(new Location(tankBound.getOriginX() ,tankBound.getOriginY()));
-        Tile[] neighbors = getNeighbors(tankGLoc);
+        // 2- Check tile collisions with the tile of the tank and its neighbor tiles
+        int row = transform.toRow(tankBound.getOriginY());
+        int col = transform.toCol(tankBound.getOriginX());
+        Tile[][] map = this.levelInfo.levelGrid;
 
-        for (Tile neighbor : neighbors) {
-            if (neighbor == null) continue;
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, map.length - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, map[r].length - 1); c++) {
+                Tile neighbor = map[r][c];
+                if (neighbor == null) continue;
 
-            if (neighbor.getType() == TileType.TILE_ICE) continue;
-            if (neighbor.getType() == TileType.TILE_TREES) continue;
+                if (neighbor.getType() == TileType.TILE_ICE) continue;
+                if (neighbor.getType() == TileType.TILE_TREES) continue;
 
-            RectangleBound tileBound = neighbor.getBoundingBox();
-            // Check if the neighbor tile is occupied by a tank
-            boolean isCollided = RectangleBound.isCollided(tileBound, tankBound);
-            if (isCollided) return false;
+                RectangleBound tileBound = neighbor.getBoundingBox();
+                // Check if the neighbor tile is occupied by a tank
+                boolean isCollided = RectangleBound.isCollided(tileBound, tankBound);
+                if (isCollided) return false;
+            }
         }
 
         // 3- Finally, checks the tank collides with other tanks. If it collides, it cannot move.
-        return !(GameLevelManager.getInstance().getGameEngine().checkTankCollisions(tank, tankBound));
+        return !(this.gameEngine.checkTankCollisions(tank, tankBound));
     }
 
     /**
@@ -666,15 +947,12 @@ public class GameLevel implements Serializable {
         if (gloc == null) return false;
 
         // Check if the tile is within bounds
-        if (gloc.rowIndex() < 0 || gloc.rowIndex() >= Globals.ROW_TILE_COUNT ||
-            gloc.colIndex() < 0 || gloc.colIndex() >= Globals.COL_TILE_COUNT) {
+        if (gloc.rowIndex() < 0 || gloc.rowIndex() >= this.levelInfo.getRowCount() ||
+            gloc.colIndex() < 0 || gloc.colIndex() >= this.levelInfo.getColCount()) {
             return false;
         }
 
-        ArrayList<GridLocation> tankLocations = GameLevelManager.getInstance().getGameEngine().getTankLocations();
-        if(exceptionLoc!=null) tankLocations.remove(exceptionLoc); // Remove the exception location if it exists
-
-        return tankLocations.contains(gloc);
+        return this.gameEngine.isTileOccupied(gloc, exceptionLoc);
     }
 
     /**
@@ -701,7 +979,7 @@ public class GameLevel implements Serializable {
                 // Do not include the eagle tile itself
                 if (newRow == row && newCol == col) continue;
 
-                if (newRow >= 0 && newRow < Globals.ROW_TILE_COUNT && newCol >= 0 && newCol < Globals.COL_TILE_COUNT) {
+                if (newRow >= 0 && newRow < this.levelInfo.getRowCount() && newCol >= 0 && newCol < this.levelInfo.getColCount()) {
                     Tile tile = this.levelInfo.levelGrid[newRow][newCol];
                     if (tile != null) {
                         surroundingTiles.put(tile.getGridLocation(), tile.getBlockConf());
@@ -711,6 +989,21 @@ public class GameLevel implements Serializable {
         }
     }
 
+    /**
+     * Places a tile to the specified grid location and updates its geometry according to the game area.
+     *
+     * @param gloc The grid location of the tile.
+     * @param tile The tile to place.
+     */
+    private void placeTile(GridLocation gloc, Tile tile) {
+        if (tile != null) tile.updateGeometry(this.gameAreaSize);
+        this.levelInfo.levelGrid[gloc.rowIndex()][gloc.colIndex()] = tile;
+        this.mapVersion++;
+        markTileChanged(gloc.rowIndex(), gloc.colIndex());
+        this.animatedTiles = null;
+        if (this.lineOfSight != null) this.lineOfSight.update(this.levelInfo.levelGrid, gloc.rowIndex(), gloc.colIndex());
+    }
+
     /**
      * Activates the shovel powerup, which converts surrounding tiles around the eagle to steel.
      * It stores the original state of the tiles before conversion for later restoration.
@@ -729,8 +1022,7 @@ public class GameLevel implements Serializable {
             BlockConfiguration blockConf = entry.getValue();
 
             // Convert the tile to steel
-            this.levelInfo.levelGrid[gloc.rowIndex()][gloc.colIndex()] = null;
-            this.levelInfo.levelGrid[gloc.rowIndex()][gloc.colIndex()] = TileFactory.createTile(TileType.TILE_STEEL, gloc.colIndex(), gloc.rowIndex(), blockConf);
+            placeTile(gloc, TileFactory.createTile(TileType.TILE_STEEL, gloc.colIndex(), gloc.rowIndex(), blockConf));
         }
 
         isShovelActive = true;
@@ -750,7 +1042,7 @@ public class GameLevel implements Serializable {
             BlockConfiguration blockConf = entry.getValue();
 
             // Restore according to last tile configuration
-            this.levelInfo.levelGrid[gloc.rowIndex()][gloc.colIndex()] = TileFactory.createTile(TileType.TILE_BRICKS, gloc.colIndex(), gloc.rowIndex(), blockConf);
+            placeTile(gloc, TileFactory.createTile(TileType.TILE_BRICKS, gloc.colIndex(), gloc.rowIndex(), blockConf));
         }
 
         isShovelActive = false;
@@ -774,7 +1066,7 @@ public class GameLevel implements Serializable {
             GridLocation gloc = entry.getKey();
             BlockConfiguration blockConf = entry.getValue();
 
-            this.levelInfo.levelGrid[gloc.rowIndex()][gloc.colIndex()] = null; // Remove the tile around the eagle
+            placeTile(gloc, null); // Remove the tile around the eagle
         }
 
         isShovelActive = false;  // Activating anti-shovel powerup deactivates the shovel powerup
@@ -794,9 +1086,145 @@ public class GameLevel implements Serializable {
             BlockConfiguration blockConf = entry.getValue();
 
             // Restore according to last tile configuration
-            this.levelInfo.levelGrid[gloc.rowIndex()][gloc.colIndex()] = TileFactory.createTile(TileType.TILE_BRICKS, gloc.colIndex(), gloc.rowIndex(), blockConf);
+            placeTile(gloc, TileFactory.createTile(TileType.TILE_BRICKS, gloc.colIndex(), gloc.rowIndex(), blockConf));
         }
 
         isAntiShovelActive = false;
     }
+
+    /**
+     * Writes the state of the game level to a save game.
+     * The map is written as packed bytes: tile type (byte, 0 for an empty tile) of each tile in row-major order,
+     * followed by the block configuration (byte) and the state of the tile for non-empty tiles, see Tile.writeState().
+     *
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        Tile[][] map = this.levelInfo.levelGrid;
+        out.writeShort(map.length);
+        out.writeShort(map[0].length);
+        for (Tile[] tileRow : map) {
+            for (Tile tile : tileRow) {
+                if (tile == null) {
+                    out.writeByte(0);
+                    continue;
+                }
+                out.writeByte(tile.getType().ordinal() + 1);
+                out.writeByte(tile.getBlockConf().ordinal());
+                tile.writeState(out);
+            }
+        }
+        SaveGameWriter.writeEnumCounts(out, this.levelInfo.enemyTankCount);
+
+        out.writeByte(this.currentState.ordinal());
+        out.writeInt(this.gameAreaSize.width);
+        out.writeInt(this.gameAreaSize.height);
+        SaveGameWriter.writeEnumCounts(out, this.enemyTankCounts);
+        out.writeInt(this.activeEnemyTankCount);
+        out.writeInt(this.totalEnemyTankCount);
+        out.writeLong(this.elapsedTimeMs);
+        SaveGameWriter.writeGridLocation(out, this.eagleLocation);
+        SaveGameWriter.writeGridLocation(out, this.playerLocation);
+
+        writeTilesAroundEagle(out, this.originalTilesAroundEagle);
+        writeTilesAroundEagle(out, this.currentTilesAroundEagle);
+        out.writeBoolean(this.isShovelActive);
+        out.writeBoolean(this.isAntiShovelActive);
+        out.writeBoolean(this.shovelActivationTriggered);
+        out.writeBoolean(this.antiShovelActivationTriggered);
+        SaveGameWriter.writeTimeTick(out, this.shovelTick);
+        SaveGameWriter.writeTimeTick(out, this.antiShovelTick);
+
+        out.writeByte(this.spawnLocations.size());
+        for (Map.Entry<GridLocation, Long> spawnLocationEntry : this.spawnLocations) {
+            SaveGameWriter.writeGridLocation(out, spawnLocationEntry.getKey());
+            out.writeLong(spawnLocationEntry.getValue());
+        }
+    }
+
+    /**
+     * Creates a game level from a save game written by writeState().
+     *
+     * @param in The input to read from.
+     * @return The game level.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static GameLevel readState(DataInput in) throws IOException {
+        int rowCount = in.readUnsignedShort();
+        int colCount = in.readUnsignedShort();
+        Tile[][] map = new Tile[rowCount][colCount];
+        List<Tile> hitTiles = new ArrayList<>();
+        TileType[] tileTypes = TileType.values();
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < colCount; col++) {
+                int type = in.readUnsignedByte();
+                if (type == 0) continue;
+                if (type > tileTypes.length) throw new StreamCorruptedException("Invalid tile type: " + type);
+
+                BlockConfiguration blockConf = SaveGameReader.readEnum(in, BlockConfiguration.values());
+                Tile tile = TileFactory.createTile(tileTypes[type - 1], col, row, blockConf);
+                tile.readState(in);
+                map[row][col] = tile;
+                if (tile.isDestroyed()) hitTiles.add(tile);
+            }
+        }
+        GameLevel level = new GameLevel(new LevelInfo(map, SaveGameReader.readEnumCounts(in, TankType.values())));
+        level.getHitTiles().addAll(hitTiles);  // Tiles destroyed in the saved tick are removed on the next update
+
+        level.currentState = SaveGameReader.readEnum(in, LevelState.values());
+        level.setGameAreaSize(new Dimension(in.readInt(), in.readInt()));
+        level.enemyTankCounts = SaveGameReader.readEnumCounts(in, TankType.values());
+        level.activeEnemyTankCount = in.readInt();
+        level.totalEnemyTankCount = in.readInt();
+        level.elapsedTimeMs = in.readLong();
+        level.eagleLocation = SaveGameReader.readGridLocation(in);
+        level.playerLocation = SaveGameReader.readGridLocation(in);
+
+        level.originalTilesAroundEagle = readTilesAroundEagle(in);
+        level.currentTilesAroundEagle = readTilesAroundEagle(in);
+        level.isShovelActive = in.readBoolean();
+        level.isAntiShovelActive = in.readBoolean();
+        level.shovelActivationTriggered = in.readBoolean();
+        level.antiShovelActivationTriggered = in.readBoolean();
+        level.shovelTick = SaveGameReader.readTimeTick(in, new TimeTick(Utils.Time2GameTick(Globals.SHOVEL_COOLDOWN_MS)));
+        level.antiShovelTick = SaveGameReader.readTimeTick(in, new TimeTick(Utils.Time2GameTick(Globals.ANTI_SHOVEL_COOLDOWN_MS)));
+
+        int spawnLocationCount = in.readUnsignedByte();
+        for (int i = 0; i < spawnLocationCount; i++) {
+            GridLocation spawnLocation = SaveGameReader.readGridLocation(in);
+            level.spawnLocations.add(new AbstractMap.SimpleEntry<>(spawnLocation, in.readLong()));
+        }
+
+        return level;
+    }
+
+    /**
+     * Writes the block configurations of the tiles around the eagle.
+     */
+    private static void writeTilesAroundEagle(DataOutput out, HashMap<GridLocation, BlockConfiguration> tiles) throws IOException {
+        // Entries are written in the order of the grid, since the order of the map changes from run to run
+        List<Map.Entry<GridLocation, BlockConfiguration>> entries = new ArrayList<>(tiles.entrySet());
+        entries.sort(Comparator.comparingInt((Map.Entry<GridLocation, BlockConfiguration> e) -> e.getKey().rowIndex())
+                               .thenComparingInt(e -> e.getKey().colIndex()));
+
+        out.writeByte(entries.size());
+        for (Map.Entry<GridLocation, BlockConfiguration> entry : entries) {
+            SaveGameWriter.writeGridLocation(out, entry.getKey());
+            out.writeByte(entry.getValue().ordinal());
+        }
+    }
+
+    /**
+     * Reads the block configurations of the tiles around the eagle written by writeTilesAroundEagle().
+     */
+    private static HashMap<GridLocation, BlockConfiguration> readTilesAroundEagle(DataInput in) throws IOException {
+        int size = in.readUnsignedByte();
+        HashMap<GridLocation, BlockConfiguration> tiles = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            GridLocation gloc = SaveGameReader.readGridLocation(in);
+            tiles.put(gloc, SaveGameReader.readEnum(in, BlockConfiguration.values()));
+        }
+        return tiles;
+    }
 }
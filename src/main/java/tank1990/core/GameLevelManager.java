@@ -22,7 +22,11 @@
 
 package tank1990.core;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -34,25 +38,28 @@ import tank1990.tank.*;
  * @class GameLevelManager
  * @brief Manages the game levels, player scores, and game state.
  * @details This class is responsible for loading, updating, and transitioning between game levels.
- * It also keeps track of the player's score and lives. Since it is a singleton, it ensures that there is only one
- * instance of GameLevelManager throughout the game.
+ * It also keeps track of the player's score and lives. Every game engine owns its own GameLevelManager, so that
+ * independent games can run side by side in the same process.
  */
 public class GameLevelManager implements Serializable {
+    // For now only stage 1 is predefined one which is second stage in original Tank 1990 game.
+    private static final int PREDEFINED_LEVEL_COUNT = 1;
+
     private ArrayList<GameLevel> gameLevels; // List of game levels
     private int currentLevelIndex; // Index of the current game level
     private int totalPlayerScore; // Total score of the player
 
     private TimeTick spawnTick;
 
-    private static GameLevelManager instance;
-
     private GameScoreStruct gameScore = null;
 
     private HashMap<PlayerType, Integer> playersRemainingLives;
 
     private transient GameEngine gameEngine = null;
 
-    private GameLevelManager() {
+    private transient MapLayout mapLayout = MapLayout.DEFAULT;  // Layout of the random levels
+
+    GameLevelManager() {
         this.gameLevels = new ArrayList<>();
         this.currentLevelIndex = -1;
         this.totalPlayerScore = 0;
@@ -61,46 +68,48 @@ public class GameLevelManager implements Serializable {
     }
 
     /**
-     * Returns the singleton instance of GameLevelManager.
-     * If the instance is null, it creates a new instance.
+     * Sets the game engine for the GameLevelManager.
+     * This method is used to set the game engine instance that manages the game levels.
+     * The current game level is bound to the game engine as well.
      *
-     * @return The singleton instance of GameLevelManager.
+     * @param engine The GameEngine instance to set.
      */
-    public static GameLevelManager getInstance() {
-        if (instance == null) {
-            instance = new GameLevelManager();
-        }
-        return instance;
+    public void setGameEngine(GameEngine engine) {
+        this.gameEngine = engine;
+
+        GameLevel currentLevel = getCurrentLevel();
+        if (currentLevel != null) currentLevel.setGameEngine(engine);
     }
 
     /**
-     * Sets the instance of GameLevelManager.
-     * This method is used to set a particular instance. It is useful to initialize upon saved data.
+     * Returns the game engine associated with the GameLevelManager.
+     * This method retrieves the game engine instance that manages the game levels.
      *
-     * @param sourceInstance The GameLevelManager instance to set.
+     * @return The GameEngine instance associated with this GameLevelManager.
      */
-    public static void setInstance(GameLevelManager sourceInstance) {
-        instance = sourceInstance;
+    public GameEngine getGameEngine() {
+        return this.gameEngine;
     }
 
     /**
-     * Sets the game engine for the GameLevelManager.
-     * This method is used to set the game engine instance that manages the game levels.
+     * Gets the layout of the maps of the random levels.
      *
-     * @param engine The GameEngine instance to set.
+     * @return The layout of the random maps.
      */
-    public void setGameEngine(GameEngine engine) {
-        getInstance().gameEngine = engine;
+    public MapLayout getMapLayout() {
+        return (this.mapLayout==null)? MapLayout.DEFAULT: this.mapLayout;
     }
 
     /**
-     * Returns the game engine associated with the GameLevelManager.
-     * This method retrieves the game engine instance that manages the game levels.
+     * Sets the layout of the maps of the random levels, which sets their size. Predefined levels have the default
+     * size, so they are played only if the layout is the default one.
+     * This method must be called before the first level is loaded.
      *
-     * @return The GameEngine instance associated with this GameLevelManager.
+     * @param mapLayout The layout of the random maps.
      */
-    public GameEngine getGameEngine() {
-        return getInstance().gameEngine;
+    public void setMapLayout(MapLayout mapLayout) {
+        this.mapLayout = mapLayout;
+        addPredefinedGameLevels();
     }
 
     /**
@@ -108,10 +117,22 @@ public class GameLevelManager implements Serializable {
      */
     public void addPredefinedGameLevels() {
         this.gameLevels.clear();
+        if (!getMapLayout().equals(MapLayout.DEFAULT)) return;  // Predefined maps have the default size
+
         // Add predefined game levels to the manager.
-        // For now only stage 1 is predefined one which is second stage in original Tank 1990 game.
-        GameLevel level = new GameLevel(Globals.MAP_PATH + String.format("stage-%02d.bin", 1));
-        this.gameLevels.add(level);
+        for (int i = 0; i < PREDEFINED_LEVEL_COUNT; i++) {
+            this.gameLevels.add(createPredefinedGameLevel(i));
+        }
+    }
+
+    /**
+     * Creates a predefined game level from its map file.
+     *
+     * @param levelIndex The index of the level.
+     * @return The game level.
+     */
+    private static GameLevel createPredefinedGameLevel(int levelIndex) {
+        return new GameLevel(Globals.MAP_PATH + String.format("stage-%02d.bin", levelIndex + 1));
     }
 
     /**
@@ -167,8 +188,6 @@ public class GameLevelManager implements Serializable {
         // Reset all game levels
         this.gameLevels.clear();
 
-        this.gameEngine = null;
-
         // Add predefined game levels again
         addPredefinedGameLevels();
     }
@@ -192,11 +211,12 @@ public class GameLevelManager implements Serializable {
      * @throws IndexOutOfBoundsException if the levelIndex is invalid.
      */
     private GameLevel loadLevel(int levelIndex) {
-        System.out.println("Loading level: " + levelIndex);
+        if (this.gameEngine!=null) this.gameEngine.log("Loading level: " + levelIndex);
 
         // Generate a new level info with random game map and enemy types if level index exceeds the size of gameLevels
         if (levelIndex >= this.gameLevels.size()) {
-            this.gameLevels.add(new GameLevel());
+            // Random levels are generated from a split generator, so that the size of the map does not affect the game
+            this.gameLevels.add(new GameLevel(this.gameEngine.getRandom().split(), getMapLayout()));
         }
 
         if (levelIndex < 0 || levelIndex >= this.gameLevels.size()) {
@@ -211,7 +231,9 @@ public class GameLevelManager implements Serializable {
 
         if (this.spawnTick!=null) this.spawnTick.reset();
 
-        return this.gameLevels.get(levelIndex);
+        GameLevel gameLevel = this.gameLevels.get(levelIndex);
+        gameLevel.setGameEngine(this.gameEngine);
+        return gameLevel;
     }
 
     /**
@@ -227,7 +249,7 @@ public class GameLevelManager implements Serializable {
 
         this.gameScore.setRemainingTankCount(gameLevel.getEnemyTankCounts());
 
-        if (gameLevel.getActiveEnemyTankCount()<4 && gameLevel.getEnemyTankCounts()>0) {
+        if (gameLevel.getActiveEnemyTankCount()<gameLevel.getLayout().getMaxActiveEnemyTankCount() && gameLevel.getEnemyTankCounts()>0) {
             if (this.spawnTick==null) {
                 this.spawnTick = new TimeTick(Utils.Time2GameTick(Globals.ENEMY_TANK_SPAWN_DELAY_MS));
                 this.spawnTick.setRepeats(0);  // Do not repeat
@@ -236,7 +258,7 @@ public class GameLevelManager implements Serializable {
 
             if (this.spawnTick.isTimeOut()) {
                 this.spawnTick.reset();
-                return gameLevel.spawnEnemyTank();
+                return gameLevel.spawnEnemyTank(this.gameEngine.getRandom());
             }
         }
 
@@ -308,4 +330,60 @@ public class GameLevelManager implements Serializable {
     public int getPlayerLives(PlayerType playerType) {
         return this.playersRemainingLives.getOrDefault(playerType, Globals.INITAL_PLAYER_HEALTH-1);  // Player tanks should be already spawned so decrease by 1 for the first time
     }
+
+    /**
+     * Writes the state of the manager and its current game level to a save game.
+     * Other levels are not saved: the previous ones are not needed anymore, and the next ones are either predefined or
+     * generated when they are reached.
+     *
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.currentLevelIndex);
+        out.writeInt(this.totalPlayerScore);
+        SaveGameWriter.writeTimeTick(out, this.spawnTick);
+
+        out.writeBoolean(this.gameScore != null);
+        if (this.gameScore != null) this.gameScore.writeState(out);
+
+        SaveGameWriter.writeEnumCounts(out, this.playersRemainingLives);
+
+        getCurrentLevel().writeState(out);
+    }
+
+    /**
+     * Creates a manager from a save game written by writeState().
+     *
+     * @param in The input to read from.
+     * @return The manager.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static GameLevelManager readState(DataInput in) throws IOException {
+        GameLevelManager manager = new GameLevelManager();
+        manager.currentLevelIndex = in.readInt();
+        if (manager.currentLevelIndex < 0) {
+            throw new StreamCorruptedException("Invalid level index: " + manager.currentLevelIndex);
+        }
+        manager.totalPlayerScore = in.readInt();
+        manager.spawnTick = SaveGameReader.readTimeTick(in, new TimeTick(Utils.Time2GameTick(Globals.ENEMY_TANK_SPAWN_DELAY_MS)));
+
+        if (in.readBoolean()) {
+            manager.gameScore = new GameScoreStruct();
+            manager.gameScore.readState(in);
+        }
+
+        manager.playersRemainingLives = SaveGameReader.readEnumCounts(in, PlayerType.values());
+
+        // Previous levels are not needed anymore, so their places are left empty.
+        for (int i = 0; i <= manager.currentLevelIndex; i++) {
+            manager.gameLevels.add(null);
+        }
+        for (int i = manager.currentLevelIndex + 1; i < PREDEFINED_LEVEL_COUNT; i++) {
+            manager.gameLevels.add(createPredefinedGameLevel(i));
+        }
+
+        manager.gameLevels.set(manager.currentLevelIndex, GameLevel.readState(in));
+        return manager;
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @class GameLoop
+ * @brief Fixed timestep loop that drives the simulation on its own thread.
+ * @details The loop accumulates elapsed wall-clock time and consumes it in steps of exactly one game tick, so the
+ * simulation advances identically regardless of how fast the renderer or the host machine is. Rendering never
+ * runs on this thread. In unbounded mode the wall clock is ignored and ticks run back to back, which is what
+ * headless runs (soak tests, batch simulations) use.
+ */
+public class GameLoop implements Runnable {
+    private static final int MAX_CATCH_UP_STEPS = 5;  /**< Upper bound of steps run in one iteration after a stall. */
+
+    private final Runnable step;                /**< Simulation step executed once per tick. */
+    private final long stepNanos;               /**< Length of a tick in nanoseconds. */
+
+    private volatile boolean isRunning = false;
+    private volatile boolean isUnbounded = false;
+    private volatile int speed = 1;             /**< Number of ticks run in the real time of a tick. */
+    private volatile Thread loopThread = null;
+    private volatile long tickCount = 0;
+
+    /**
+     * Constructs a GameLoop.
+     *
+     * @param step The simulation step executed once per tick.
+     * @param stepMs Length of a tick in milliseconds.
+     */
+    public GameLoop(Runnable step, int stepMs) {
+        this.step = step;
+        this.stepNanos = stepMs * 1_000_000L;
+    }
+
+    /**
+     * Starts the loop thread. Has no effect if the loop is already running.
+     * If a previous loop thread is still finishing its last tick, it is awaited first.
+     */
+    public synchronized void start() {
+        if (this.isRunning) return;
+
+        joinLoopThread();
+
+        this.isRunning = true;
+        this.loopThread = new Thread(this, "game-loop");
+        this.loopThread.setDaemon(true);
+        this.loopThread.start();
+    }
+
+    /**
+     * Stops the loop. When called from another thread, it waits until the tick in progress is finished so that the
+     * caller can safely access the game state afterward. When called from a simulation step, the loop simply ends
+     * after the current tick.
+     */
+    public void stop() {
+        this.isRunning = false;
+        joinLoopThread();
+    }
+
+    /**
+     * Checks if the loop is running.
+     * @return true if the loop is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * Sets whether the loop runs ticks back to back without pacing them to the wall clock.
+     * @param isUnbounded true to run as fast as possible, false to run in real time.
+     */
+    public void setUnbounded(boolean isUnbounded) {
+        this.isUnbounded = isUnbounded;
+    }
+
+    /**
+     * Checks if the loop runs ticks without pacing them to the wall clock.
+     * @return true if the loop runs as fast as possible, false otherwise.
+     */
+    public boolean isUnbounded() {
+        return this.isUnbounded;
+    }
+
+    /**
+     * Sets how many times faster than real time the loop runs, e.g. for fast-forwarding a replay.
+     * @param speed Number of ticks to run in the real time of a tick, at least 1.
+     */
+    public void setSpeed(int speed) {
+        this.speed = Math.max(1, speed);
+    }
+
+    /**
+     * Gets how many times faster than real time the loop runs.
+     * @return Number of ticks run in the real time of a tick.
+     */
+    public int getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * Gets the number of ticks executed by this loop since it was created.
+     * @return Number of executed ticks.
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    @Override
+    public void run() {
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+
+        while (this.isRunning && this.loopThread == Thread.currentThread()) {
+            if (this.isUnbounded) {
+                runStep();
+                previousTime = System.nanoTime();
+                continue;
+            }
+
+            // Simulation time advances faster than the wall clock when the loop is sped up
+            int speed = this.speed;
+            long currentTime = System.nanoTime();
+            accumulator += (currentTime - previousTime) * speed;
+            previousTime = currentTime;
+
+            // Do not try to catch up indefinitely after a long stall (e.g. debugger, GC pause)
+            accumulator = Math.min(accumulator, MAX_CATCH_UP_STEPS * speed * this.stepNanos);
+
+            while (accumulator >= this.stepNanos && this.isRunning) {
+                runStep();
+                accumulator -= this.stepNanos;
+            }
+
+            LockSupport.parkNanos((this.stepNanos - accumulator) / speed);
+        }
+    }
+
+    /**
+     * Runs a single simulation step. Errors are reported but do not kill the loop, same as a Swing timer would do.
+     */
+    private void runStep() {
+        try {
+            this.step.run();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+        this.tickCount++;
+    }
+
+    /**
+     * Waits for the loop thread to finish unless the caller is the loop thread itself.
+     */
+    private void joinLoopThread() {
+        Thread thread = this.loopThread;
+        if (thread == null || thread == Thread.currentThread()) return;
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
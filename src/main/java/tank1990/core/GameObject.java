@@ -24,6 +24,7 @@ package tank1990.core;
 
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
@@ -41,9 +42,18 @@ public abstract class GameObject implements Serializable {
     protected int width;
     protected int height;
 
+    @Serial
+    private static final long serialVersionUID = 8093673010765556093L;  // Keeps predefined maps (*.bin) loadable
+
     // Marked as transient since it can be reconstructed from other fields
     protected transient RectangleBound boundingBox = null;
 
+    // Index of the SpatialGrid cell which stores the object, -1 if it is not stored in any grid
+    private transient int spatialCell = -1;
+
+    // Index of the OccupancyMap cell which counts the object, -1 if it is not counted in any cell
+    private transient int occupiedCell = -1;
+
     /**
      * Gets x-coordinate of the object.
      * @return x-coordinate
@@ -106,6 +116,30 @@ public abstract class GameObject implements Serializable {
      */
     public void setSize(Dimension dimension) {this.width = (int) dimension.getWidth(); this.height = (int) dimension.getHeight();}
 
+    /**
+     * Gets the index of the spatial grid cell which stores the object.
+     * @return Cell index or -1 if the object is not stored in a grid
+     */
+    int getSpatialCell() { return this.spatialCell; }
+
+    /**
+     * Sets the index of the spatial grid cell which stores the object.
+     * @param spatialCell Cell index or -1 if the object is removed from the grid
+     */
+    void setSpatialCell(int spatialCell) { this.spatialCell = spatialCell; }
+
+    /**
+     * Gets the index of the occupancy map cell which counts the object.
+     * @return Cell index or -1 if the object is not counted in any cell
+     */
+    int getOccupiedCell() { return this.occupiedCell; }
+
+    /**
+     * Sets the index of the occupancy map cell which counts the object.
+     * @param occupiedCell Cell index or -1 if the object is removed from the occupancy map
+     */
+    void setOccupiedCell(int occupiedCell) { this.occupiedCell = occupiedCell; }
+
     /**
      * Draws the object on the given graphics context.
      * @param g Graphics context to draw on
@@ -130,6 +164,8 @@ public abstract class GameObject implements Serializable {
         in.defaultReadObject();
         // Reset transient fields after deserialization
         this.boundingBox = null;
+        this.spatialCell = -1;
+        this.occupiedCell = -1;
     }
 
     /**
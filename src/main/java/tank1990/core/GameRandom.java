@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * @class GameRandom
+ * @brief Seeded random number generator of a game session.
+ * @details All random decisions of the simulation (map generation, enemy spawns, powerups, enemy movement) are drawn
+ * from the generator of the game engine, so a game played with the same seed and the same player inputs is
+ * reproduced bit for bit. The generator is SplitMix64: its whole state is a single long, which makes it cheap to
+ * save, and none of its methods allocate. It is not thread-safe, and must only be used from the game loop.
+ *
+ * split() creates an independent generator, which is used for tasks that draw a varying number of values (e.g.
+ * generating a random map), so that they do not shift the values drawn by the rest of the simulation.
+ */
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;  /**< Increment of the state for each value. */
+
+    private long state;
+
+    /**
+     * Creates a generator with the given seed.
+     * @param seed Seed of the generator
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the next pseudorandom long value.
+     * @return A pseudorandom long value
+     */
+    public long nextLong() {
+        long z = (this.state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns a pseudorandom int value between zero (inclusive) and the bound (exclusive).
+     * @param bound Upper bound (exclusive), must be positive
+     * @return A pseudorandom int value in [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        // Multiply-shift mapping of the upper 32 bits, its bias is negligible for the small bounds of the game
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Returns a pseudorandom int value between the origin (inclusive) and the bound (exclusive).
+     * @param origin Lower bound (inclusive)
+     * @param bound Upper bound (exclusive), must be greater than the origin
+     * @return A pseudorandom int value in [origin, bound)
+     */
+    public int nextInt(int origin, int bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("Bound must be greater than origin");
+        }
+        return origin + nextInt(bound - origin);
+    }
+
+    /**
+     * Returns a pseudorandom double value between zero (inclusive) and one (exclusive).
+     * @return A pseudorandom double value in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Returns true with the given probability.
+     * @param percent Probability percentage (0-100)
+     * @return true with the given probability, false otherwise
+     */
+    public boolean nextProbability(int percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Probability must be between 0 and 100");
+        }
+        if (percent == 0) return false; // 0% chance
+        return nextInt(100) < percent;
+    }
+
+    /**
+     * Creates a new generator whose values are independent of the values drawn from this generator afterward.
+     * @return A new generator
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    /**
+     * Writes the state of the generator to a save game.
+     * @param out The output to write to
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(this.state);
+    }
+
+    /**
+     * Restores the state of the generator from a save game.
+     * @param in The input to read from
+     * @throws IOException If an I/O error occurs
+     */
+    public void readState(DataInput in) throws IOException {
+        this.state = in.readLong();
+    }
+}
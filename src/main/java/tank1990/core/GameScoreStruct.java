@@ -22,6 +22,9 @@
 
 package tank1990.core;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -30,6 +33,8 @@ import java.io.Serializable;
  * @details This class is used to store and manage the scores and statistics of a game session.
  */
 public class GameScoreStruct implements Serializable {
+    private static final long serialVersionUID = 4366788004708518124L;  // Keeps older serialized saves loadable
+
     private int hiScore = 0;
     private int totalScore = 0;
     private int playerRemainingLives = 0;
@@ -46,6 +51,27 @@ public class GameScoreStruct implements Serializable {
 
     public GameScoreStruct() { }
 
+    /**
+     * Creates a copy of the given scores.
+     * Events carry such copies so that observers never read the scores while the game loop updates them.
+     * @param other The scores to copy
+     */
+    public GameScoreStruct(GameScoreStruct other) {
+        this.hiScore = other.hiScore;
+        this.totalScore = other.totalScore;
+        this.playerRemainingLives = other.playerRemainingLives;
+        this.remainingTankCount = other.remainingTankCount;
+        this.reachedLevel = other.reachedLevel;
+        this.basicTankCount = other.basicTankCount;
+        this.fastTankCount = other.fastTankCount;
+        this.powerTankCount = other.powerTankCount;
+        this.armorTankCount = other.armorTankCount;
+        this.basicTankScore = other.basicTankScore;
+        this.fastTankScore = other.fastTankScore;
+        this.powerTankScore = other.powerTankScore;
+        this.armorTankScore = other.armorTankScore;
+    }
+
     public int getHiScore() {return this.hiScore; }
     public int getTotalScore() {return this.totalScore; }
     public int getPlayerRemainingLives() {return this.playerRemainingLives; }
@@ -74,4 +100,45 @@ public class GameScoreStruct implements Serializable {
     public void setPowerTankScore(int powerTankScore) { this.powerTankScore = powerTankScore; }
     public void setArmorTankScore(int armorTankScore) { this.armorTankScore = armorTankScore; }
 
+    /**
+     * Writes the scores to a save game.
+     * @param out The output to write to
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.hiScore);
+        out.writeInt(this.totalScore);
+        out.writeInt(this.playerRemainingLives);
+        out.writeInt(this.remainingTankCount);
+        out.writeInt(this.reachedLevel);
+        out.writeInt(this.basicTankCount);
+        out.writeInt(this.fastTankCount);
+        out.writeInt(this.powerTankCount);
+        out.writeInt(this.armorTankCount);
+        out.writeInt(this.basicTankScore);
+        out.writeInt(this.fastTankScore);
+        out.writeInt(this.powerTankScore);
+        out.writeInt(this.armorTankScore);
+    }
+
+    /**
+     * Restores the scores from a save game.
+     * @param in The input to read from
+     * @throws IOException If an I/O error occurs
+     */
+    public void readState(DataInput in) throws IOException {
+        this.hiScore = in.readInt();
+        this.totalScore = in.readInt();
+        this.playerRemainingLives = in.readInt();
+        this.remainingTankCount = in.readInt();
+        this.reachedLevel = in.readInt();
+        this.basicTankCount = in.readInt();
+        this.fastTankCount = in.readInt();
+        this.powerTankCount = in.readInt();
+        this.armorTankCount = in.readInt();
+        this.basicTankScore = in.readInt();
+        this.fastTankScore = in.readInt();
+        this.powerTankScore = in.readInt();
+        this.armorTankScore = in.readInt();
+    }
 }
@@ -38,6 +38,9 @@ public interface Globals {
     String CONFIGURATION_FILE = "config.ini";
 
     String DEFAULT_SAVE_LOCATION = "saves/";
+    String AUTOSAVE_FILENAME = "autosave.dat";
+    int AUTOSAVE_INTERVAL_MS = 60000;  // Period of autosaves while playing, 0 disables autosaves
+    String DEFAULT_REPLAY_LOCATION = "replays/";
 
     String GAME_TITLE = "TANK 1990 - NES";
     String COPYRIGHT_TEXT = "Viriliter 2025";
@@ -51,6 +54,9 @@ public interface Globals {
     int WINDOW_WIDTH = 1040;
     int WINDOW_HEIGHT = 780;
 
+    // Square gameplay area (3/4 of the window width at most)
+    int GAME_AREA_SIZE = Math.min(WINDOW_WIDTH * 3 / 4, WINDOW_HEIGHT);
+
     int GAMEOVER_OVERLAY_DURATION = 3000;
     int POPUP_OVERLAY_DURATION_MS = 3000;
 
@@ -69,6 +75,7 @@ public interface Globals {
     int BULLET_HEIGHT = 3;
     int BULLET_SPEED_PER_TICK = 3;         // It defines movementSpeed speed of bulletSpeed in pixels for each GameTick
     int BLAST_WIDTH = 8;
+    int PROJECTILE_POOL_SIZE = 64;         // Maximum number of released bullets and blasts kept for reuse
     int BLAST_HEIGHT = 8;
 
     // Powerup Parameters
@@ -82,7 +89,7 @@ public interface Globals {
     int FROZEN_COOLDOWN_MS = 5000;  // Cooldown for frozen powerup in milliseconds (Frozen is a powerup activates when either player or enemy tank collects frozen powerup)
     int HELMET_COOLDOWN_MS = 10000;  // Cooldown for helmet powerup in milliseconds (Helmet is a powerup activates when a tank collects helmet powerup)
 
-    // Map Dimensions
+    // Map Dimensions of the default map, which fits the game area. Larger maps scroll, see MapLayout.
     int COL_TILE_COUNT = 13;// * TILE_SUBDIVISION;
     int ROW_TILE_COUNT = 13;// * TILE_SUBDIVISION;
     int TILE_SUBDIVISION = 4;
@@ -103,6 +110,7 @@ public interface Globals {
     int KEY_PLAYER_2_MOVE_DOWN = KeyEvent.VK_S;
     int KEY_PLAYER_2_MOVE_LEFT = KeyEvent.VK_A;
     int KEY_PLAYER_2_MOVE_SHOOT = KeyEvent.KEY_LOCATION_LEFT;
+    int KEY_PROFILER_OVERLAY = KeyEvent.VK_F3;  // Shows or hides the tick profiler on the game area
     //KeyEvent.VK_CONTROL: 17: 00010001
     //KeyEvent.KEY_LOCATION_RIGHT: 3: 00000011
     //KeyEvent.KEY_LOCATION_LEFT: 2: 00000010
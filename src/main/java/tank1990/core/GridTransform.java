@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Dimension;
+
+/**
+ * @class GridTransform
+ * @brief Converts between pixel coordinates of the game area and tile indices of the map.
+ * @details The cell size is computed once, when the transform is created for a game area size, instead of on every
+ * conversion. Pixel coordinates are converted to indices with a multiplication by the reciprocal of the cell size
+ * instead of a division, and the grid locations of all tiles are created up front, so the conversions on the hot
+ * paths do not allocate. The conversions give the same results as the former Utils.loc2GridLoc() and
+ * Utils.gridLoc2Loc(): coordinates outside the map are clamped to its border tiles, and a tile is located at its center.
+ * Transforms are immutable, so they can be shared between threads and levels.
+ *
+ * The game area shows the default number of tiles. The tiles of a larger map have the same size, so the map extends
+ * beyond the game area, and the area covered by its cells (the world) is larger than the game area.
+ */
+public class GridTransform {
+    private static final int FRACTION_BITS = 32;
+
+    private static volatile GridTransform lastTransform = null;  // Transform returned by the last forGameArea() call
+
+    private final int rowCount;
+    private final int colCount;
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int width;              /**< Width of the area covered by the cells, larger X coordinates are clamped. */
+    private final int height;             /**< Height of the area covered by the cells, larger Y coordinates are clamped. */
+    private final long colReciprocal;     /**< 2^32 / cell width rounded up, or 0 if it is not exact and division is used. */
+    private final long rowReciprocal;     /**< 2^32 / cell height rounded up, or 0 if it is not exact and division is used. */
+    private final GridLocation[] gridLocations;  /**< Grid locations of the tiles, indexed by cell index. */
+
+    /**
+     * Constructs the transform of a game area which is divided into the given number of tiles.
+     *
+     * @param gameAreaSize Size of the game area in pixels
+     * @param rowCount Number of tile rows
+     * @param colCount Number of tile columns
+     */
+    public GridTransform(Dimension gameAreaSize, int rowCount, int colCount) {
+        this(Math.max(1, gameAreaSize.width / colCount), Math.max(1, gameAreaSize.height / rowCount), rowCount, colCount);
+    }
+
+    /**
+     * Constructs the transform of a map with the given number and size of tiles.
+     *
+     * @param cellWidth Width of a tile in pixels, at least 1
+     * @param cellHeight Height of a tile in pixels, at least 1
+     * @param rowCount Number of tile rows
+     * @param colCount Number of tile columns
+     */
+    private GridTransform(int cellWidth, int cellHeight, int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.width = this.cellWidth * colCount;
+        this.height = this.cellHeight * rowCount;
+        this.colReciprocal = reciprocal(this.cellWidth, this.width);
+        this.rowReciprocal = reciprocal(this.cellHeight, this.height);
+
+        this.gridLocations = new GridLocation[rowCount * colCount];
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < colCount; col++) {
+                this.gridLocations[row * colCount + col] = new GridLocation(row, col);
+            }
+        }
+    }
+
+    /**
+     * Gets the transform of a game area with the default number of tiles. The last transform is cached, so calling
+     * this method repeatedly with the same size does not create new transforms.
+     *
+     * @param gameAreaSize Size of the game area in pixels
+     * @return The transform of the game area
+     */
+    public static GridTransform forGameArea(Dimension gameAreaSize) {
+        GridTransform transform = lastTransform;
+        if (transform == null || !transform.matches(gameAreaSize, Globals.ROW_TILE_COUNT, Globals.COL_TILE_COUNT)) {
+            transform = new GridTransform(gameAreaSize, Globals.ROW_TILE_COUNT, Globals.COL_TILE_COUNT);
+            lastTransform = transform;
+        }
+        return transform;
+    }
+
+    /**
+     * Gets the transform of a map shown on a game area. The game area shows the default number of tiles, which sets
+     * the size of the tiles, and a larger map extends beyond it. The transform of a map with the default number of
+     * tiles is the same as forGameArea().
+     *
+     * @param gameAreaSize Size of the game area in pixels
+     * @param rowCount Number of tile rows of the map
+     * @param colCount Number of tile columns of the map
+     * @return The transform of the map
+     */
+    public static GridTransform forMap(Dimension gameAreaSize, int rowCount, int colCount) {
+        if (rowCount == Globals.ROW_TILE_COUNT && colCount == Globals.COL_TILE_COUNT) return forGameArea(gameAreaSize);
+
+        int cellWidth = Math.max(1, gameAreaSize.width / Globals.COL_TILE_COUNT);
+        int cellHeight = Math.max(1, gameAreaSize.height / Globals.ROW_TILE_COUNT);
+        return new GridTransform(cellWidth, cellHeight, rowCount, colCount);
+    }
+
+    public int getRowCount() { return this.rowCount; }
+
+    public int getColCount() { return this.colCount; }
+
+    public int getCellWidth() { return this.cellWidth; }
+
+    public int getCellHeight() { return this.cellHeight; }
+
+    public int getWidth() { return this.width; }
+
+    public int getHeight() { return this.height; }
+
+    /**
+     * Checks whether another transform has the same cells, so that grids built on one of them fit the other.
+     * @param other The other transform
+     * @return true if both transforms have the same number and size of cells
+     */
+    public boolean hasSameCells(GridTransform other) {
+        return other != null && this.rowCount == other.rowCount && this.colCount == other.colCount &&
+               this.cellWidth == other.cellWidth && this.cellHeight == other.cellHeight;
+    }
+
+    /**
+     * Gets the row index of the tile at a vertical position, clamped to the map.
+     * @param y Vertical position in pixels
+     * @return Row index of the tile
+     */
+    public int toRow(int y) {
+        if (y <= 0) return 0;
+        if (y >= this.height) return this.rowCount - 1;
+        return this.rowReciprocal != 0 ? (int) ((y * this.rowReciprocal) >>> FRACTION_BITS) : y / this.cellHeight;
+    }
+
+    /**
+     * Gets the column index of the tile at a horizontal position, clamped to the map.
+     * @param x Horizontal position in pixels
+     * @return Column index of the tile
+     */
+    public int toCol(int x) {
+        if (x <= 0) return 0;
+        if (x >= this.width) return this.colCount - 1;
+        return this.colReciprocal != 0 ? (int) ((x * this.colReciprocal) >>> FRACTION_BITS) : x / this.cellWidth;
+    }
+
+    /**
+     * Gets the cell index (row * column count + column) of the tile at a position, clamped to the map.
+     *
+     * @param x Horizontal position in pixels
+     * @param y Vertical position in pixels
+     * @return Cell index of the tile
+     */
+    public int toCellIndex(int x, int y) {
+        return toRow(y) * this.colCount + toCol(x);
+    }
+
+    /**
+     * Gets the grid location of the tile at a position, clamped to the map. The returned location is shared.
+     *
+     * @param x Horizontal position in pixels
+     * @param y Vertical position in pixels
+     * @return Grid location of the tile
+     */
+    public GridLocation toGridLocation(int x, int y) {
+        return this.gridLocations[toCellIndex(x, y)];
+    }
+
+    /**
+     * Gets the grid location of a tile. The returned location is shared.
+     *
+     * @param row Row index of the tile, must be within the map
+     * @param col Column index of the tile, must be within the map
+     * @return Grid location of the tile
+     */
+    public GridLocation getGridLocation(int row, int col) {
+        return this.gridLocations[row * this.colCount + col];
+    }
+
+    /**
+     * Gets the horizontal position of the center of a tile column.
+     * @param col Column index of the tile
+     * @return Horizontal position in pixels
+     */
+    public int toX(int col) {
+        return this.cellWidth * col + this.cellWidth / 2;
+    }
+
+    /**
+     * Gets the vertical position of the center of a tile row.
+     * @param row Row index of the tile
+     * @return Vertical position in pixels
+     */
+    public int toY(int row) {
+        return this.cellHeight * row + this.cellHeight / 2;
+    }
+
+    /**
+     * Gets the location of the center of a tile.
+     * @param gloc Grid location of the tile
+     * @return Location of the center of the tile
+     */
+    public Location toLocation(GridLocation gloc) {
+        return new Location(toX(gloc.colIndex()), toY(gloc.rowIndex()));
+    }
+
+    /**
+     * Checks if a position is exactly at the center of its tile.
+     *
+     * @param x Horizontal position in pixels
+     * @param y Vertical position in pixels
+     * @return true if the position is the center of a tile, false otherwise
+     */
+    public boolean isCellCenter(int x, int y) {
+        return x == toX(toCol(x)) && y == toY(toRow(y));
+    }
+
+    private boolean matches(Dimension gameAreaSize, int rowCount, int colCount) {
+        return this.rowCount == rowCount && this.colCount == colCount &&
+               this.cellWidth == Math.max(1, gameAreaSize.width / colCount) &&
+               this.cellHeight == Math.max(1, gameAreaSize.height / rowCount);
+    }
+
+    /**
+     * Computes the fixed-point reciprocal of a divisor, rounded up.
+     * floor(v * ceil(2^32 / d) / 2^32) equals floor(v / d) as long as v * d < 2^32, because the rounding error of the
+     * reciprocal, multiplied by v, stays below 1 / d.
+     *
+     * @param divisor Divisor, at least 1
+     * @param limit Values to divide are below this limit
+     * @return The reciprocal, or 0 if it would not be exact for all values below the limit
+     */
+    private static long reciprocal(int divisor, int limit) {
+        if ((long) limit * divisor >= (1L << FRACTION_BITS)) return 0;
+        return ((1L << FRACTION_BITS) + divisor - 1) / divisor;
+    }
+}
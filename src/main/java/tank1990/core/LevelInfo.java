@@ -34,6 +34,8 @@ import tank1990.tile.Tile;
  * @details This class is used to store the configuration of a level, including the arrangement of tiles and the number of enemy tanks.
  */
 public class LevelInfo implements Serializable {
+    private static final long serialVersionUID = 8776668758441950675L;  // Keeps predefined maps (*.bin) loadable
+
     public Tile[][] levelGrid;
     public HashMap<TankType, Integer> enemyTankCount;
 
@@ -41,4 +43,28 @@ public class LevelInfo implements Serializable {
         this.levelGrid = levelGrid;
         this.enemyTankCount = enemyTankCount;
     }
+
+    /**
+     * Gets the number of tile rows of the map.
+     * @return Number of rows
+     */
+    public int getRowCount() {
+        return this.levelGrid.length;
+    }
+
+    /**
+     * Gets the number of tile columns of the map.
+     * @return Number of columns
+     */
+    public int getColCount() {
+        return this.levelGrid[0].length;
+    }
+
+    /**
+     * Gets the layout of the map, which places the eagle and the spawn locations according to its size.
+     * @return Layout of the map
+     */
+    public MapLayout getLayout() {
+        return new MapLayout(getRowCount(), getColCount());
+    }
 }
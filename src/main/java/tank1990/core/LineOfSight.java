@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import tank1990.tile.Tile;
+import tank1990.tile.TileType;
+
+/**
+ * @class LineOfSight
+ * @brief Nearest bullet blockers of every tile of the level in the four directions.
+ * @details Each row and column of the level is split into the intervals between the tiles which stop a normal bullet
+ * without being destroyed (steel). For every tile, the tables keep the nearest such tile above, below, to the left and
+ * to the right of it, so checking whether a bullet fired from a tile reaches another tile in the same row or column
+ * takes constant time. Tiles which are destroyed by bullets (e.g. bricks) do not occlude, because shooting them opens
+ * the way to the target.
+ * When a tile is placed or removed, only its row and column are recomputed.
+ */
+public class LineOfSight {
+    private final int rowCount;
+    private final int colCount;
+    private final int[] blockerUp;     /**< Row of the nearest blocker above each tile, or -1. */
+    private final int[] blockerDown;   /**< Row of the nearest blocker below each tile, or rowCount. */
+    private final int[] blockerLeft;   /**< Column of the nearest blocker to the left of each tile, or -1. */
+    private final int[] blockerRight;  /**< Column of the nearest blocker to the right of each tile, or colCount. */
+
+    /**
+     * Constructs the tables of a level without any blockers. Call rebuild() to fill them.
+     *
+     * @param rowCount Number of tile rows of the level
+     * @param colCount Number of tile columns of the level
+     */
+    public LineOfSight(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.blockerUp = new int[rowCount * colCount];
+        this.blockerDown = new int[rowCount * colCount];
+        this.blockerLeft = new int[rowCount * colCount];
+        this.blockerRight = new int[rowCount * colCount];
+    }
+
+    /**
+     * Recomputes the tables of all tiles.
+     * @param map Tiles of the level
+     */
+    public void rebuild(Tile[][] map) {
+        for (int row = 0; row < this.rowCount; row++) updateRow(map, row);
+        for (int col = 0; col < this.colCount; col++) updateColumn(map, col);
+    }
+
+    /**
+     * Updates the tables after a tile is placed or removed.
+     *
+     * @param map Tiles of the level
+     * @param row Row index of the changed tile
+     * @param col Column index of the changed tile
+     */
+    public void update(Tile[][] map, int row, int col) {
+        updateRow(map, row);
+        updateColumn(map, col);
+    }
+
+    /**
+     * Checks if a bullet fired from a tile reaches a target tile without being stopped by a blocker.
+     * The target must be in front of the shooter, in the same row or column.
+     *
+     * @param row Row index of the shooter
+     * @param col Column index of the shooter
+     * @param dir Direction of the bullet
+     * @param targetRow Row index of the target
+     * @param targetCol Column index of the target
+     * @param isPiercing True if the bullet destroys the blockers as well (e.g. upgraded bullets)
+     * @return true if the bullet can reach the target, false otherwise
+     */
+    public boolean canHit(int row, int col, Direction dir, int targetRow, int targetCol, boolean isPiercing) {
+        int index = row * this.colCount + col;
+
+        return switch (dir) {
+            case DIRECTION_UPWARDS -> targetCol == col && targetRow < row && (isPiercing || this.blockerUp[index] < targetRow);
+            case DIRECTION_DOWNWARDS -> targetCol == col && targetRow > row && (isPiercing || this.blockerDown[index] > targetRow);
+            case DIRECTION_LEFT -> targetRow == row && targetCol < col && (isPiercing || this.blockerLeft[index] < targetCol);
+            case DIRECTION_RIGHT -> targetRow == row && targetCol > col && (isPiercing || this.blockerRight[index] > targetCol);
+            default -> false;
+        };
+    }
+
+    /**
+     * Checks if a tile stops normal bullets without being destroyed.
+     *
+     * @param tile The tile to check, or null for an empty tile
+     * @return true if the tile occludes the tiles behind it, false otherwise
+     */
+    public static boolean isBlocker(Tile tile) {
+        return tile != null && tile.getType() == TileType.TILE_STEEL;
+    }
+
+    private void updateRow(Tile[][] map, int row) {
+        int base = row * this.colCount;
+
+        int blocker = -1;
+        for (int col = 0; col < this.colCount; col++) {
+            this.blockerLeft[base + col] = blocker;
+            if (isBlocker(map[row][col])) blocker = col;
+        }
+
+        blocker = this.colCount;
+        for (int col = this.colCount - 1; col >= 0; col--) {
+            this.blockerRight[base + col] = blocker;
+            if (isBlocker(map[row][col])) blocker = col;
+        }
+    }
+
+    private void updateColumn(Tile[][] map, int col) {
+        int blocker = -1;
+        for (int row = 0; row < this.rowCount; row++) {
+            this.blockerUp[row * this.colCount + col] = blocker;
+            if (isBlocker(map[row][col])) blocker = row;
+        }
+
+        blocker = this.rowCount;
+        for (int row = this.rowCount - 1; row >= 0; row--) {
+            this.blockerDown[row * this.colCount + col] = blocker;
+            if (isBlocker(map[row][col])) blocker = row;
+        }
+    }
+}
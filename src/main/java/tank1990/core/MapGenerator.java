@@ -26,8 +26,8 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Scanner;
-import java.util.Random;
 
+import tank1990.player.PlayerType;
 import tank1990.tile.BlockConfiguration;
 import tank1990.tile.Tile;
 import tank1990.tile.TileFactory;
@@ -76,9 +76,14 @@ public class MapGenerator {
      * @param grid The 2D array of Tile objects representing the game grid.
      */
     public static void printGrid(Tile[][] grid) {
-        System.out.print("||===|===|===|===|===|===|===|===|===|===|===|===|===||\n");
-        for (int i = 0; i< Globals.ROW_TILE_COUNT; i++) {
-            for (int j = 0; j< Globals.COL_TILE_COUNT; j++) {
+        int rowCount = grid.length;
+        int colCount = grid[0].length;
+        String border = "||" + "===|".repeat(colCount - 1) + "===||\n";
+        String separator = "||" + "---|".repeat(colCount - 1) + "---||\n";
+
+        System.out.print(border);
+        for (int i = 0; i< rowCount; i++) {
+            for (int j = 0; j< colCount; j++) {
                 if (j==0) System.out.print("|");
 
                 String type = "";
@@ -98,12 +103,12 @@ public class MapGenerator {
                     System.out.printf("|-%s-", type);
                 }
 
-                if (j== Globals.COL_TILE_COUNT-1) System.out.print("||\n");
+                if (j== colCount-1) System.out.print("||\n");
             }
 
-            if (i!= Globals.ROW_TILE_COUNT-1) System.out.print("||---|---|---|---|---|---|---|---|---|---|---|---|---||\n");
+            if (i!= rowCount-1) System.out.print(separator);
         }
-        System.out.print("||===|===|===|===|===|===|===|===|===|===|===|===|===||\n");
+        System.out.print(border);
     }
 
     /**
@@ -128,12 +133,15 @@ public class MapGenerator {
      * Creates a LevelInfo object from a text file.
      * The first line of the text file should contain enemy tank types and their counts.
      * The subsequent lines should contain tile information in the format: TileType rowIndex colIndex [blockConfiguration].
+     * The map has the default size, unless a tile is placed beyond it, which extends the map to include the tile.
      * @param filePath The path to the text file containing level information.
      * @return LevelInfo object containing the grid and enemy tank count.
      * @throws FileNotFoundException if the specified file does not exist.
      */
     public static LevelInfo createFromText(String filePath) throws FileNotFoundException {
-        Tile[][] grid = new Tile[Globals.ROW_TILE_COUNT][Globals.COL_TILE_COUNT];
+        ArrayList<Tile> tiles = new ArrayList<>();
+        int rowCount = Globals.ROW_TILE_COUNT;
+        int colCount = Globals.COL_TILE_COUNT;
         HashMap<TankType, Integer> enemyTankCount = new HashMap<>();
 
         FileInputStream inputStream = new FileInputStream(filePath);
@@ -177,12 +185,21 @@ public class MapGenerator {
                     blockConf = BlockConfiguration.valueOf(Integer.parseInt(params[3]));
                 }
                 
-                grid[rowIndex][colIndex] = TileFactory.createTile(tileType, colIndex, rowIndex, blockConf);
+                tiles.add(TileFactory.createTile(tileType, colIndex, rowIndex, blockConf));
+                rowCount = Math.max(rowCount, rowIndex + 1);
+                colCount = Math.max(colCount, colIndex + 1);
             }
         } finally {
             scanner.close();
         }
 
+        // Tiles are placed after all of them are read, when the size of the map is known
+        Tile[][] grid = new Tile[rowCount][colCount];
+        for (Tile tile : tiles) {
+            GridLocation gloc = tile.getGridLocation();
+            grid[gloc.rowIndex()][gloc.colIndex()] = tile;
+        }
+
         return new LevelInfo(grid, enemyTankCount);
     }
 
@@ -190,11 +207,20 @@ public class MapGenerator {
      * Generates a random map of enemy tanks.
      * The method creates a HashMap with TankType as keys and random counts as values.
      * The total number of enemy tanks is set to 20, excluding the player tank.
+     * @param random The random number generator to use.
      * @return A HashMap containing TankType as keys and their respective counts as values.
      */
-    public static HashMap<TankType, Integer> generateRandomEnemies() {
-        Random random = new Random();
+    public static HashMap<TankType, Integer> generateRandomEnemies(GameRandom random) {
+        return generateRandomEnemies(random, MapLayout.DEFAULT.getEnemyTankCount());
+    }
 
+    /**
+     * Generates a random map of enemy tanks with the given total number of enemy tanks.
+     * @param random The random number generator to use.
+     * @param tankCount Total number of enemy tanks.
+     * @return A HashMap containing TankType as keys and their respective counts as values.
+     */
+    public static HashMap<TankType, Integer> generateRandomEnemies(GameRandom random, int tankCount) {
         HashMap<TankType, Integer> enemyMap = new HashMap<TankType, Integer>();
         for (int i=0; i<TankType.values().length; i++) {
             TankType key = TankType.valueOf(i);
@@ -204,7 +230,7 @@ public class MapGenerator {
             enemyMap.put(key, 0);
         }
 
-        for (int i=0; i<20; i++) {
+        for (int i=0; i<tankCount; i++) {
             int tankTypeId = random.nextInt(TankType.values().length);
             TankType key = TankType.valueOf(tankTypeId);
 
@@ -234,7 +260,7 @@ public class MapGenerator {
 
                 if (gLoc.rowIndex()+i<0 || gLoc.colIndex()+j<0) continue;
 
-                if (gLoc.rowIndex()+i>=Globals.ROW_TILE_COUNT || gLoc.colIndex()+j>=Globals.COL_TILE_COUNT) continue;
+                if (gLoc.rowIndex()+i>=grid.length || gLoc.colIndex()+j>=grid[0].length) continue;
 
                 Tile tile = grid[gLoc.rowIndex()+i][gLoc.colIndex()+j];
                 neighbors[i+1+j+1] = tile;
@@ -248,13 +274,13 @@ public class MapGenerator {
      * This method uses a random number generator to select a TileType from the TileType enum.
      * If the randomly selected type is TILE_EAGLE, it recursively calls itself to get another type.
      *
+     * @param random The random number generator to use.
      * @return A random TileType excluding TILE_EAGLE.
      */
-    public static TileType getRandomTileType() {
-        Random random = new Random();
+    public static TileType getRandomTileType(GameRandom random) {
         TileType tentativeTileType = TileType.valueOf(random.nextInt(TileType.values().length));
 
-        if (tentativeTileType == TileType.TILE_EAGLE) return getRandomTileType();
+        if (tentativeTileType == TileType.TILE_EAGLE) return getRandomTileType(random);
 
         return tentativeTileType;
     }
@@ -264,17 +290,28 @@ public class MapGenerator {
      * The grid is generated based on predefined locations for eagle protection and enemy spawn.
      * It uses random probabilities to determine tile types and configurations.
      *
+     * @param random The random number generator to use.
+     * @return A 2D array of Tile objects representing the generated grid.
+     */
+    public static Tile[][] generateRandomGrid(GameRandom random) {
+        return generateRandomGrid(random, MapLayout.DEFAULT);
+    }
+
+    /**
+     * Generates a random grid of tiles with the size of a map layout.
+     * The eagle and the spawn locations are placed by the layout.
+     *
+     * @param random The random number generator to use.
+     * @param layout The layout of the map.
      * @return A 2D array of Tile objects representing the generated grid.
      */
-    public static Tile[][] generateRandomGrid() {
-        Random random = new Random();
-
-        final GridLocation PROTECTION_LOCATION_1 = new GridLocation(11, 5);
-        final GridLocation PROTECTION_LOCATION_2 = new GridLocation(11, 6);
-        final GridLocation PROTECTION_LOCATION_3 = new GridLocation(11, 7);
-        final GridLocation PROTECTION_LOCATION_4 = new GridLocation(12, 5);
-        final GridLocation EAGLE_LOCATION = new GridLocation(12, 6);
-        final GridLocation PROTECTION_LOCATION_5 = new GridLocation(12, 7);
+    public static Tile[][] generateRandomGrid(GameRandom random, MapLayout layout) {
+        final GridLocation PROTECTION_LOCATION_1 = layout.anchor(new GridLocation(11, 5));
+        final GridLocation PROTECTION_LOCATION_2 = layout.anchor(new GridLocation(11, 6));
+        final GridLocation PROTECTION_LOCATION_3 = layout.anchor(new GridLocation(11, 7));
+        final GridLocation PROTECTION_LOCATION_4 = layout.anchor(new GridLocation(12, 5));
+        final GridLocation EAGLE_LOCATION = layout.anchor(new GridLocation(12, 6));
+        final GridLocation PROTECTION_LOCATION_5 = layout.anchor(new GridLocation(12, 7));
         ArrayList<GridLocation> eagleProtectionGridLocations = new ArrayList<>();
         eagleProtectionGridLocations.add(PROTECTION_LOCATION_1);
         eagleProtectionGridLocations.add(PROTECTION_LOCATION_2);
@@ -301,16 +338,14 @@ public class MapGenerator {
         blockedGridLocations.add(PROTECTION_LOCATION_4);
         blockedGridLocations.add(EAGLE_LOCATION);
         blockedGridLocations.add(PROTECTION_LOCATION_5);
-        blockedGridLocations.add(Globals.ENEMY_SPAWN_LOCATION_1);
-        blockedGridLocations.add(Globals.ENEMY_SPAWN_LOCATION_2);
-        blockedGridLocations.add(Globals.ENEMY_SPAWN_LOCATION_3);
-        blockedGridLocations.add(Globals.INITIAL_PLAYER_1_LOC);
-        blockedGridLocations.add(Globals.INITIAL_PLAYER_2_LOC);
+        blockedGridLocations.addAll(layout.getEnemySpawnLocations());
+        blockedGridLocations.add(layout.getPlayerSpawnLocation(PlayerType.PLAYER_1));
+        blockedGridLocations.add(layout.getPlayerSpawnLocation(PlayerType.PLAYER_2));
 
-        Tile[][] grid = new Tile[Globals.ROW_TILE_COUNT][Globals.COL_TILE_COUNT];
+        Tile[][] grid = new Tile[layout.rowCount()][layout.colCount()];
 
-        for (int r=0; r<Globals.ROW_TILE_COUNT; r++){
-            for (int c=0; c<Globals.ROW_TILE_COUNT; c++){
+        for (int r=0; r<layout.rowCount(); r++){
+            for (int c=0; c<layout.colCount(); c++){
                 GridLocation gLoc = new GridLocation(r, c);
 
                 if (blockedGridLocations.contains(gLoc)) continue;
@@ -320,11 +355,11 @@ public class MapGenerator {
                 Tile neighborTile = neighborTiles[random.nextInt(neighborTiles.length)];
                 TileType neighborTileType = (neighborTile==null)? TileType.TILE_NONE: neighborTile.getType();
                 
-                TileType tentativeTileType = Utils.getRandomProbability(50) ? neighborTileType: getRandomTileType();
+                TileType tentativeTileType = random.nextProbability(50) ? neighborTileType: getRandomTileType(random);
 
-                tentativeTileType = Utils.getRandomProbability(40) ? TileType.TILE_NONE: tentativeTileType; 
+                tentativeTileType = random.nextProbability(40) ? TileType.TILE_NONE: tentativeTileType; 
 
-                BlockConfiguration tentativeBlockConfiguration = Utils.getRandomProbability(80) ? BlockConfiguration.BLOCK_CONF_FULL: BlockConfiguration.valueOf(random.nextInt(0, BlockConfiguration.values().length-1));
+                BlockConfiguration tentativeBlockConfiguration = random.nextProbability(80) ? BlockConfiguration.BLOCK_CONF_FULL: BlockConfiguration.valueOf(random.nextInt(0, BlockConfiguration.values().length-1));
                 if (tentativeTileType != TileType.TILE_NONE && tentativeBlockConfiguration != BlockConfiguration.BLOCK_CONF_EMPTY) {
                     Tile tile = TileFactory.createTile(tentativeTileType, c, r, tentativeBlockConfiguration);
                     grid[r][c] = tile;
@@ -345,7 +380,7 @@ public class MapGenerator {
         grid[EAGLE_LOCATION.rowIndex()][EAGLE_LOCATION.colIndex()] = TileFactory.createTile(TileType.TILE_EAGLE, EAGLE_LOCATION.colIndex(), EAGLE_LOCATION.rowIndex(), BlockConfiguration.BLOCK_CONF_FULL);
 
         // Add extra steel tile in a random row for protection of eagle
-        int extraSteelRowIndex = random.nextInt(2, 10);
+        int extraSteelRowIndex = random.nextInt(2, layout.rowCount() - 3);
         grid[extraSteelRowIndex][EAGLE_LOCATION.colIndex()] = TileFactory.createTile(TileType.TILE_STEEL, EAGLE_LOCATION.colIndex(), extraSteelRowIndex, BlockConfiguration.BLOCK_CONF_FULL);
 
         return grid;
@@ -356,11 +391,24 @@ public class MapGenerator {
      * The grid is generated using the generateRandomGrid method, and the enemy tank counts
      * are generated using the generateRandomEnemies method.
      *
+     * @param random The random number generator to use.
+     * @return A LevelInfo object containing the generated grid and enemy tank counts.
+     */
+    public static LevelInfo generateRandomLevelInfo(GameRandom random) {
+        return generateRandomLevelInfo(random, MapLayout.DEFAULT);
+    }
+
+    /**
+     * Generates a random LevelInfo object with the size of a map layout.
+     * The number of enemy tanks grows with the size of the map, see MapLayout.getEnemyTankCount().
+     *
+     * @param random The random number generator to use.
+     * @param layout The layout of the map.
      * @return A LevelInfo object containing the generated grid and enemy tank counts.
      */
-    public static LevelInfo generateRandomLevelInfo() {
-        HashMap<TankType, Integer> enemyMap = generateRandomEnemies();
-        Tile[][] grid = generateRandomGrid();
+    public static LevelInfo generateRandomLevelInfo(GameRandom random, MapLayout layout) {
+        HashMap<TankType, Integer> enemyMap = generateRandomEnemies(random, layout.getEnemyTankCount());
+        Tile[][] grid = generateRandomGrid(random, layout);
 
         return new LevelInfo(grid, enemyMap);
     }
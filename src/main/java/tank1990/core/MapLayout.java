@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.List;
+
+import tank1990.player.PlayerType;
+
+/**
+ * @class MapLayout
+ * @brief Places the spawn locations on a map of any size, and scales the number of enemy tanks to its area.
+ * @details The locations of the default map (see Globals) are anchored to the borders of a larger map: the rows of
+ * the upper half keep their distance to the top border, and the others to the bottom border. The first and the last
+ * columns stay at the left and the right borders, and the other columns keep their distance to the middle column.
+ * So on every map the enemy tanks spawn at the top corners and in the middle of the top row, the eagle is in the
+ * middle of the bottom row, and the players start next to it. The layout of a map with the default size gives the
+ * locations and the enemy tank counts of the original game.
+ *
+ * @param rowCount Number of tile rows of the map, at least the default
+ * @param colCount Number of tile columns of the map, at least the default
+ */
+public record MapLayout(int rowCount, int colCount) {
+    public static final MapLayout DEFAULT = new MapLayout(Globals.ROW_TILE_COUNT, Globals.COL_TILE_COUNT);
+
+    private static final int DEFAULT_ENEMY_TANK_COUNT = 20;        // Enemy tanks of a random level of the default size
+    private static final int DEFAULT_MAX_ACTIVE_ENEMY_TANK_COUNT = 4;
+
+    public MapLayout {
+        if (rowCount < Globals.ROW_TILE_COUNT || colCount < Globals.COL_TILE_COUNT) {
+            throw new IllegalArgumentException("Map of " + rowCount + "x" + colCount + " tiles is smaller than the default map");
+        }
+    }
+
+    /**
+     * Parses the size of a map in the form of rowsxcolumns, e.g. 256x256.
+     *
+     * @param size Size of the map
+     * @return Layout of a map with the size
+     * @throws IllegalArgumentException If the size is not valid, or smaller than the default map
+     */
+    public static MapLayout parse(String size) {
+        String[] counts = size.trim().toLowerCase().split("x");
+        if (counts.length != 2) throw new IllegalArgumentException("Map size must be given as rowsxcolumns: " + size);
+
+        return new MapLayout(Integer.parseInt(counts[0]), Integer.parseInt(counts[1]));
+    }
+
+    /**
+     * Places a location of the default map on this map.
+     *
+     * @param defaultLocation Location on the default map
+     * @return The corresponding location on this map
+     */
+    public GridLocation anchor(GridLocation defaultLocation) {
+        int row = defaultLocation.rowIndex();
+        if (row >= Globals.ROW_TILE_COUNT / 2) row += this.rowCount - Globals.ROW_TILE_COUNT;
+
+        int col = defaultLocation.colIndex();
+        if (col == Globals.COL_TILE_COUNT - 1) {
+            col = this.colCount - 1;
+        } else if (col > 0) {
+            col += this.colCount / 2 - Globals.COL_TILE_COUNT / 2;
+        }
+
+        return new GridLocation(row, col);
+    }
+
+    /**
+     * Gets the location where the tank of a player spawns.
+     * @param playerType The player
+     * @return Spawn location of the player
+     */
+    public GridLocation getPlayerSpawnLocation(PlayerType playerType) {
+        return anchor(playerType == PlayerType.PLAYER_1 ? Globals.INITIAL_PLAYER_1_LOC : Globals.INITIAL_PLAYER_2_LOC);
+    }
+
+    /**
+     * Gets the locations where the enemy tanks spawn.
+     * @return Spawn locations of the enemy tanks
+     */
+    public List<GridLocation> getEnemySpawnLocations() {
+        return List.of(anchor(Globals.ENEMY_SPAWN_LOCATION_1),
+                       anchor(Globals.ENEMY_SPAWN_LOCATION_2),
+                       anchor(Globals.ENEMY_SPAWN_LOCATION_3));
+    }
+
+    /**
+     * Gets how many times the enemy tanks of the default map the map has. It grows with the square root of the area,
+     * so a map of 256x256 tiles has around 20 times the enemy tanks, instead of hundreds of times.
+     * @return Scale of the enemy tank counts, 1 for the default map
+     */
+    public int getEnemyScale() {
+        double areaRatio = (double) this.rowCount * this.colCount / (Globals.ROW_TILE_COUNT * Globals.COL_TILE_COUNT);
+        return Math.max(1, (int) Math.round(Math.sqrt(areaRatio)));
+    }
+
+    /**
+     * Gets the number of enemy tanks of a random level on the map.
+     * @return Number of enemy tanks
+     */
+    public int getEnemyTankCount() {
+        return DEFAULT_ENEMY_TANK_COUNT * getEnemyScale();
+    }
+
+    /**
+     * Gets the number of enemy tanks which can be on the map at the same time.
+     * @return Maximum number of active enemy tanks
+     */
+    public int getMaxActiveEnemyTankCount() {
+        return DEFAULT_MAX_ACTIVE_ENEMY_TANK_COUNT * getEnemyScale();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * @class ObjectPool
+ * @brief Keeps released game objects to be acquired again instead of allocating new ones.
+ * @details Short-lived objects such as bullets and blasts are created and discarded many times in a game. The pool
+ * hands out a released object if there is one, and creates a new object only when the pool is empty, so a game
+ * with a steady number of objects stops allocating them after warm-up. Acquired objects keep the state they had when
+ * they were released; the caller resets them before use. An object must not be used after it is released.
+ * A pool belongs to a single game engine and is not thread-safe.
+ *
+ * @tparam T Type of the pooled objects
+ */
+public class ObjectPool<T> {
+    private final Supplier<T> factory;
+    private final ArrayList<T> freeObjects;
+    private final int maxFreeCount;
+
+    private long createdCount = 0;
+    private long acquiredCount = 0;
+
+    /**
+     * Constructs an empty ObjectPool.
+     *
+     * @param factory Creates a new object when the pool is empty
+     * @param maxFreeCount Maximum number of released objects kept in the pool, the rest is left to the garbage collector
+     */
+    public ObjectPool(Supplier<T> factory, int maxFreeCount) {
+        this.factory = factory;
+        this.maxFreeCount = maxFreeCount;
+        this.freeObjects = new ArrayList<>(maxFreeCount);
+    }
+
+    /**
+     * Takes an object from the pool, or creates one if the pool is empty.
+     * @return An object to be reset by the caller
+     */
+    public T acquire() {
+        this.acquiredCount++;
+
+        int size = this.freeObjects.size();
+        if (size > 0) return this.freeObjects.remove(size - 1);
+
+        this.createdCount++;
+        return this.factory.get();
+    }
+
+    /**
+     * Returns an object to the pool. The object must not be used by the caller afterward.
+     * @param obj The object to release
+     */
+    public void release(T obj) {
+        if (obj == null || this.freeObjects.size() >= this.maxFreeCount) return;
+
+        this.freeObjects.add(obj);
+    }
+
+    /**
+     * Gets the number of released objects waiting in the pool.
+     * @return Number of free objects
+     */
+    public int getFreeCount() {
+        return this.freeObjects.size();
+    }
+
+    /**
+     * Gets the number of objects created by the pool, i.e. acquisitions which could not reuse an object.
+     * @return Number of created objects
+     */
+    public long getCreatedCount() {
+        return this.createdCount;
+    }
+
+    /**
+     * Gets the number of acquired objects, whether they are reused or created.
+     * @return Number of acquisitions
+     */
+    public long getAcquiredCount() {
+        return this.acquiredCount;
+    }
+}
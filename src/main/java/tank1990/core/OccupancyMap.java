@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Dimension;
+import java.util.Arrays;
+
+import tank1990.tank.AbstractTank;
+
+/**
+ * @class OccupancyMap
+ * @brief Keeps the number of tanks on every tile of the level.
+ * @details A tank occupies the tile which contains the top-left corner of its bounding box, and destroyed tanks do
+ * not occupy any tile. The map is updated incrementally whenever a tank spawns, moves or is destroyed, so checking
+ * whether a tile is occupied costs a single array read and allocates nothing.
+ */
+public class OccupancyMap {
+    private final int rowCount;
+    private final int colCount;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    private final int[] tankCounts;  /**< Number of tanks on each tile. */
+
+    /**
+     * Constructs an empty OccupancyMap covering the game area.
+     *
+     * @param gameAreaSize Size of the game area in pixels
+     * @param rowCount Number of tile rows
+     * @param colCount Number of tile columns
+     */
+    public OccupancyMap(Dimension gameAreaSize, int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.cellWidth = Math.max(1, gameAreaSize.width / colCount);
+        this.cellHeight = Math.max(1, gameAreaSize.height / rowCount);
+        this.tankCounts = new int[rowCount * colCount];
+    }
+
+    /**
+     * Updates the tile of a tank after it spawned, moved or was destroyed.
+     * @param tank The tank to update
+     */
+    public void update(AbstractTank tank) {
+        if (tank == null) return;
+
+        GameObject obj = tank;  // Cell bookkeeping is package-private in GameObject
+        int currentCell = obj.getOccupiedCell();
+        int newCell = tank.isDestroyed() ? -1 : cellIndexOf(obj);
+        if (newCell == currentCell) return;
+
+        if (currentCell >= 0) this.tankCounts[currentCell]--;
+        if (newCell >= 0) this.tankCounts[newCell]++;
+        obj.setOccupiedCell(newCell);
+    }
+
+    /**
+     * Removes a tank from the map. Has no effect if the tank is not counted in the map.
+     * @param tank The tank to remove
+     */
+    public void remove(AbstractTank tank) {
+        GameObject obj = tank;
+        if (obj == null || obj.getOccupiedCell() < 0) return;
+
+        this.tankCounts[obj.getOccupiedCell()]--;
+        obj.setOccupiedCell(-1);
+    }
+
+    /**
+     * Removes all tanks from the map.
+     * Tanks which were counted before must be added again with add() instead of update(), since they still refer to
+     * their old tiles.
+     */
+    public void clear() {
+        Arrays.fill(this.tankCounts, 0);
+    }
+
+    /**
+     * Counts a tank on its tile, regardless of the tile it refers to. This method is used to refill the map after
+     * clear(), or to fill a new map with the tanks of another one (e.g. a map of another size).
+     * @param tank The tank to add
+     */
+    public void add(AbstractTank tank) {
+        if (tank == null) return;
+
+        GameObject obj = tank;
+        int newCell = tank.isDestroyed() ? -1 : cellIndexOf(obj);
+        if (newCell >= 0) this.tankCounts[newCell]++;
+        obj.setOccupiedCell(newCell);
+    }
+
+    /**
+     * Checks if a tile is occupied by any tank.
+     *
+     * @param gloc Location of the tile
+     * @param exceptionLoc Location of a tank to ignore (e.g. the tank which asks), or null to count every tank
+     * @return true if the tile is occupied, false otherwise
+     */
+    public boolean isOccupied(GridLocation gloc, GridLocation exceptionLoc) {
+        if (gloc == null) return false;
+
+        int row = gloc.rowIndex();
+        int col = gloc.colIndex();
+        if (row < 0 || row >= this.rowCount || col < 0 || col >= this.colCount) return false;
+
+        int count = this.tankCounts[row * this.colCount + col];
+        if (gloc.equals(exceptionLoc)) count--;
+
+        return count > 0;
+    }
+
+    private int cellIndexOf(GameObject obj) {
+        // Top-left corner of the bounding box
+        int x = obj.getX() - (int) (obj.width * 0.5);
+        int y = obj.getY() - (int) (obj.height * 0.5);
+
+        int row = Math.max(Math.min(y / this.cellHeight, this.rowCount - 1), 0);
+        int col = Math.max(Math.min(x / this.cellWidth, this.colCount - 1), 0);
+        return row * this.colCount + col;
+    }
+}
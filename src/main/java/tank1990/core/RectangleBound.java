@@ -114,6 +114,13 @@ public class RectangleBound extends Rectangle {
      * @return True if the rectangles collide, false otherwise.
      */
     public static boolean isCollided(RectangleBound rb1, RectangleBound rb2) {
+        // Axis-aligned bounds do not need polygon conversion, which is the case for almost all game objects
+        if (rb1.rRad == 0.0 && rb2.rRad == 0.0) {
+            return rb1.width > 0 && rb1.height > 0 && rb2.width > 0 && rb2.height > 0 &&
+                   rb1.x < rb2.x + rb2.width && rb2.x < rb1.x + rb1.width &&
+                   rb1.y < rb2.y + rb2.height && rb2.y < rb1.y + rb1.height;
+        }
+
         Polygon p1 = rb1.getPolygon();
         Polygon p2 = rb2.getPolygon();
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @class RenderBuffer
+ * @brief Hands over the recorded frames from the simulation thread to the renderer without locking.
+ * @details The buffer has three frames: the back frame is recorded by the simulation, the front frame is drawn by the
+ * renderer, and the ready frame is the last completed one that neither of them uses. At the end of a tick the back
+ * and the ready frames are swapped, and before drawing the renderer swaps its front frame with the ready one if a newer
+ * frame has been completed. Both swaps are single atomic exchanges, so neither thread waits for the other, and a frame
+ * is never modified while it is drawn. Two frames would suffice only if the renderer always finished before the next
+ * tick, the third one lets a slow paint overlap with the recording of the next frames.
+ * There must be at most one recording thread and one drawing thread at a time.
+ */
+public class RenderBuffer {
+    private volatile RenderFrame back = new RenderFrame();
+    private final AtomicReference<RenderFrame> ready = new AtomicReference<>(new RenderFrame());
+    private RenderFrame front = new RenderFrame();  // Only accessed by the drawing thread
+    private volatile long publishedCount = 0;
+
+    /**
+     * Starts recording a new frame.
+     *
+     * @param tick Index of the tick
+     * @param level Game level that is active during the tick, or null if there is none
+     * @return The frame to record the game objects into
+     */
+    public RenderFrame beginFrame(long tick, GameLevel level) {
+        RenderFrame frame = this.back;
+        frame.begin(tick, level);
+        return frame;
+    }
+
+    /**
+     * Publishes the frame recorded since the last beginFrame() call to the renderer.
+     */
+    public void publish() {
+        this.publishedCount++;  // Only the recording thread writes the count
+        this.back.sequence = this.publishedCount;
+        this.back = this.ready.getAndSet(this.back);
+    }
+
+    /**
+     * Gets the most recent completed frame for drawing. The frame stays valid until the next call of this method.
+     * @return The frame to draw
+     */
+    public RenderFrame acquireFront() {
+        // The ready frame is the previous front frame if nothing was published since the last call
+        if (this.ready.get().sequence > this.front.sequence) {
+            this.front = this.ready.getAndSet(this.front);
+        }
+        return this.front;
+    }
+}
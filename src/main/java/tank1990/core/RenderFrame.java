@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * @class RenderFrame
+ * @brief Draw commands of the dynamic game objects for one rendered frame.
+ * @details The simulation thread records what the game objects look like at the end of a tick: positions, sizes,
+ * current animation frames and colors are copied into the frame, so the renderer never reads a game object.
+ * Commands are kept in parallel arrays which grow on demand and are reused for the next frames, so recording a frame
+ * does not allocate once the arrays are large enough.
+ * Commands recorded before beginUpperLayers() are drawn below the upper tiles of the map (e.g. trees), the rest above.
+ *
+ * @see RenderBuffer
+ */
+public class RenderFrame {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte KIND_IMAGE = 0;
+    private static final byte KIND_FILL_RECT = 1;
+    private static final byte KIND_DRAW_RECT = 2;
+    private static final byte KIND_DRAW_ROUND_RECT = 3;
+
+    long sequence = 0;                                      /**< Publication order of the frame, see RenderBuffer. */
+    private long tick = -1;                                 /**< Index of the tick this frame was recorded at. */
+    private GameLevel level = null;                         /**< Game level that was active during the tick. */
+    private TileSnapshot tiles = null;                      /**< Static tiles of the map at the end of the tick. */
+    private final Dimension gameAreaSize = new Dimension(); /**< Size of the game area the commands are scaled to. */
+    private int cameraX = 0;                                /**< Left edge of the part of the map shown in the game area. */
+    private int cameraY = 0;                                /**< Top edge of the part of the map shown in the game area. */
+
+    private int count = 0;
+    private int upperLayerStart = 0;                        /**< Index of the first command drawn above the map. */
+    private byte[] kind = new byte[INITIAL_CAPACITY];
+    private int[] x = new int[INITIAL_CAPACITY];
+    private int[] y = new int[INITIAL_CAPACITY];
+    private int[] width = new int[INITIAL_CAPACITY];
+    private int[] height = new int[INITIAL_CAPACITY];
+    private BufferedImage[] image = new BufferedImage[INITIAL_CAPACITY];
+    private Color[] color = new Color[INITIAL_CAPACITY];
+
+    private final Rectangle clip = new Rectangle();         /**< Reused clip area of the graphics context. */
+
+    /**
+     * Clears the frame to record the objects of a new tick.
+     *
+     * @param tick Index of the tick
+     * @param level Game level that is active during the tick, or null if there is none
+     */
+    public void begin(long tick, GameLevel level) {
+        this.tick = tick;
+        this.level = level;
+        if (level != null) {
+            this.gameAreaSize.setSize(level.getGameAreaSize());
+        } else {
+            this.gameAreaSize.setSize(Utils.getGameAreaDimension());
+        }
+        this.tiles = null;
+        this.cameraX = 0;
+        this.cameraY = 0;
+        // Images and colors are shared and immutable, so stale references of the previous frame are harmless
+        this.count = 0;
+        this.upperLayerStart = 0;
+    }
+
+    /**
+     * Sets the position of the camera, i.e. the top-left corner of the part of the map shown in the game area.
+     * Commands are recorded in map coordinates, and the renderer moves them by the camera.
+     *
+     * @param x X coordinate of the camera in the map
+     * @param y Y coordinate of the camera in the map
+     */
+    public void setCamera(int x, int y) {
+        this.cameraX = x;
+        this.cameraY = y;
+    }
+
+    /**
+     * Sets the snapshot of the static tiles of the map, which the renderer draws the map from.
+     * The snapshot is immutable, so it is shared with the game level instead of copied.
+     *
+     * @param tiles Snapshot of the tiles, or null if there is no map
+     */
+    public void setTiles(TileSnapshot tiles) {
+        this.tiles = tiles;
+    }
+
+    /**
+     * Starts the commands which are drawn above the upper tiles of the map.
+     */
+    public void beginUpperLayers() {
+        this.upperLayerStart = this.count;
+    }
+
+    /**
+     * Adds an image, scaled to the given size and centered at the given position.
+     *
+     * @param image Image to draw, the command is skipped if it is null
+     * @param x X coordinate of the center
+     * @param y Y coordinate of the center
+     * @param width Target width of the image
+     * @param height Target height of the image
+     */
+    public void addImage(BufferedImage image, int x, int y, int width, int height) {
+        if (image == null) return;
+        int i = add(KIND_IMAGE, x, y, width, height);
+        this.image[i] = image;
+    }
+
+    /**
+     * Adds a filled rectangle.
+     *
+     * @param color Fill color
+     * @param x X coordinate of the top-left corner
+     * @param y Y coordinate of the top-left corner
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     */
+    public void fillRect(Color color, int x, int y, int width, int height) {
+        int i = add(KIND_FILL_RECT, x, y, width, height);
+        this.color[i] = color;
+    }
+
+    /**
+     * Adds the outline of a rectangle.
+     *
+     * @param color Outline color
+     * @param x X coordinate of the top-left corner
+     * @param y Y coordinate of the top-left corner
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     */
+    public void drawRect(Color color, int x, int y, int width, int height) {
+        int i = add(KIND_DRAW_RECT, x, y, width, height);
+        this.color[i] = color;
+    }
+
+    /**
+     * Adds the outline of a rectangle with round corners.
+     *
+     * @param color Outline color
+     * @param x X coordinate of the top-left corner
+     * @param y Y coordinate of the top-left corner
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     */
+    public void drawRoundRect(Color color, int x, int y, int width, int height) {
+        int i = add(KIND_DRAW_ROUND_RECT, x, y, width, height);
+        this.color[i] = color;
+    }
+
+    /**
+     * Draws the commands which are below the upper tiles of the map.
+     * @param g Graphics context to draw on
+     */
+    public void drawLowerLayers(Graphics g) {
+        draw(g, 0, this.upperLayerStart);
+    }
+
+    /**
+     * Draws the commands which are above the upper tiles of the map.
+     * @param g Graphics context to draw on
+     */
+    public void drawUpperLayers(Graphics g) {
+        draw(g, this.upperLayerStart, this.count);
+    }
+
+    public long getTick() { return this.tick; }
+
+    public GameLevel getLevel() { return this.level; }
+
+    public TileSnapshot getTiles() { return this.tiles; }
+
+    public int getCameraX() { return this.cameraX; }
+
+    public int getCameraY() { return this.cameraY; }
+
+    /**
+     * Gets the size of the game area the objects are scaled to. The returned dimension must not be modified.
+     * @return Size of the game area
+     */
+    public Dimension getGameAreaSize() { return this.gameAreaSize; }
+
+    public int size() { return this.count; }
+
+    private int add(byte kind, int x, int y, int width, int height) {
+        if (this.count == this.kind.length) grow();
+
+        int i = this.count++;
+        this.kind[i] = kind;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        return i;
+    }
+
+    private void grow() {
+        int capacity = this.kind.length * 2;
+        this.kind = Arrays.copyOf(this.kind, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.image = Arrays.copyOf(this.image, capacity);
+        this.color = Arrays.copyOf(this.color, capacity);
+    }
+
+    private void draw(Graphics g, int from, int to) {
+        TextureRegistry textureRegistry = TextureRegistry.getInstance();
+
+        // Commands outside the clip area (e.g. off-screen parts of a large map) are skipped
+        this.clip.setBounds(Integer.MIN_VALUE / 2, Integer.MIN_VALUE / 2, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        g.getClipBounds(this.clip);
+        int clipLeft = this.clip.x;
+        int clipTop = this.clip.y;
+        int clipRight = this.clip.x + this.clip.width;
+        int clipBottom = this.clip.y + this.clip.height;
+
+        for (int i = from; i < to; i++) {
+            int w = this.width[i];
+            int h = this.height[i];
+            // Images are centered at their position, the others start at it. Outlines are one pixel larger.
+            int left = this.kind[i] == KIND_IMAGE ? this.x[i] - w / 2 : this.x[i];
+            int top = this.kind[i] == KIND_IMAGE ? this.y[i] - h / 2 : this.y[i];
+            if (left >= clipRight || top >= clipBottom || left + w < clipLeft || top + h < clipTop) continue;
+
+            switch (this.kind[i]) {
+                case KIND_IMAGE -> {
+                    // Scaled variant is cached by the registry, so the image is not rescaled on every frame
+                    BufferedImage scaled = textureRegistry.getScaled(this.image[i], w, h);
+                    if (scaled != null) g.drawImage(scaled, left, top, null);
+                }
+                case KIND_FILL_RECT -> {
+                    g.setColor(this.color[i]);
+                    g.fillRect(this.x[i], this.y[i], w, h);
+                }
+                case KIND_DRAW_RECT -> {
+                    g.setColor(this.color[i]);
+                    g.drawRect(this.x[i], this.y[i], w, h);
+                }
+                case KIND_DRAW_ROUND_RECT -> {
+                    g.setColor(this.color[i]);
+                    g.drawRoundRect(this.x[i], this.y[i], w, h, 5, 5);
+                }
+                default -> { }
+            }
+        }
+    }
+}
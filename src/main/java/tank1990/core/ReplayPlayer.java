@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.Queue;
+
+import tank1990.player.PlayerAction;
+import tank1990.player.PlayerInput;
+import tank1990.player.PlayerType;
+
+/**
+ * @class ReplayPlayer
+ * @brief Plays a game session recorded by ReplayRecorder again.
+ * @details The player creates a game engine with the recorded game mode and seed, and the engine takes the inputs of
+ * each tick from the player instead of the keyboard. The engine stops by itself at the last tick of the replay.
+ * The engine can be run headless as fast as possible, or rendered by a game panel in real time or faster, see
+ * GameEngine.setPlaybackSpeed(). Records are read lazily, so replays of any length are played in constant memory.
+ */
+public class ReplayPlayer implements Closeable {
+    private final DataInputStream in;
+    private final GameMode gameMode;
+    private final long seed;
+
+    private long nextTick = 0;          /**< Tick of the next record. */
+    private int nextCode = -1;          /**< Input code of the next record, -1 if there are no records left. */
+    private long endTick = -1;          /**< Last tick of the replay, -1 if not reached yet or not recorded. */
+
+    /**
+     * Creates a replay player and reads the header of the replay. The stream is buffered by the player, and closed
+     * with it. If the header cannot be read, the stream is closed before the exception is thrown.
+     * @param inputStream The stream to read from
+     * @throws IOException If an I/O error occurs, or the stream is not a replay of a supported version
+     */
+    public ReplayPlayer(InputStream inputStream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(inputStream));
+
+        try {
+            if (this.in.readInt() != ReplayRecorder.MAGIC) {
+                throw new StreamCorruptedException("Not a replay file");
+            }
+
+            short version = this.in.readShort();
+            if (version != ReplayRecorder.VERSION) {
+                throw new StreamCorruptedException("Unsupported replay version: " + version);
+            }
+
+            this.gameMode = SaveGameReader.readEnum(this.in, GameMode.values());
+            this.seed = this.in.readLong();
+        } catch (IOException e) {
+            this.in.close();
+            throw e;
+        }
+
+        readRecord();
+    }
+
+    /**
+     * Gets the recorded game mode.
+     * @return The game mode of the session
+     */
+    public GameMode getGameMode() {
+        return this.gameMode;
+    }
+
+    /**
+     * Gets the recorded seed.
+     * @return The seed of the game session
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Creates a game engine which plays this replay. The game level manager must be in the state of a new game.
+     * @return The game engine
+     */
+    public GameEngine createEngine() {
+        GameEngine engine = new GameEngine(this.gameMode, this.seed);
+        engine.setReplayPlayer(this);
+        return engine;
+    }
+
+    /**
+     * Checks if the replay is over at the given tick.
+     * @param tick The tick to check
+     * @return true if there is nothing left to play after the given tick, false otherwise
+     */
+    public boolean isFinished(long tick) {
+        if (this.endTick >= 0) return tick >= this.endTick;
+
+        // Replay was not completed (e.g. the game crashed), play until the last input
+        return this.nextCode < 0 && tick >= this.nextTick;
+    }
+
+    /**
+     * Adds the recorded inputs of the given tick to the queue.
+     * This method is called by the game engine at the beginning of each tick.
+     * @param tick The current tick
+     * @param inputs The queue to add the inputs to
+     */
+    void queueInputs(long tick, Queue<PlayerInput> inputs) {
+        if (this.nextCode >= 0 && this.nextTick < tick) {
+            System.err.println("Replay is out of sync at tick " + tick + ", expected an input at tick " + this.nextTick);
+        }
+
+        while (this.nextCode >= 0 && this.nextTick <= tick) {
+            PlayerInput input = decodeInput(this.nextCode);
+            if (input != null) inputs.add(input);
+            readRecord();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * Reads the next record. At the end of the replay, nextCode is set to -1.
+     */
+    private void readRecord() {
+        this.nextCode = -1;
+        try {
+            long delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = this.in.readUnsignedByte();
+                delta |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) break;
+                if (shift > 56) throw new StreamCorruptedException("Invalid tick in replay");
+            }
+            int code = this.in.readUnsignedByte();
+
+            this.nextTick += delta;
+            if (code == ReplayRecorder.END_OF_REPLAY) {
+                this.endTick = this.nextTick;
+                return;
+            }
+            this.nextCode = code;
+        } catch (EOFException e) {
+            // Replay ends without an end record, the last record may be incomplete
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Decodes an input code written by ReplayRecorder.
+     * @return The input, or null if the code is invalid
+     */
+    private static PlayerInput decodeInput(int code) {
+        PlayerType[] playerTypes = PlayerType.values();
+        PlayerAction[] actions = PlayerAction.values();
+        int playerType = code >>> 4;
+        int action = code & 0x0F;
+        if (playerType >= playerTypes.length || action >= actions.length) {
+            System.err.println("Invalid input in replay: " + code);
+            return null;
+        }
+        return new PlayerInput(playerTypes[playerType], actions[action]);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import tank1990.player.PlayerInput;
+
+/**
+ * @class ReplayRecorder
+ * @brief Records the player inputs of a game session to an append-only replay stream.
+ * @details The simulation is deterministic for a given seed, so the seed and the player inputs together with the
+ * ticks they are applied in are enough to play a game session again. Inputs are recorded by the game engine when
+ * they are applied at the beginning of a tick, not when the keys are pressed, so the replay does not depend on the
+ * timing of the Swing events.
+ *
+ * Layout of the format (version 1):
+ * - Header: magic number "T90R" (int), format version (short), game mode (byte), seed (long)
+ * - Records until the end of the stream: number of ticks since the previous record (unsigned varint), then an input
+ *   code (byte), which is the player type in the upper four bits and the player action in the lower four bits.
+ *   The code END_OF_REPLAY marks the last tick of the session, and it is the last record of a completed replay.
+ *   A replay without it (e.g. after a crash) is played until its last input.
+ */
+public class ReplayRecorder implements Closeable {
+    public static final int MAGIC = 0x54393052;  /**< "T90R", identifies replay files. */
+    public static final short VERSION = 1;       /**< Version of the replay format. */
+
+    static final int END_OF_REPLAY = 0xFF;       /**< Input code of the record that ends the replay. */
+
+    private final DataOutputStream out;
+    private long lastTick = 0;                   /**< Tick of the last record. */
+    private boolean isFlushNeeded = false;
+
+    /**
+     * Creates a replay recorder and writes the header of the replay. The stream is buffered by the recorder.
+     * @param outputStream The stream to write to
+     * @param gameMode The game mode of the session
+     * @param seed The seed of the game session
+     * @throws IOException If an I/O error occurs
+     */
+    public ReplayRecorder(OutputStream outputStream, GameMode gameMode, long seed) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        this.out.writeInt(MAGIC);
+        this.out.writeShort(VERSION);
+        this.out.writeByte(gameMode.ordinal());
+        this.out.writeLong(seed);
+        this.out.flush();
+    }
+
+    /**
+     * Records an input applied in the given tick.
+     * @param tick The tick the input is applied in, not less than the tick of the previous record
+     * @param input The input of the player
+     * @throws IOException If an I/O error occurs
+     */
+    public void record(long tick, PlayerInput input) throws IOException {
+        writeRecord(tick, input.playerType().ordinal() << 4 | input.action().ordinal());
+    }
+
+    /**
+     * Records the last tick of the session. Nothing must be recorded afterward.
+     * @param tick The last tick of the session
+     * @throws IOException If an I/O error occurs
+     */
+    public void recordEnd(long tick) throws IOException {
+        writeRecord(tick, END_OF_REPLAY);
+        flush();
+    }
+
+    /**
+     * Writes the buffered records to the underlying stream, if there are any.
+     * The game engine flushes the recorder at the end of each tick with inputs, so the replay of a crashed game
+     * still contains the inputs until the crash.
+     * @throws IOException If an I/O error occurs
+     */
+    public void flush() throws IOException {
+        if (!this.isFlushNeeded) return;
+
+        this.out.flush();
+        this.isFlushNeeded = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    /**
+     * Writes a record with the tick encoded as the distance to the previous record.
+     */
+    private void writeRecord(long tick, int code) throws IOException {
+        long delta = tick - this.lastTick;
+        if (delta < 0) {
+            throw new IllegalArgumentException("Ticks must be recorded in order");
+        }
+        this.lastTick = tick;
+
+        // Unsigned varint, 7 bits per byte. Inputs are mostly a few ticks apart, so one byte is usually enough.
+        while (delta >= 0x80) {
+            this.out.writeByte((int) (delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        this.out.writeByte((int) delta);
+        this.out.writeByte(code);
+        this.isFlushNeeded = true;
+    }
+}
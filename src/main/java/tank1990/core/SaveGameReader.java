@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import tank1990.player.Player;
+import tank1990.player.PlayerType;
+import tank1990.powerup.AbstractPowerup;
+import tank1990.powerup.PowerupFactory;
+import tank1990.powerup.PowerupType;
+import tank1990.projectiles.Blast;
+import tank1990.projectiles.Bullet;
+import tank1990.projectiles.BulletStore;
+import tank1990.tank.AbstractTank;
+import tank1990.tank.Enemy;
+import tank1990.tank.TankFactory;
+import tank1990.tank.TankType;
+
+/**
+ * @class SaveGameReader
+ * @brief Reads a game from a stream in the binary save game format.
+ * @details The sections must be read in the order they are written by SaveGameWriter, which also documents the format.
+ * Game objects are created with their factories, so textures come from the TextureRegistry and are not decoded again.
+ */
+public class SaveGameReader implements Closeable {
+    private final DataInputStream in;
+    private final ArrayList<AbstractTank> tanks = new ArrayList<>();  /**< Tanks in the order they are read, referenced by bullets. */
+
+    /**
+     * Creates a save game reader. The stream is buffered by the reader.
+     * @param inputStream The stream to read from
+     */
+    public SaveGameReader(InputStream inputStream) {
+        this.in = new DataInputStream(new BufferedInputStream(inputStream));
+    }
+
+    /**
+     * Reads and verifies the header of the save game.
+     * @return The game mode of the saved game
+     * @throws IOException If an I/O error occurs, or the stream is not a save game of a supported version
+     */
+    public GameMode readHeader() throws IOException {
+        if (this.in.readInt() != SaveGameWriter.MAGIC) {
+            throw new StreamCorruptedException("Not a save game file");
+        }
+
+        short version = this.in.readShort();
+        if (version != SaveGameWriter.VERSION) {
+            throw new StreamCorruptedException("Unsupported save game version: " + version);
+        }
+
+        return readEnum(this.in, GameMode.values());
+    }
+
+    /**
+     * Restores the state of the random number generator of the game session.
+     * @param random The random number generator to restore
+     * @throws IOException If an I/O error occurs
+     */
+    public void readRandom(GameRandom random) throws IOException {
+        random.readState(this.in);
+    }
+
+    /**
+     * Reads the game level manager together with its current game level.
+     * @return The game level manager
+     * @throws IOException If an I/O error occurs
+     */
+    public GameLevelManager readGameLevelManager() throws IOException {
+        return GameLevelManager.readState(this.in);
+    }
+
+    /**
+     * Reads the players and their tanks.
+     * @return The players
+     * @throws IOException If an I/O error occurs
+     */
+    public ArrayList<Player> readPlayers() throws IOException {
+        int count = this.in.readInt();
+        ArrayList<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Player player = new Player(readEnum(this.in, PlayerType.values()));
+            player.readState(this.in);
+            players.add(player);
+            this.tanks.add(player.getTank());
+        }
+        return players;
+    }
+
+    /**
+     * Reads the enemy tanks.
+     * @return The enemy tanks
+     * @throws IOException If an I/O error occurs
+     */
+    public ArrayList<Enemy> readEnemies() throws IOException {
+        int count = this.in.readInt();
+        ArrayList<Enemy> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AbstractTank tank = TankFactory.createTank(readEnum(this.in, TankType.values()), 0, 0);
+            if (!(tank instanceof Enemy enemy)) {
+                throw new StreamCorruptedException("Invalid enemy tank type");
+            }
+            tank.readState(this.in);
+            enemies.add(enemy);
+            this.tanks.add(tank);
+        }
+        return enemies;
+    }
+
+    /**
+     * Reads the bullets. Players and enemies must be read before the bullets.
+     * @return The bullets
+     * @throws IOException If an I/O error occurs
+     */
+    public ArrayList<Bullet> readBullets() throws IOException {
+        int count = this.in.readInt();
+        ArrayList<Bullet> bullets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AbstractTank owner = readOwner();
+
+            Bullet bullet = new Bullet(owner, 0, 0, Direction.DIRECTION_UPWARDS, Globals.BULLET_SPEED_PER_TICK);
+            bullet.readState(this.in);
+            bullets.add(bullet);
+        }
+        return bullets;
+    }
+
+    /**
+     * Reads the bullets of the bullet store. Players and enemies must be read before the bullets.
+     * @param bulletStore The bullet store to add the bullets to, which is cleared first
+     * @throws IOException If an I/O error occurs
+     */
+    public void readBulletStore(BulletStore bulletStore) throws IOException {
+        bulletStore.clear();
+
+        int count = this.in.readInt();
+        for (int i = 0; i < count; i++) {
+            AbstractTank owner = readOwner();
+            bulletStore.readBullet(this.in, owner);
+        }
+    }
+
+    /**
+     * Reads the owner of a bullet, written as a reference to a tank which is already read.
+     * @return The tank that fired the bullet
+     * @throws IOException If an I/O error occurs, or the reference is invalid
+     */
+    private AbstractTank readOwner() throws IOException {
+        int ownerIndex = this.in.readInt();
+
+        if (ownerIndex >= 0 && ownerIndex < this.tanks.size()) {
+            return this.tanks.get(ownerIndex);
+        } else if (ownerIndex == -1) {
+            // Owner is not in the game anymore, a tank of the same type stands in for it
+            return TankFactory.createTank(readEnum(this.in, TankType.values()), 0, 0);
+        } else {
+            throw new StreamCorruptedException("Invalid bullet owner: " + ownerIndex);
+        }
+    }
+
+    /**
+     * Reads the powerups.
+     * @return The powerups
+     * @throws IOException If an I/O error occurs
+     */
+    public ArrayList<AbstractPowerup> readPowerups() throws IOException {
+        int count = this.in.readInt();
+        ArrayList<AbstractPowerup> powerups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AbstractPowerup powerup = PowerupFactory.createPowerup(readEnum(this.in, PowerupType.values()), 0, 0);
+            powerup.readState(this.in);
+            powerups.add(powerup);
+        }
+        return powerups;
+    }
+
+    /**
+     * Reads the blast effects.
+     * @return The blast effects
+     * @throws IOException If an I/O error occurs
+     */
+    public ArrayList<Blast> readBlasts() throws IOException {
+        int count = this.in.readInt();
+        ArrayList<Blast> blasts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Blast blast = new Blast(0, 0);
+            blast.readState(this.in);
+            blasts.add(blast);
+        }
+        return blasts;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * Reads a grid location written by SaveGameWriter.writeGridLocation().
+     * @param in The input to read from
+     * @return The grid location, or null
+     * @throws IOException If an I/O error occurs
+     */
+    public static GridLocation readGridLocation(DataInput in) throws IOException {
+        int rowIndex = in.readShort();
+        int colIndex = in.readShort();
+        return rowIndex >= 0 ? new GridLocation(rowIndex, colIndex) : null;
+    }
+
+    /**
+     * Reads a timer written by SaveGameWriter.writeTimeTick().
+     * @param in The input to read from
+     * @param timeTick The timer to restore, which is used only if the saved timer is not null
+     * @return The restored timer, or null if the saved timer is null
+     * @throws IOException If an I/O error occurs
+     */
+    public static TimeTick readTimeTick(DataInput in, TimeTick timeTick) throws IOException {
+        if (!in.readBoolean()) return null;
+
+        timeTick.readState(in);
+        return timeTick;
+    }
+
+    /**
+     * Reads counts by enum constants written by SaveGameWriter.writeEnumCounts().
+     * @param in The input to read from
+     * @param constants Constants of the enum, i.e. values()
+     * @return The counts
+     * @throws IOException If an I/O error occurs
+     */
+    public static <E extends Enum<E>> HashMap<E, Integer> readEnumCounts(DataInput in, E[] constants) throws IOException {
+        int size = in.readUnsignedByte();
+        HashMap<E, Integer> counts = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            E key = readEnum(in, constants);
+            counts.put(key, in.readInt());
+        }
+        return counts;
+    }
+
+    /**
+     * Reads an enum constant written as its ordinal in a byte.
+     * @param in The input to read from
+     * @param constants Constants of the enum, i.e. values()
+     * @return The enum constant
+     * @throws IOException If an I/O error occurs, or the ordinal is out of range
+     */
+    public static <E extends Enum<E>> E readEnum(DataInput in, E[] constants) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= constants.length) {
+            throw new StreamCorruptedException("Invalid " + constants.getClass().getComponentType().getSimpleName() + ": " + ordinal);
+        }
+        return constants[ordinal];
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * @class SaveGameWorker
+ * @brief Writes encoded save games to files on a background thread.
+ * @details The game state is encoded on the game loop thread at a tick boundary, which only takes a fraction of a
+ * tick. Writing the file is the slow part, and it is done here on a single thread shared by all game engines, so
+ * neither the simulation nor the rendering waits for the disk. Save games are written in the order they are submitted.
+ *
+ * A save game is first written to a temporary file next to the target, forced to the disk, and then renamed over the
+ * target. Therefore, the target is either the previous save game or the new one, but never a partially written file,
+ * even if the system crashes.
+ *
+ * The worker thread is not a daemon, and it stops when it has nothing to write, so it keeps the JVM alive only until
+ * the submitted save games are written. When the JVM is shut down, e.g. by closing the game window, the save games
+ * already submitted are still written before it exits.
+ */
+public class SaveGameWorker {
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long IDLE_TIMEOUT_SECONDS = 5;       /*< Idle time after which the worker thread stops. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;  /*< Longest wait for the submitted save games at exit. */
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(1, 1,
+            IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> new Thread(runnable, "save-io"));
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(SaveGameWorker::drain, "save-io-shutdown"));
+    }
+
+    /**
+     * Writes an encoded save game to a file in the background.
+     * This method does not block, and is safe to call from any thread.
+     *
+     * @param data The encoded save game. It must not be modified afterward.
+     * @param target The file to write.
+     * @param onSaved Called on the worker thread with the written file after it is renamed to the target.
+     */
+    public void submit(byte[] data, File target, Consumer<File> onSaved) {
+        try {
+            EXECUTOR.execute(() -> {
+                try {
+                    write(data, target.toPath());
+                    onSaved.accept(target);
+                } catch (IOException e) {
+                    System.err.println("Failed to save game: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            System.err.println("Failed to save game: the game is shutting down");
+        }
+    }
+
+    /**
+     * Waits until the submitted save games are written. Called when the JVM shuts down.
+     */
+    private static void drain() {
+        EXECUTOR.shutdown();
+        try {
+            if (!EXECUTOR.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Failed to save game: writing did not finish before exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the data to a temporary file, forces it to the disk and renames it to the target.
+     */
+    private static void write(byte[] data, Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path tempFile = directory.resolve(target.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // Otherwise the rename may reach the disk before the data, leaving an empty target after a crash
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                // Some file systems cannot rename atomically, a plain replace is the best that can be done there
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import tank1990.player.Player;
+import tank1990.powerup.AbstractPowerup;
+import tank1990.projectiles.Blast;
+import tank1990.projectiles.Bullet;
+import tank1990.projectiles.BulletStore;
+import tank1990.tank.AbstractTank;
+import tank1990.tank.Enemy;
+
+/**
+ * @class SaveGameWriter
+ * @brief Writes a game to a stream in the binary save game format.
+ * @details The save game is written section by section, in the order of the methods of this class, without building
+ * any intermediate object graph. All values are big-endian, enums are written as their ordinal in a byte.
+ *
+ * Layout of the format (version 3):
+ * - Header: magic number "T90S" (int), format version (short), game mode (byte)
+ * - Random number generator: state of the generator of the game session (long)
+ * - Game level manager: see GameLevelManager.writeState(), followed by the current game level, see GameLevel.writeState()
+ * - Players: count (int), then player type (byte) and a record per player, see Player.writeState()
+ * - Enemies: count (int), then tank type (byte) and a fixed-width tank record per enemy, see AbstractTank.writeState()
+ * - Bullets: count (int), then owner (int) and a fixed-width bullet record per bullet, see Bullet.writeState().
+ *   The owner is the index of the tank in the order the tanks are written (players first), or -1 followed by the
+ *   type of the owner (byte) if the owner is not in the game anymore.
+ * - Bullet store: count (int), then owner (int, same as for bullets) and a fixed-width record per bullet,
+ *   see BulletStore.writeBullet()
+ * - Powerups: count (int), then powerup type (byte) and a fixed-width powerup record per powerup, see AbstractPowerup.writeState()
+ * - Blasts: count (int), then a fixed-width blast record per blast, see Blast.writeState()
+ *
+ * The game objects write their own records, and SaveGameReader reads them back in the same order.
+ * Any change in a record must increment the format version.
+ */
+public class SaveGameWriter implements Closeable {
+    public static final int MAGIC = 0x54393053;  /**< "T90S", identifies save game files. */
+    public static final short VERSION = 3;       /**< Version of the save game format. */
+
+    private final DataOutputStream out;
+    private final Map<AbstractTank, Integer> tankIndices = new IdentityHashMap<>();  /**< Indices of the written tanks, used as references by bullets. */
+
+    /**
+     * Creates a save game writer. The stream is buffered by the writer.
+     * @param outputStream The stream to write to
+     */
+    public SaveGameWriter(OutputStream outputStream) {
+        this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+    }
+
+    /**
+     * Writes the header of the save game.
+     * @param gameMode The game mode of the saved game
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeHeader(GameMode gameMode) throws IOException {
+        this.out.writeInt(MAGIC);
+        this.out.writeShort(VERSION);
+        this.out.writeByte(gameMode.ordinal());
+    }
+
+    /**
+     * Writes the state of the random number generator of the game session.
+     * @param random The random number generator
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeRandom(GameRandom random) throws IOException {
+        random.writeState(this.out);
+    }
+
+    /**
+     * Writes the game level manager together with its current game level.
+     * @param manager The game level manager
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeGameLevelManager(GameLevelManager manager) throws IOException {
+        manager.writeState(this.out);
+    }
+
+    /**
+     * Writes the players and their tanks.
+     * @param players The players
+     * @throws IOException If an I/O error occurs
+     */
+    public void writePlayers(List<Player> players) throws IOException {
+        this.out.writeInt(players.size());
+        for (Player player : players) {
+            this.out.writeByte(player.getPlayerType().ordinal());
+            player.writeState(this.out);
+            this.tankIndices.put(player.getTank(), this.tankIndices.size());
+        }
+    }
+
+    /**
+     * Writes the enemy tanks.
+     * @param enemies The enemy tanks
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeEnemies(List<Enemy> enemies) throws IOException {
+        this.out.writeInt(enemies.size());
+        for (Enemy enemy : enemies) {
+            AbstractTank tank = (AbstractTank) enemy;
+            this.out.writeByte(tank.getTankType().ordinal());
+            tank.writeState(this.out);
+            this.tankIndices.put(tank, this.tankIndices.size());
+        }
+    }
+
+    /**
+     * Writes the bullets. Players and enemies must be written before the bullets.
+     * @param bullets The bullets
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeBullets(List<Bullet> bullets) throws IOException {
+        this.out.writeInt(bullets.size());
+        for (Bullet bullet : bullets) {
+            writeOwner(bullet.getOwner());
+            bullet.writeState(this.out);
+        }
+    }
+
+    /**
+     * Writes the bullets of the bullet store. Players and enemies must be written before the bullets.
+     * @param bulletStore The bullet store
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeBulletStore(BulletStore bulletStore) throws IOException {
+        this.out.writeInt(bulletStore.size());
+        for (int i = 0; i < bulletStore.size(); i++) {
+            writeOwner(bulletStore.getOwner(i));
+            bulletStore.writeBullet(this.out, i);
+        }
+    }
+
+    /**
+     * Writes the owner of a bullet as a reference to a written tank.
+     * @param owner The tank that fired the bullet
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeOwner(AbstractTank owner) throws IOException {
+        Integer ownerIndex = this.tankIndices.get(owner);
+        if (ownerIndex != null) {
+            this.out.writeInt(ownerIndex);
+        } else {
+            this.out.writeInt(-1);
+            this.out.writeByte(owner.getTankType().ordinal());
+        }
+    }
+
+    /**
+     * Writes the powerups.
+     * @param powerups The powerups
+     * @throws IOException If an I/O error occurs
+     */
+    public void writePowerups(List<AbstractPowerup> powerups) throws IOException {
+        this.out.writeInt(powerups.size());
+        for (AbstractPowerup powerup : powerups) {
+            this.out.writeByte(powerup.getPowerupType().ordinal());
+            powerup.writeState(this.out);
+        }
+    }
+
+    /**
+     * Writes the blast effects.
+     * @param blasts The blast effects
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeBlasts(List<Blast> blasts) throws IOException {
+        this.out.writeInt(blasts.size());
+        for (Blast blast : blasts) {
+            blast.writeState(this.out);
+        }
+    }
+
+    /**
+     * Flushes the buffered data to the underlying stream.
+     * @throws IOException If an I/O error occurs
+     */
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    /**
+     * Writes a grid location, which may be null.
+     * @param out The output to write to
+     * @param gloc The grid location, or null
+     * @throws IOException If an I/O error occurs
+     */
+    public static void writeGridLocation(DataOutput out, GridLocation gloc) throws IOException {
+        out.writeShort(gloc != null ? gloc.rowIndex() : -1);
+        out.writeShort(gloc != null ? gloc.colIndex() : -1);
+    }
+
+    /**
+     * Writes a timer, which may be null.
+     * @param out The output to write to
+     * @param timeTick The timer, or null
+     * @throws IOException If an I/O error occurs
+     */
+    public static void writeTimeTick(DataOutput out, TimeTick timeTick) throws IOException {
+        out.writeBoolean(timeTick != null);
+        if (timeTick != null) timeTick.writeState(out);
+    }
+
+    /**
+     * Writes counts by enum constants, such as the number of enemy tanks by tank type.
+     * @param out The output to write to
+     * @param counts The counts
+     * @throws IOException If an I/O error occurs
+     */
+    public static <E extends Enum<E>> void writeEnumCounts(DataOutput out, Map<E, Integer> counts) throws IOException {
+        out.writeByte(counts.size());
+        // Entries are written in the order of the constants, so that the same counts always give the same bytes
+        for (Map.Entry<E, Integer> entry : new TreeMap<>(counts).entrySet()) {
+            out.writeByte(entry.getKey().ordinal());
+            out.writeInt(entry.getValue());
+        }
+    }
+}
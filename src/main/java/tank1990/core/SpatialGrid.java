@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @class SpatialGrid
+ * @brief Uniform grid used as collision broad-phase for game objects.
+ * @details Every object is stored in the cell that contains its center. Since none of the game objects is larger
+ * than a cell, an object can only touch the objects stored in its own cell and in the 8 neighboring cells, so
+ * collision queries only visit these cells instead of every object in the game. The grid is maintained
+ * incrementally: moving an object only touches the grid when the object crosses a cell border.
+ *
+ * @tparam T Type of the stored game objects
+ */
+public class SpatialGrid<T extends GameObject> {
+    private final int rowCount;
+    private final int colCount;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    private final ArrayList<T>[] cells;
+    private int size = 0;
+
+    /**
+     * Constructs a SpatialGrid covering the game area with the given number of cells.
+     *
+     * @param gameAreaSize Size of the game area in pixels
+     * @param rowCount Number of cell rows
+     * @param colCount Number of cell columns
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SpatialGrid(Dimension gameAreaSize, int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.cellWidth = Math.max(1, gameAreaSize.width / colCount);
+        this.cellHeight = Math.max(1, gameAreaSize.height / rowCount);
+
+        this.cells = new ArrayList[rowCount * colCount];
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = new ArrayList<>(4);
+        }
+    }
+
+    /**
+     * Adds an object to the grid. Objects that are already in the grid are only updated.
+     * @param obj The object to add
+     */
+    public void insert(T obj) {
+        if (obj == null) return;
+
+        if (obj.getSpatialCell() >= 0) {
+            update(obj);
+            return;
+        }
+
+        int cell = cellIndexOf(obj.getX(), obj.getY());
+        this.cells[cell].add(obj);
+        obj.setSpatialCell(cell);
+        this.size++;
+    }
+
+    /**
+     * Removes an object from the grid. Has no effect if the object is not in the grid.
+     * @param obj The object to remove
+     */
+    public void remove(T obj) {
+        if (obj == null || obj.getSpatialCell() < 0) return;
+
+        removeFromCell(obj.getSpatialCell(), obj);
+        obj.setSpatialCell(-1);
+        this.size--;
+    }
+
+    /**
+     * Updates the cell of an object after it moved. Objects that are not in the grid yet are added.
+     * @param obj The moved object
+     */
+    public void update(T obj) {
+        if (obj == null) return;
+
+        int currentCell = obj.getSpatialCell();
+        if (currentCell < 0) {
+            insert(obj);
+            return;
+        }
+
+        int newCell = cellIndexOf(obj.getX(), obj.getY());
+        if (newCell == currentCell) return;  // Most of the moves do not cross cell borders
+
+        removeFromCell(currentCell, obj);
+        this.cells[newCell].add(obj);
+        obj.setSpatialCell(newCell);
+    }
+
+    /**
+     * Removes all objects from the grid.
+     */
+    public void clear() {
+        for (ArrayList<T> cell : this.cells) {
+            for (T obj : cell) {
+                obj.setSpatialCell(-1);
+            }
+            cell.clear();
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of objects in the grid.
+     * @return Number of objects
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Collects the objects that may collide with the given area.
+     * The result is a superset of the colliding objects, so narrow-phase collision check is still required.
+     *
+     * @param area Area to check
+     * @param result List to store candidates. It is cleared before the query.
+     * @return The result list
+     */
+    public List<T> query(Rectangle area, List<T> result) {
+        result.clear();
+
+        // Objects stored in neighbor cells may extend into the cells of the area
+        int minCol = Math.max(colOf(area.x) - 1, 0);
+        int maxCol = Math.min(colOf(area.x + area.width) + 1, this.colCount - 1);
+        int minRow = Math.max(rowOf(area.y) - 1, 0);
+        int maxRow = Math.min(rowOf(area.y + area.height) + 1, this.rowCount - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                result.addAll(this.cells[row * this.colCount + col]);
+            }
+        }
+        return result;
+    }
+
+    private void removeFromCell(int cell, T obj) {
+        ArrayList<T> objects = this.cells[cell];
+        for (int i = 0; i < objects.size(); i++) {
+            if (objects.get(i) == obj) {
+                // Swap with the last element to remove in constant time
+                objects.set(i, objects.getLast());
+                objects.removeLast();
+                return;
+            }
+        }
+    }
+
+    private int colOf(int x) {
+        return Math.max(Math.min(Math.floorDiv(x, this.cellWidth), this.colCount - 1), 0);
+    }
+
+    private int rowOf(int y) {
+        return Math.max(Math.min(Math.floorDiv(y, this.cellHeight), this.rowCount - 1), 0);
+    }
+
+    private int cellIndexOf(int x, int y) {
+        return rowOf(y) * this.colCount + colOf(x);
+    }
+}
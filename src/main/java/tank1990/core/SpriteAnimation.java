@@ -27,11 +27,12 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
-import javax.imageio.ImageIO;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
-import java.util.Objects;
 
 /**
  * @class SpriteAnimation
@@ -45,6 +46,9 @@ import java.util.Objects;
  * @see SpriteAnimationStruct
  */
 public class SpriteAnimation implements Serializable{
+    @Serial
+    private static final long serialVersionUID = 5894070738948262007L;  // Keeps predefined maps (*.bin) loadable
+
     private SpriteAnimationStruct struct = null;        /**< Structure holding the metadata of the sprite animation. */
     private transient BufferedImage spriteSheet = null; /**<The sprite sheet image containing the frames. */
     private transient BufferedImage[] subFrames = null; /**< Preloaded animation frames. */
@@ -103,49 +107,65 @@ public class SpriteAnimation implements Serializable{
      * Constructor that initializes the sprite animation from a given struct.
      * 
      * @param struct The metadata struct that defines the sprite sheet properties.
-     * @throws IOException If there's an error loading the sprite sheet image.
      */
     public SpriteAnimation(SpriteAnimationStruct struct) {
-        try {
-            this.struct = struct;
-            this.spriteSheet = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.struct.imagePath)));
-            this.totalFrames = this.struct.totalFrames;
-            this.frameDelay = this.struct.frameDelay;
-            this.rows = this.struct.rows;
-            this.columns = this.struct.columns;
-            this.offsetX = this.struct.xOffset;
-            this.offsetY = this.struct.yOffset;
-            this.defaultDelay = this.struct.defaultDelay;
-            this.delay = this.struct.defaultDelay;
-            this.rOffset = this.struct.rOffset;
-
-            setSubFrames();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        this.struct = struct;
+        this.totalFrames = this.struct.totalFrames;
+        this.frameDelay = this.struct.frameDelay;
+        this.rows = this.struct.rows;
+        this.columns = this.struct.columns;
+        this.offsetX = this.struct.xOffset;
+        this.offsetY = this.struct.yOffset;
+        this.defaultDelay = this.struct.defaultDelay;
+        this.delay = this.struct.defaultDelay;
+        this.rOffset = this.struct.rOffset;
+
+        setSubFrames();
     }
 
     /**
-     * Preloads all frames from the sprite sheet into the subFrames array.
+     * Loads all frames of the sprite sheet into the subFrames array.
      * 
-     * Perform this operation on constructor so that no need to perform this 
-     * operation over and over again since it is a bit time-consuming.
+     * Frames are sliced once per sprite sheet by the TextureRegistry and shared
+     * between all animations using the same sprite sheet.
      */
     public void setSubFrames() {
+        TextureRegistry registry = TextureRegistry.getInstance();
+        this.spriteSheet = registry.getTexture(this.struct.imagePath);
+        this.subFrames = registry.getFrames(this.struct);
+        if (this.spriteSheet == null || this.subFrames == null) return;
+
         this.frameWidth = this.spriteSheet.getWidth() / this.columns;
         this.frameHeight = this.spriteSheet.getHeight() / this.rows;
-        
-        // Preload all frames
-        this.subFrames = new BufferedImage[totalFrames];
-        for (int i = 0; i < totalFrames; i++) {
-            int row = i / columns;
-            int col = i % columns;
-            int frameX = col * frameWidth;
-            int frameY = row * frameHeight;
-
-            // Extract and store frame
-            this.subFrames[i] = spriteSheet.getSubimage(frameX, frameY, frameWidth, frameHeight);
-        }
+    }
+
+    /**
+     * Gets the current frame scaled to the target size.
+     * 
+     * @return The scaled frame, or null if the frames are not loaded.
+     */
+    private BufferedImage getScaledFrame() {
+        if (this.subFrames == null) return null;
+        return TextureRegistry.getInstance().getScaled(this.subFrames[this.currentFrame], this.targetWidth, this.targetHeight);
+    }
+
+    /**
+     * Gets the current frame of the animation, not scaled.
+     * 
+     * @return The current frame, or null if the frames are not loaded or the animation is over.
+     */
+    public BufferedImage getCurrentFrame() {
+        if (this.repeatCount == 0 || this.subFrames == null) return null;
+        return this.subFrames[this.currentFrame];
+    }
+
+    /**
+     * Restarts the animation from its first frame. The repeat count is kept, set it again if needed.
+     */
+    public void reset() {
+        this.currentFrame = 0;
+        this.frameCounter = 0;
+        this.delay = this.defaultDelay;
     }
 
     /**
@@ -236,13 +256,28 @@ public class SpriteAnimation implements Serializable{
         g2d.translate(x, y);
         g2d.rotate(rotation+rOffset);
 
-        if (this.subFrames != null) {
-            g2d.drawImage(this.subFrames[this.currentFrame], -this.targetWidth / 2, -this.targetHeight / 2, this.targetWidth, this.targetHeight, null);
+        BufferedImage frame = getScaledFrame();
+        if (frame != null) {
+            g2d.drawImage(frame, -this.targetWidth / 2, -this.targetHeight / 2, null);
         }
 
         g2d.setTransform(oldTransform);
     }
 
+    /**
+     * Records the current frame of the animation into a frame to be drawn, without rotation.
+     * 
+     * @param frame The frame to record the sprite into.
+     * @param x The X position of the sprite.
+     * @param y The Y position of the sprite.
+     */
+    public void render(RenderFrame frame, int x, int y) {
+        if (this.repeatCount == 0) return;  // If there is no repeat for the animation do not draw
+        if (this.subFrames == null) return;
+
+        frame.addImage(this.subFrames[this.currentFrame], x, y, this.targetWidth, this.targetHeight);
+    }
+
     /**
      * Alternative method for drawing the current frame with a different transformation.
      * 
@@ -261,13 +296,40 @@ public class SpriteAnimation implements Serializable{
         g2d.translate(x, y);
         g2d.rotate(rotation+this.rOffset);
 
-        if (this.subFrames != null) {
-            g2d.drawImage(this.subFrames[this.currentFrame], -this.targetWidth / 2, -this.targetHeight / 2, this.targetWidth, this.targetHeight, null);
+        BufferedImage frame = getScaledFrame();
+        if (frame != null) {
+            g2d.drawImage(frame, -this.targetWidth / 2, -this.targetHeight / 2, null);
         }
 
         g2d.setTransform(oldTransform);
     }
 
+    /**
+     * Writes the progress of the animation to a save game.
+     * 
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.currentFrame);
+        out.writeInt(this.frameCounter);
+        out.writeInt(this.repeatCount);
+        out.writeInt(this.delay);
+    }
+
+    /**
+     * Restores the progress of the animation from a save game.
+     * 
+     * @param in The input to read from.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void readState(DataInput in) throws IOException {
+        this.currentFrame = Math.floorMod(in.readInt(), Math.max(this.totalFrames, 1));
+        this.frameCounter = in.readInt();
+        this.repeatCount = in.readInt();
+        this.delay = in.readInt();
+    }
+
     /**
      * Custom deserialization method to reload the sprite sheet and frames after deserialization.
      * 
@@ -277,7 +339,6 @@ public class SpriteAnimation implements Serializable{
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        this.spriteSheet = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.struct.imagePath)));
         setSubFrames();
     }
 }
@@ -1,29 +1,37 @@
 package tank1990.core;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * @class Subject
- * @brief Subject class that maintains a list of observers and notifies them of events.
+ * @brief Subject class that maintains an event bus and notifies its observers of events.
  * @details This is part of the Observer design pattern, where the Subject is the object being observed.
  * Observers can subscribe to or unsubscribe from the Subject to receive updates.
+ * Events raised during a tick are posted and delivered together at the end of the tick, see EventBus.
  */
 public abstract class Subject {
-    List<Observer> observers;
-
-    public Subject() {
-        observers = new ArrayList<>();
-    }   
+    private final EventBus eventBus = new EventBus();
 
     /**
      * Subscribes an observer to the subject.
-     * The observer will receive notifications of events.
+     * The observer will receive notifications of all events on the thread raising them.
      *
      * @param observer The observer to subscribe.
      */
     public void subscribe(Observer observer) {
-        observers.add(observer);
+        this.eventBus.subscribe(observer, null);
+    }
+
+    /**
+     * Subscribes an observer to the subject.
+     * The observer will receive notifications of the given events through the executor.
+     *
+     * @param observer The observer to subscribe.
+     * @param executor Executor to deliver the events with, e.g. SwingUtilities::invokeLater for Swing components.
+     * @param events Types of the events to receive, all types if none is given.
+     */
+    public void subscribe(Observer observer, Executor executor, EventType... events) {
+        this.eventBus.subscribe(observer, executor, events);
     }
 
     /**
@@ -33,19 +41,34 @@ public abstract class Subject {
      * @param observer The observer to unsubscribe.
      */
     public void unsubscribe(Observer observer) {
-        observers.remove(observer);
+        this.eventBus.unsubscribe(observer);
     }
 
     /**
-     * Notifies all subscribed observers of an event.
+     * Notifies all subscribed observers of an event immediately.
      * The observers will receive the event type and associated data.
      *
      * @param event The type of event that occurred.
      * @param data Additional data related to the event.
      */
     protected void notify(EventType event, Object data) {
-        for(Observer subscriber: observers) {
-            subscriber.eventFilter(event, data);
-        }
+        this.eventBus.publish(event, data);
+    }
+
+    /**
+     * Posts an event raised during a tick. The observers will receive it when the events are flushed.
+     *
+     * @param event The type of event that occurred.
+     * @param data Additional data related to the event.
+     */
+    protected void post(EventType event, Object data) {
+        this.eventBus.post(event, data);
+    }
+
+    /**
+     * Delivers the events posted during the tick to the subscribed observers.
+     */
+    protected void flushEvents() {
+        this.eventBus.flush();
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * @class SwapRemoveList
+ * @brief Array-backed list whose elements are removed in constant time by moving the last element into their place.
+ * @details Used for the game objects that are added and removed in almost every tick, e.g. bullets and blasts.
+ * Removing an element does not shift the following elements, so the order of the elements changes on removal.
+ * To remove elements while iterating, iterate from the last index to the first: the element moved into the removed
+ * slot has already been visited. The backing array only grows, so a steady number of elements allocates nothing.
+ * Shifting removal of AbstractList is not supported.
+ *
+ * @tparam T Type of the elements
+ */
+public class SwapRemoveList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int size = 0;
+
+    /**
+     * Constructs an empty SwapRemoveList.
+     */
+    public SwapRemoveList() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException(index);
+        return (T) this.elements[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException(index);
+        T previous = (T) this.elements[index];
+        this.elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean add(T element) {
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.elements.length * 2);
+        }
+        this.elements[this.size++] = element;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the element at the given index by moving the last element into its place.
+     *
+     * @param index Index of the element to remove
+     * @return The removed element
+     */
+    @SuppressWarnings("unchecked")
+    public T swapRemove(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException(index);
+
+        T removed = (T) this.elements[index];
+        int last = --this.size;
+        this.elements[index] = this.elements[last];
+        this.elements[last] = null;  // Let the garbage collector reclaim the element if it is not pooled
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.elements, 0, this.size, null);
+        this.size = 0;
+        this.modCount++;
+    }
+}
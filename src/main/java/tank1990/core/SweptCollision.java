@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+import tank1990.tile.Tile;
+
+/**
+ * @class SweptCollision
+ * @brief Continuous collision tests of boxes which move in a tick, and the tiles crossed by a moving box.
+ * @details Checking only the end position of a moving object lets a fast object jump over a thin obstacle within a
+ * tick (tunneling). The swept tests check the whole movement of the tick instead: a box moving along a segment
+ * against a static box (segment vs. AABB), and two boxes moving along their own segments against each other
+ * (segment vs. segment, tested as the relative movement of one box against the other). The result is the time of
+ * the first contact within the tick, which orders the hits along the movement.
+ *
+ * Boxes overlap in the same way as in RectangleBound.isCollided(): touching edges do not collide, and empty boxes
+ * collide with nothing.
+ *
+ * The tiles which a moving box may hit are enumerated by walking the cells crossed by the center of the box with a
+ * digital differential analyzer (DDA), so the cost depends on the distance moved instead of the size of the map.
+ * An instance keeps the enumerated tiles in reusable buffers; it belongs to a single game engine and is not
+ * thread-safe.
+ */
+public class SweptCollision {
+    public static final double NO_HIT = -1.0;  /**< Returned by the swept tests if the boxes do not collide. */
+
+    private Tile[] tiles = new Tile[16];        /**< Tiles hit by the last swept box, ordered by time of contact. */
+    private double[] times = new double[16];    /**< Time of contact of each tile. */
+    private int tileCount = 0;
+
+    /**
+     * Finds the first time at which a moving box overlaps a static box.
+     *
+     * @param left Left edge of the moving box at the start of the movement
+     * @param top Top edge of the moving box at the start of the movement
+     * @param width Width of the moving box
+     * @param height Height of the moving box
+     * @param dx Movement along x-axis
+     * @param dy Movement along y-axis
+     * @param targetLeft Left edge of the static box
+     * @param targetTop Top edge of the static box
+     * @param targetWidth Width of the static box
+     * @param targetHeight Height of the static box
+     * @return Time of the first contact in [0, 1], 0 if the boxes overlap at the start, or NO_HIT
+     */
+    public static double sweep(int left, int top, int width, int height, int dx, int dy,
+                               int targetLeft, int targetTop, int targetWidth, int targetHeight) {
+        if (width <= 0 || height <= 0 || targetWidth <= 0 || targetHeight <= 0) return NO_HIT;
+
+        // Positions of the left (top) edge of the moving box at which the boxes overlap, exclusive
+        double enterX, exitX, enterY, exitY;
+        if (dx == 0) {
+            if (left <= targetLeft - width || left >= targetLeft + targetWidth) return NO_HIT;
+            enterX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (double) (targetLeft - width - left) / dx;
+            double t2 = (double) (targetLeft + targetWidth - left) / dx;
+            enterX = Math.min(t1, t2);
+            exitX = Math.max(t1, t2);
+        }
+
+        if (dy == 0) {
+            if (top <= targetTop - height || top >= targetTop + targetHeight) return NO_HIT;
+            enterY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (double) (targetTop - height - top) / dy;
+            double t2 = (double) (targetTop + targetHeight - top) / dy;
+            enterY = Math.min(t1, t2);
+            exitY = Math.max(t1, t2);
+        }
+
+        double enter = Math.max(enterX, enterY);
+        double exit = Math.min(exitX, exitY);
+
+        // Overlap is open at both ends, so the boxes must overlap for a while, and within the movement
+        if (enter >= exit || exit <= 0 || enter >= 1) return NO_HIT;
+        return Math.max(enter, 0);
+    }
+
+    /**
+     * Finds the first time at which a moving box overlaps a static bounding box.
+     *
+     * @param box The moving box at the start of the movement
+     * @param dx Movement along x-axis
+     * @param dy Movement along y-axis
+     * @param target The static bounding box
+     * @return Time of the first contact in [0, 1], or NO_HIT
+     */
+    public static double sweep(Rectangle box, int dx, int dy, RectangleBound target) {
+        return sweep(box.x, box.y, box.width, box.height, dx, dy,
+                     (int) target.getX(), (int) target.getY(), (int) target.getWidth(), (int) target.getHeight());
+    }
+
+    /**
+     * Finds the first time at which two boxes moving in the same tick overlap.
+     * The boxes move at constant speed, so this is the same as the first box moving by the difference of the
+     * movements against the second box at its start position.
+     *
+     * @param box1 The first box at the start of the movement
+     * @param dx1 Movement of the first box along x-axis
+     * @param dy1 Movement of the first box along y-axis
+     * @param box2 The second box at the start of the movement
+     * @param dx2 Movement of the second box along x-axis
+     * @param dy2 Movement of the second box along y-axis
+     * @return Time of the first contact in [0, 1], or NO_HIT
+     */
+    public static double sweep(Rectangle box1, int dx1, int dy1, Rectangle box2, int dx2, int dy2) {
+        return sweep(box1.x, box1.y, box1.width, box1.height, dx1 - dx2, dy1 - dy2,
+                     box2.x, box2.y, box2.width, box2.height);
+    }
+
+    /**
+     * Sets the area covered by a box during its movement.
+     *
+     * @param box The box at the start of the movement
+     * @param dx Movement along x-axis
+     * @param dy Movement along y-axis
+     * @param area Rectangle to store the area in
+     * @return The area
+     */
+    public static Rectangle sweptArea(Rectangle box, int dx, int dy, Rectangle area) {
+        area.setBounds(box.x + Math.min(dx, 0), box.y + Math.min(dy, 0), box.width + Math.abs(dx), box.height + Math.abs(dy));
+        return area;
+    }
+
+    /**
+     * Finds the tiles which a moving box overlaps during its movement, ordered by the time of contact.
+     * The box must be smaller than a cell of the map. Results are available through getTileCount(), getTile() and
+     * getTime() until the next call.
+     *
+     * @param map Tiles of the game level, indexed by row and column
+     * @param transform Grid transform of the map
+     * @param box The moving box at the start of the movement
+     * @param dx Movement along x-axis
+     * @param dy Movement along y-axis
+     * @return Number of the tiles found
+     */
+    public int findTiles(Tile[][] map, GridTransform transform, Rectangle box, int dx, int dy) {
+        clearTiles();
+        if (map == null || map.length == 0) return 0;
+
+        int rowCount = map.length;
+        int colCount = map[0].length;
+        int cellWidth = transform.getCellWidth();
+        int cellHeight = transform.getCellHeight();
+
+        // Walk the cells crossed by the center of the box
+        double x = box.x + box.width * 0.5;
+        double y = box.y + box.height * 0.5;
+        int col = (int) Math.floor(x / cellWidth);
+        int row = (int) Math.floor(y / cellHeight);
+        int endCol = (int) Math.floor((x + dx) / cellWidth);
+        int endRow = (int) Math.floor((y + dy) / cellHeight);
+
+        int stepCol = Integer.signum(dx);
+        int stepRow = Integer.signum(dy);
+        // Time to reach the next cell border on each axis, and time to cross a whole cell
+        double tMaxX = dx == 0 ? Double.POSITIVE_INFINITY : ((dx > 0 ? (col + 1) * cellWidth : col * cellWidth) - x) / dx;
+        double tMaxY = dy == 0 ? Double.POSITIVE_INFINITY : ((dy > 0 ? (row + 1) * cellHeight : row * cellHeight) - y) / dy;
+        double tDeltaX = dx == 0 ? Double.POSITIVE_INFINITY : (double) cellWidth / Math.abs(dx);
+        double tDeltaY = dy == 0 ? Double.POSITIVE_INFINITY : (double) cellHeight / Math.abs(dy);
+
+        // Each step crosses one cell border, so the walk cannot overshoot the end cell because of rounding
+        int steps = Math.abs(endCol - col) + Math.abs(endRow - row);
+        for (int step = 0; ; step++) {
+            // The box extends into the neighbor cells of its center
+            for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rowCount - 1); r++) {
+                for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, colCount - 1); c++) {
+                    Tile tile = map[r][c];
+                    if (tile != null) addTile(tile, sweep(box, dx, dy, tile.getBoundingBox()));
+                }
+            }
+
+            if (step == steps) break;
+
+            if (tMaxX < tMaxY) {
+                col += stepCol;
+                tMaxX += tDeltaX;
+            } else {
+                row += stepRow;
+                tMaxY += tDeltaY;
+            }
+        }
+
+        return this.tileCount;
+    }
+
+    /**
+     * Gets the number of tiles found by the last findTiles() call.
+     * @return Number of tiles
+     */
+    public int getTileCount() {
+        return this.tileCount;
+    }
+
+    /**
+     * Gets a tile found by the last findTiles() call.
+     * @param index Index of the tile, tiles are ordered by the time of contact
+     * @return The tile
+     */
+    public Tile getTile(int index) {
+        return this.tiles[index];
+    }
+
+    /**
+     * Gets the time of contact of a tile found by the last findTiles() call.
+     * @param index Index of the tile
+     * @return Time of contact in [0, 1]
+     */
+    public double getTime(int index) {
+        return this.times[index];
+    }
+
+    /**
+     * Adds a tile to the results in the order of the time of contact, unless it is not hit or already added.
+     */
+    private void addTile(Tile tile, double time) {
+        if (time == NO_HIT) return;
+
+        // The same tile is visited from neighboring cells of the walk
+        for (int i = 0; i < this.tileCount; i++) {
+            if (this.tiles[i] == tile) return;
+        }
+
+        if (this.tileCount == this.tiles.length) {
+            this.tiles = Arrays.copyOf(this.tiles, this.tiles.length * 2);
+            this.times = Arrays.copyOf(this.times, this.times.length * 2);
+        }
+
+        // Insertion sort, there are only a few tiles
+        int i = this.tileCount++;
+        while (i > 0 && this.times[i - 1] > time) {
+            this.tiles[i] = this.tiles[i - 1];
+            this.times[i] = this.times[i - 1];
+            i--;
+        }
+        this.tiles[i] = tile;
+        this.times[i] = time;
+    }
+
+    /**
+     * Clears the results of the last findTiles() call.
+     */
+    private void clearTiles() {
+        Arrays.fill(this.tiles, 0, this.tileCount, null);
+        this.tileCount = 0;
+    }
+}
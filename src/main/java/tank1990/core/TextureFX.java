@@ -30,16 +30,13 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Objects;
-
-import javax.imageio.ImageIO;
 
 /**
  * @class TextureFX
  * @brief A class representing a texture effect for drawing images.
  * @details This class handles the loading, updating, and drawing of a texture (image)
  * The texture is loaded from a path specified in a `TextureFXStruct` object passed during
- * initialization.
+ * initialization. Textures are shared through the TextureRegistry.
  */
 public class TextureFX implements Serializable{
     private transient BufferedImage texture = null; /**< The BufferedImage representing the texture to be rendered. */
@@ -58,19 +55,15 @@ public class TextureFX implements Serializable{
      * @param struct The structure containing metadata about the texture.
      */
     public TextureFX (TextureFXStruct struct) {
-        try {
-            this.struct = struct;
-            this.texture = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(struct.path)));
-            if (this.texture != null) {
-                this.targetWidth = this.texture.getWidth();
-                this.targetHeight = this.texture.getHeight();
-                this.offsetX = struct.offsetX;
-                this.offsetY = struct.offsetY;
-                this.defaultDelay = struct.defaultDelay;
-                this.delay = this.defaultDelay;
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        this.struct = struct;
+        this.texture = TextureRegistry.getInstance().getTexture(struct.path);
+        if (this.texture != null) {
+            this.targetWidth = this.texture.getWidth();
+            this.targetHeight = this.texture.getHeight();
+            this.offsetX = struct.offsetX;
+            this.offsetY = struct.offsetY;
+            this.defaultDelay = struct.defaultDelay;
+            this.delay = this.defaultDelay;
         }
     }
 
@@ -117,12 +110,27 @@ public class TextureFX implements Serializable{
         g2d.rotate(rotation);
         //g2d.translate(this.offsetX, this.offsetY);
 
-        if (this.texture!=null) g2d.drawImage(this.texture, -this.targetWidth / 2, -this.targetHeight / 2, this.targetWidth, this.targetHeight, null);
+        // Scaled variant is cached by the registry, so the image is not rescaled on every frame
+        BufferedImage scaledTexture = TextureRegistry.getInstance().getScaled(this.texture, this.targetWidth, this.targetHeight);
+        if (scaledTexture!=null) g2d.drawImage(scaledTexture, -this.targetWidth / 2, -this.targetHeight / 2, null);
 
         g2d.setTransform(oldTransform);
 
     }
 
+    /**
+     * Records the texture into a frame at the specified position, with its target size and without rotation.
+     *
+     * @param frame The frame to record the texture into.
+     * @param x The X coordinate for the texture's position.
+     * @param y The Y coordinate for the texture's position.
+     */
+    public void render(RenderFrame frame, int x, int y) {
+        if (this.delay>0) return;
+
+        frame.addImage(this.texture, x, y, this.targetWidth, this.targetHeight);
+    }
+
     /**
      * Custom deserialization logic to ensure the texture is reloaded after deserialization.
      *
@@ -132,6 +140,6 @@ public class TextureFX implements Serializable{
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        this.texture = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.struct.path)));
+        this.texture = TextureRegistry.getInstance().getTexture(this.struct.path);
     }
 }
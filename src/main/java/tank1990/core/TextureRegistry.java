@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * @class TextureRegistry
+ * @brief Process-wide cache of the textures used by the game objects.
+ * @details Each image resource is decoded only once and copied into a texture atlas, which consists of large pages
+ * filled with a shelf packing algorithm. Textures and sprite frames are sub-images of the atlas pages, so they share
+ * memory with the atlas. Scaled variants of the textures are cached per target size as well, so that drawing a
+ * texture does not need to scale it on every frame.
+ * The registry is safe to use from the game loop and the Swing event dispatch thread at the same time.
+ */
+public class TextureRegistry {
+    private static final int ATLAS_PAGE_SIZE = 1024;  /**< Width and height of an atlas page in pixels. */
+
+    private static final TextureRegistry instance = new TextureRegistry();
+
+    private final Map<String, BufferedImage> textures = new ConcurrentHashMap<>();        /**< Textures by resource path. */
+    private final Map<FramesKey, BufferedImage[]> frames = new ConcurrentHashMap<>();     /**< Sprite frames by sprite sheet layout. */
+    private final Map<ScaledKey, BufferedImage> scaledTextures = new ConcurrentHashMap<>(); /**< Scaled variants of textures. */
+
+    // Atlas packing state, guarded by this
+    private final ArrayList<BufferedImage> atlasPages = new ArrayList<>();
+    private BufferedImage shelfPage = null;  /**< Page being filled, null before the first one. Oversized pages are never filled. */
+    private int shelfX = 0;        /**< Next free x-coordinate on the current shelf. */
+    private int shelfY = 0;        /**< Top of the current shelf. */
+    private int shelfHeight = 0;   /**< Height of the tallest texture on the current shelf. */
+
+    private record FramesKey(String path, int rows, int columns, int totalFrames) {}
+    private record ScaledKey(BufferedImage texture, int width, int height) {}
+
+    private TextureRegistry() {}
+
+    /**
+     * Gets the singleton instance of TextureRegistry.
+     * @return The TextureRegistry instance
+     */
+    public static TextureRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Gets the texture of an image resource. The resource is decoded on the first request only.
+     *
+     * @param path Resource path of the image (e.g., "textures/tank/tank-basic-up.png")
+     * @return The texture, or null if the resource cannot be loaded
+     */
+    public BufferedImage getTexture(String path) {
+        BufferedImage texture = this.textures.get(path);
+        if (texture != null) return texture;
+
+        texture = loadTexture(path);
+        if (texture == null) return null;
+
+        BufferedImage existing = this.textures.putIfAbsent(path, texture);
+        return existing != null ? existing : texture;
+    }
+
+    /**
+     * Gets the frames of a sprite sheet. The sprite sheet is sliced on the first request only.
+     *
+     * @param struct The metadata struct that defines the sprite sheet properties
+     * @return The frames in animation order, or null if the sprite sheet cannot be loaded
+     */
+    public BufferedImage[] getFrames(SpriteAnimationStruct struct) {
+        FramesKey key = new FramesKey(struct.imagePath, struct.rows, struct.columns, struct.totalFrames);
+        BufferedImage[] subFrames = this.frames.get(key);
+        if (subFrames != null) return subFrames;
+
+        BufferedImage spriteSheet = getTexture(struct.imagePath);
+        if (spriteSheet == null) return null;
+
+        int frameWidth = spriteSheet.getWidth() / struct.columns;
+        int frameHeight = spriteSheet.getHeight() / struct.rows;
+
+        subFrames = new BufferedImage[struct.totalFrames];
+        for (int i = 0; i < struct.totalFrames; i++) {
+            int row = i / struct.columns;
+            int col = i % struct.columns;
+            subFrames[i] = spriteSheet.getSubimage(col * frameWidth, row * frameHeight, frameWidth, frameHeight);
+        }
+
+        BufferedImage[] existing = this.frames.putIfAbsent(key, subFrames);
+        return existing != null ? existing : subFrames;
+    }
+
+    /**
+     * Gets a variant of a texture scaled to the given size. Variants are created on the first request only.
+     *
+     * @param texture The texture, which is obtained from this registry
+     * @param width Target width
+     * @param height Target height
+     * @return The scaled texture, the texture itself if no scaling is needed, or null if the target size is empty
+     */
+    public BufferedImage getScaled(BufferedImage texture, int width, int height) {
+        if (texture == null || width <= 0 || height <= 0) return null;
+        if (texture.getWidth() == width && texture.getHeight() == height) return texture;
+
+        return this.scaledTextures.computeIfAbsent(new ScaledKey(texture, width, height), key -> {
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scaled.createGraphics();
+            g.drawImage(texture, 0, 0, width, height, null);
+            g.dispose();
+            return scaled;
+        });
+    }
+
+    /**
+     * Gets the number of atlas pages created so far.
+     * @return Number of atlas pages
+     */
+    public synchronized int getAtlasPageCount() {
+        return this.atlasPages.size();
+    }
+
+    /**
+     * Decodes an image resource and copies it into the atlas.
+     *
+     * @param path Resource path of the image
+     * @return The texture as a sub-image of an atlas page, or null if the resource cannot be loaded
+     */
+    private BufferedImage loadTexture(String path) {
+        BufferedImage image;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(path)) {
+            if (inputStream == null) {
+                System.err.println("Texture file not found: " + path);
+                return null;
+            }
+            image = ImageIO.read(inputStream);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        if (image == null) return null;
+        return addToAtlas(image);
+    }
+
+    /**
+     * Copies an image into the atlas using shelf packing.
+     * Images larger than an atlas page get a page of their own, which is not used for other images.
+     *
+     * @param image The image to add
+     * @return The region of the atlas which holds the image
+     */
+    private synchronized BufferedImage addToAtlas(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        if (width > ATLAS_PAGE_SIZE || height > ATLAS_PAGE_SIZE) {
+            BufferedImage page = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            drawInto(page, image, 0, 0);
+            this.atlasPages.add(page);
+            return page;
+        }
+
+        // Open a new shelf if the image does not fit into the current one
+        if (this.shelfX + width > ATLAS_PAGE_SIZE) {
+            this.shelfX = 0;
+            this.shelfY += this.shelfHeight;
+            this.shelfHeight = 0;
+        }
+
+        // Open a new page if the image does not fit into the current page
+        if (this.shelfPage == null || this.shelfY + height > ATLAS_PAGE_SIZE) {
+            this.shelfPage = new BufferedImage(ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+            this.atlasPages.add(this.shelfPage);
+            this.shelfX = 0;
+            this.shelfY = 0;
+            this.shelfHeight = 0;
+        }
+
+        drawInto(this.shelfPage, image, this.shelfX, this.shelfY);
+        BufferedImage region = this.shelfPage.getSubimage(this.shelfX, this.shelfY, width, height);
+
+        this.shelfX += width;
+        this.shelfHeight = Math.max(this.shelfHeight, height);
+        return region;
+    }
+
+    private static void drawInto(BufferedImage page, BufferedImage image, int x, int y) {
+        Graphics2D g = page.createGraphics();
+        g.drawImage(image, x, y, null);
+        g.dispose();
+    }
+}
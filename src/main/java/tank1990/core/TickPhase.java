@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+/**
+ * @class TickPhase
+ * @brief Represents the phases of a game tick, and the painting of a frame, measured by the tick profiler.
+ * @details Tick phases are run one after another on the thread of the game loop in the order of this enum.
+ * Painting is run on the Swing event dispatch thread, concurrently with the ticks.
+ */
+public enum TickPhase {
+    INPUTS,         /**< Applying the queued player actions. */
+    GAME_LEVEL,     /**< Updating the level and spawning enemy tanks. */
+    PLAYERS,        /**< Updating the player tanks. */
+    ENEMIES,        /**< Path finding and movement of the enemy tanks. */
+    PROJECTILES,    /**< Moving the bullets. */
+    POWERUPS,       /**< Updating the powerups. */
+    COLLISIONS,     /**< Checking the collisions of all game objects. */
+    BLASTS,         /**< Updating the blast effects. */
+    PUBLISH,        /**< Publishing the game info and the render frame, capturing the saves and delivering the events. */
+    PAINT           /**< Painting a frame of the game area. */
+}
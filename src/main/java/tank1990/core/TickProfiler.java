@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * @class TickProfiler
+ * @brief Measures the duration and the allocations of every phase of the game ticks and of painting the frames.
+ * @details The game engine marks the end of each phase of a tick, and the profiler records the time since the previous
+ * mark into a histogram of the phase. Measuring a phase costs a clock read and, where the JVM supports it, a read of
+ * the allocation counter of the thread, so the profiler can stay enabled while playing. A tick or a frame that takes
+ * longer than the budget of a tick is counted as slow, and blamed on the phase which took the most time in it.
+ *
+ * Phases of the ticks are recorded on the game loop thread, and painting on the event dispatch thread. The results can
+ * be read from any thread: they are shown by the on-screen overlay of the game area, and by JMX clients once the
+ * profiler is registered as an MBean.
+ */
+public class TickProfiler implements TickProfilerMXBean {
+    private static final String OBJECT_NAME = "tank1990:type=TickProfiler";
+    private static final String TICK_KEY = "TICK";  /**< Key of the whole tick in the per-phase results. */
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private final PhaseHistogram[] phaseHistograms = new PhaseHistogram[PHASES.length];
+    private final PhaseHistogram tickHistogram = new PhaseHistogram();
+    private final long[] allocatedBytes = new long[PHASES.length];     /**< Bytes allocated by each phase in total. */
+    private final long[] slowTicksByPhase = new long[PHASES.length];   /**< Slow ticks and frames blamed on each phase. */
+    private final long[] currentTickNanos = new long[PHASES.length];   /**< Durations of the phases of the current tick. */
+
+    private final long budgetNanos;
+    private final com.sun.management.ThreadMXBean threadBean;  /**< Source of allocation counters, null if unsupported. */
+
+    private volatile boolean isEnabled = true;
+    private volatile boolean isTickResetRequested = false;
+    private volatile boolean isPaintResetRequested = false;
+    private boolean isRegistered = false;
+
+    // Written by the game loop thread only
+    private boolean isTickActive = false;
+    private long tickStartNanos = 0;
+    private long phaseStartNanos = 0;
+    private long phaseStartBytes = 0;
+    private volatile long tickCount = 0;
+    private volatile int[] entityCounts = new int[5];
+
+    // Written by the event dispatch thread only
+    private boolean isPaintActive = false;
+    private long paintStartNanos = 0;
+    private long paintStartBytes = 0;
+
+    private volatile SlowTick lastSlowTick = null;
+
+    /**
+     * A tick or a frame that took longer than the budget.
+     *
+     * @param tick Number of the tick, or of the last tick before the frame
+     * @param totalNanos Duration of the tick or the frame
+     * @param phase The phase which took the most time
+     * @param phaseNanos Duration of that phase
+     */
+    private record SlowTick(long tick, long totalNanos, TickPhase phase, long phaseNanos) {
+        @Override
+        public String toString() {
+            return String.format("tick %d took %.1f ms, %s %.1f ms", tick, totalNanos / 1e6, phase, phaseNanos / 1e6);
+        }
+    }
+
+    /**
+     * Creates a profiler whose budget is the period of the game ticks.
+     */
+    public TickProfiler() {
+        this.budgetNanos = Globals.GAME_TICK_MS * 1_000_000L;
+
+        for (int i = 0; i < PHASES.length; i++) {
+            this.phaseHistograms[i] = new PhaseHistogram();
+        }
+
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean = bean;
+        }
+        this.threadBean = allocationBean;
+    }
+
+    /**
+     * Marks the beginning of a tick. It must be called on the game loop thread.
+     */
+    public void beginTick() {
+        this.isTickActive = this.isEnabled;
+        if (!this.isTickActive) return;
+
+        if (this.isTickResetRequested) {
+            this.isTickResetRequested = false;
+            resetTickPhases();
+        }
+
+        this.tickStartNanos = System.nanoTime();
+        this.phaseStartNanos = this.tickStartNanos;
+        this.phaseStartBytes = allocatedBytes();
+    }
+
+    /**
+     * Marks the end of a phase of the current tick. The next phase begins at the same time.
+     *
+     * @param phase The finished phase
+     */
+    public void endPhase(TickPhase phase) {
+        if (!this.isTickActive) return;
+
+        long now = System.nanoTime();
+        long bytes = allocatedBytes();
+        long nanos = now - this.phaseStartNanos;
+
+        int index = phase.ordinal();
+        this.phaseHistograms[index].record(nanos);
+        this.allocatedBytes[index] += bytes - this.phaseStartBytes;
+        this.currentTickNanos[index] = nanos;
+
+        this.phaseStartNanos = now;
+        this.phaseStartBytes = bytes;
+    }
+
+    /**
+     * Marks the end of the current tick.
+     *
+     * @param tick Number of the tick
+     */
+    public void endTick(long tick) {
+        if (!this.isTickActive) return;
+        this.isTickActive = false;
+
+        long totalNanos = this.phaseStartNanos - this.tickStartNanos;
+        this.tickHistogram.record(totalNanos);
+        this.tickCount++;
+
+        if (totalNanos > this.budgetNanos) {
+            int slowest = 0;
+            for (int i = 1; i < PHASES.length; i++) {
+                if (this.currentTickNanos[i] > this.currentTickNanos[slowest]) slowest = i;
+            }
+            this.slowTicksByPhase[slowest]++;
+            this.lastSlowTick = new SlowTick(tick, totalNanos, PHASES[slowest], this.currentTickNanos[slowest]);
+        }
+        Arrays.fill(this.currentTickNanos, 0);
+    }
+
+    /**
+     * Sets the number of game objects in the game at the end of the current tick.
+     *
+     * @param players Number of players
+     * @param enemies Number of enemy tanks
+     * @param bullets Number of bullets
+     * @param powerups Number of powerups
+     * @param blasts Number of blast effects
+     */
+    public void setEntityCounts(int players, int enemies, int bullets, int powerups, int blasts) {
+        if (!this.isTickActive) return;
+
+        int[] counts = this.entityCounts;
+        if (counts[0] == players && counts[1] == enemies && counts[2] == bullets && counts[3] == powerups && counts[4] == blasts) return;
+
+        this.entityCounts = new int[] {players, enemies, bullets, powerups, blasts};
+    }
+
+    /**
+     * Marks the beginning of painting a frame. It must be called on the event dispatch thread.
+     */
+    public void beginPaint() {
+        this.isPaintActive = this.isEnabled;
+        if (!this.isPaintActive) return;
+
+        if (this.isPaintResetRequested) {
+            this.isPaintResetRequested = false;
+            this.phaseHistograms[TickPhase.PAINT.ordinal()].reset();
+            this.allocatedBytes[TickPhase.PAINT.ordinal()] = 0;
+            this.slowTicksByPhase[TickPhase.PAINT.ordinal()] = 0;
+        }
+
+        this.paintStartNanos = System.nanoTime();
+        this.paintStartBytes = allocatedBytes();
+    }
+
+    /**
+     * Marks the end of painting a frame.
+     */
+    public void endPaint() {
+        if (!this.isPaintActive) return;
+        this.isPaintActive = false;
+
+        long nanos = System.nanoTime() - this.paintStartNanos;
+        int index = TickPhase.PAINT.ordinal();
+        this.phaseHistograms[index].record(nanos);
+        this.allocatedBytes[index] += allocatedBytes() - this.paintStartBytes;
+
+        if (nanos > this.budgetNanos) {
+            this.slowTicksByPhase[index]++;
+            this.lastSlowTick = new SlowTick(this.tickCount, nanos, TickPhase.PAINT, nanos);
+        }
+    }
+
+    /**
+     * Registers the profiler to the platform MBean server, so that JMX clients can read it.
+     * A previously registered profiler (e.g. of the previous game) is replaced.
+     */
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+            server.registerMBean(this, name);
+            this.isRegistered = true;
+        } catch (JMException e) {
+            System.err.println("Failed to register tick profiler: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Unregisters the profiler from the platform MBean server, if it is registered.
+     */
+    public void unregisterMBean() {
+        if (!this.isRegistered) return;
+        this.isRegistered = false;
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+        } catch (JMException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Formats the measurements as lines of text, e.g. to show them on the screen or print them.
+     *
+     * @return Lines of the report
+     */
+    public List<String> formatReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Ticks %d, budget %.1f ms, slow %d", this.tickCount, this.budgetNanos / 1e6, getSlowTickCount()));
+        lines.add(String.format("%-11s %7s %7s %8s %9s %5s", "Phase (us)", "mean", "p99", "max", "B/tick", "slow"));
+
+        for (TickPhase phase : PHASES) {
+            PhaseHistogram histogram = this.phaseHistograms[phase.ordinal()];
+            lines.add(String.format("%-11s %7.1f %7.1f %8.1f %9s %5d",
+                    phase,
+                    histogram.getMean() / 1e3,
+                    histogram.getPercentile(99) / 1e3,
+                    histogram.getMax() / 1e3,
+                    this.threadBean != null ? Long.toString(bytesPerTick(phase)) : "-",
+                    this.slowTicksByPhase[phase.ordinal()]));
+        }
+        lines.add(String.format("%-11s %7.1f %7.1f %8.1f", TICK_KEY,
+                this.tickHistogram.getMean() / 1e3,
+                this.tickHistogram.getPercentile(99) / 1e3,
+                this.tickHistogram.getMax() / 1e3));
+
+        int[] counts = this.entityCounts;
+        lines.add(String.format("Players %d, enemies %d, bullets %d, powerups %d, blasts %d",
+                counts[0], counts[1], counts[2], counts[3], counts[4]));
+
+        SlowTick slowTick = this.lastSlowTick;
+        if (slowTick != null) lines.add("Last slow: " + slowTick);
+        return lines;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    @Override
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    @Override
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    @Override
+    public double getBudgetMicros() {
+        return this.budgetNanos / 1e3;
+    }
+
+    @Override
+    public long getSlowTickCount() {
+        long count = 0;
+        for (long slowTicks : this.slowTicksByPhase) count += slowTicks;
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getSlowTicksByPhase() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (TickPhase phase : PHASES) {
+            result.put(phase.name(), this.slowTicksByPhase[phase.ordinal()]);
+        }
+        return result;
+    }
+
+    @Override
+    public String getLastSlowTick() {
+        SlowTick slowTick = this.lastSlowTick;
+        return slowTick != null ? slowTick.toString() : "";
+    }
+
+    @Override
+    public Map<String, Double> getMeanMicros() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (TickPhase phase : PHASES) {
+            result.put(phase.name(), this.phaseHistograms[phase.ordinal()].getMean() / 1e3);
+        }
+        result.put(TICK_KEY, this.tickHistogram.getMean() / 1e3);
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getP99Micros() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (TickPhase phase : PHASES) {
+            result.put(phase.name(), this.phaseHistograms[phase.ordinal()].getPercentile(99) / 1e3);
+        }
+        result.put(TICK_KEY, this.tickHistogram.getPercentile(99) / 1e3);
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getMaxMicros() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (TickPhase phase : PHASES) {
+            result.put(phase.name(), this.phaseHistograms[phase.ordinal()].getMax() / 1e3);
+        }
+        result.put(TICK_KEY, this.tickHistogram.getMax() / 1e3);
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getAllocatedBytesPerTick() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (this.threadBean == null) return result;
+
+        for (TickPhase phase : PHASES) {
+            result.put(phase.name(), bytesPerTick(phase));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Integer> getEntityCounts() {
+        int[] counts = this.entityCounts;
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("players", counts[0]);
+        result.put("enemies", counts[1]);
+        result.put("bullets", counts[2]);
+        result.put("powerups", counts[3]);
+        result.put("blasts", counts[4]);
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        // Histograms have a single writer, so they are cleared by their own threads
+        this.isTickResetRequested = true;
+        this.isPaintResetRequested = true;
+        this.lastSlowTick = null;
+    }
+
+    /**
+     * Clears the measurements of the tick phases, on the game loop thread.
+     */
+    private void resetTickPhases() {
+        for (TickPhase phase : PHASES) {
+            if (phase == TickPhase.PAINT) continue;
+
+            this.phaseHistograms[phase.ordinal()].reset();
+            this.allocatedBytes[phase.ordinal()] = 0;
+            this.slowTicksByPhase[phase.ordinal()] = 0;
+        }
+        this.tickHistogram.reset();
+        this.tickCount = 0;
+    }
+
+    /**
+     * Gets the mean number of bytes allocated by a phase per tick, or per frame for painting.
+     *
+     * @param phase The phase
+     * @return Mean number of allocated bytes
+     */
+    private long bytesPerTick(TickPhase phase) {
+        long count = this.phaseHistograms[phase.ordinal()].getCount();
+        return count > 0 ? this.allocatedBytes[phase.ordinal()] / count : 0;
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread so far.
+     *
+     * @return Number of allocated bytes, or 0 if the JVM does not count them
+     */
+    private long allocatedBytes() {
+        return this.threadBean != null ? this.threadBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+}
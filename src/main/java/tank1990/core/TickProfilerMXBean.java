@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.util.Map;
+
+/**
+ * @class TickProfilerMXBean
+ * @brief Management interface of the tick profiler, which is shown by JMX clients such as JConsole or VisualVM.
+ * @details Per-phase values are keyed by the names of the tick phases. Durations are in microseconds.
+ */
+public interface TickProfilerMXBean {
+    /**
+     * @return true if the ticks are measured
+     */
+    boolean isEnabled();
+
+    /**
+     * @param isEnabled true to measure the ticks, false to stop measuring them
+     */
+    void setEnabled(boolean isEnabled);
+
+    /**
+     * @return Number of measured ticks
+     */
+    long getTickCount();
+
+    /**
+     * @return Time budget of a tick or a frame in microseconds
+     */
+    double getBudgetMicros();
+
+    /**
+     * @return Number of ticks and frames that took longer than the budget
+     */
+    long getSlowTickCount();
+
+    /**
+     * @return Number of slow ticks and frames by the phase which took the most time in them
+     */
+    Map<String, Long> getSlowTicksByPhase();
+
+    /**
+     * @return Description of the last slow tick or frame, empty if there is none
+     */
+    String getLastSlowTick();
+
+    /**
+     * @return Mean duration of the phases
+     */
+    Map<String, Double> getMeanMicros();
+
+    /**
+     * @return 99th percentile of the durations of the phases
+     */
+    Map<String, Double> getP99Micros();
+
+    /**
+     * @return Longest duration of the phases
+     */
+    Map<String, Double> getMaxMicros();
+
+    /**
+     * @return Mean number of bytes allocated by the phases per tick, or per frame for painting
+     */
+    Map<String, Long> getAllocatedBytesPerTick();
+
+    /**
+     * @return Number of game objects by their kind at the last measured tick
+     */
+    Map<String, Integer> getEntityCounts();
+
+    /**
+     * Clears the measurements. They are cleared at the beginning of the next tick and the next frame.
+     */
+    void reset();
+}
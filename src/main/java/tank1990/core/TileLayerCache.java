@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import tank1990.tile.Tile;
+
+/**
+ * @class TileLayerCache
+ * @brief Pre-rendered images of the static tiles of a map layer, split into chunks.
+ * @details The layer contains the tiles whose depth is at least the minimum depth of the layer. The map is split into
+ * chunks of CHUNK_SIZE x CHUNK_SIZE tiles, and the static tiles of each chunk are drawn once into an off-screen image,
+ * which is copied to the screen on every frame. Only the chunks which intersect the clip area of the graphics context
+ * (i.e. the visible part of the map, or the part which is repainted) are checked and drawn, so the cost of a frame
+ * does not depend on the size of the map. The tiles are taken from the snapshot published with the frame, never from
+ * the game level, so the cache is only used by the drawing thread. A chunk is checked only when the snapshot has a new
+ * state for it, and only its cells whose frame or visible sub-pieces changed (e.g. a tile was hit) are redrawn.
+ * Animated tiles (e.g. sea) are not part of the snapshot, they are drawn with the game objects of the frame.
+ * Images of the chunks which are not drawn are released when there are more than MAX_CACHED_CHUNKS of them, so the
+ * memory of the cache does not grow with the size of the map either.
+ */
+public class TileLayerCache {
+    static final int CHUNK_SIZE = 8;                // Tiles along each side of a chunk
+    private static final int MAX_CACHED_CHUNKS = 16;  // Chunk images kept, enough for a game area and its neighbors
+
+    /**
+     * Pre-rendered image of the tiles of a chunk.
+     */
+    private static class Chunk {
+        final int firstRow;
+        final int firstCol;
+        final int rowCount;
+        final int colCount;
+
+        BufferedImage image = null;
+        TileSnapshot.Chunk drawnState = null;  /**< State of the chunk the image is drawn from. */
+        BufferedImage[] drawnImages = null;    /**< Frame drawn to each cell of the image, null if the cell is empty. */
+        int[] drawnMasks = null;               /**< Visible sub-pieces drawn to each cell. */
+        long drawnFrame = -1;                  /**< Last frame the chunk is drawn in. */
+
+        Chunk(int firstRow, int firstCol, int rowCount, int colCount) {
+            this.firstRow = firstRow;
+            this.firstCol = firstCol;
+            this.rowCount = rowCount;
+            this.colCount = colCount;
+        }
+    }
+
+    private final int minDepth;
+
+    private GridTransform transform = null;  /**< Transform of the map the chunks are created for. */
+    private Chunk[] chunks = null;
+    private int chunkRowCount = 0;
+    private int chunkColCount = 0;
+    private int cachedChunkCount = 0;        /**< Number of chunks with an image. */
+    private long frame = 0;
+
+    private final Rectangle clip = new Rectangle();  /**< Reused clip area of the graphics context. */
+
+    /**
+     * Constructs a TileLayerCache.
+     * @param minDepth Minimum depth of the tiles in the layer.
+     */
+    public TileLayerCache(int minDepth) {
+        this.minDepth = minDepth;
+    }
+
+    /**
+     * Draws the chunks of the layer which intersect the clip area. Changed cells of these chunks are redrawn to their
+     * images before the images are copied to the graphics context.
+     *
+     * @param g The graphics context to draw on, in map coordinates.
+     * @param tiles Snapshot of the tiles of the map.
+     */
+    public void draw(Graphics g, TileSnapshot tiles) {
+        GridTransform transform = tiles.getTransform();
+        if (this.chunks == null || !transform.hasSameCells(this.transform)) createChunks(transform);
+        this.frame++;
+
+        // Whole map is drawn if the graphics context is not clipped
+        this.clip.setBounds(0, 0, transform.getWidth(), transform.getHeight());
+        g.getClipBounds(this.clip);
+        if (this.clip.isEmpty()) return;
+
+        int firstChunkRow = transform.toRow(this.clip.y) / CHUNK_SIZE;
+        int lastChunkRow = transform.toRow(this.clip.y + this.clip.height - 1) / CHUNK_SIZE;
+        int firstChunkCol = transform.toCol(this.clip.x) / CHUNK_SIZE;
+        int lastChunkCol = transform.toCol(this.clip.x + this.clip.width - 1) / CHUNK_SIZE;
+
+        for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+            for (int chunkCol = firstChunkCol; chunkCol <= lastChunkCol; chunkCol++) {
+                int index = chunkRow * this.chunkColCount + chunkCol;
+                Chunk chunk = this.chunks[index];
+                updateChunk(chunk, tiles.getChunk(index), transform);
+                g.drawImage(chunk.image, chunk.firstCol * transform.getCellWidth(), chunk.firstRow * transform.getCellHeight(), null);
+                chunk.drawnFrame = this.frame;
+            }
+        }
+
+        if (this.cachedChunkCount > MAX_CACHED_CHUNKS) releaseHiddenChunks();
+    }
+
+    /**
+     * Forces all tiles to be redrawn on the next frame.
+     */
+    public void invalidate() {
+        this.chunks = null;
+        this.cachedChunkCount = 0;
+    }
+
+    private void createChunks(GridTransform transform) {
+        this.transform = transform;
+        this.chunkRowCount = (transform.getRowCount() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunkColCount = (transform.getColCount() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunks = new Chunk[this.chunkRowCount * this.chunkColCount];
+        this.cachedChunkCount = 0;
+
+        for (int chunkRow = 0; chunkRow < this.chunkRowCount; chunkRow++) {
+            for (int chunkCol = 0; chunkCol < this.chunkColCount; chunkCol++) {
+                int firstRow = chunkRow * CHUNK_SIZE;
+                int firstCol = chunkCol * CHUNK_SIZE;
+                this.chunks[chunkRow * this.chunkColCount + chunkCol] = new Chunk(firstRow, firstCol,
+                        Math.min(CHUNK_SIZE, transform.getRowCount() - firstRow),
+                        Math.min(CHUNK_SIZE, transform.getColCount() - firstCol));
+            }
+        }
+    }
+
+    /**
+     * Redraws the cells of a chunk which changed since its image was drawn.
+     */
+    private void updateChunk(Chunk chunk, TileSnapshot.Chunk state, GridTransform transform) {
+        if (chunk.image != null && chunk.drawnState == state) return;  // Unchanged since the last frame
+
+        int cellWidth = transform.getCellWidth();
+        int cellHeight = transform.getCellHeight();
+
+        if (chunk.image == null) {
+            chunk.image = new BufferedImage(chunk.colCount * cellWidth, chunk.rowCount * cellHeight, BufferedImage.TYPE_INT_ARGB);
+
+            // Every cell is dirty in a new image. Empty cells are already transparent.
+            chunk.drawnImages = new BufferedImage[chunk.rowCount * chunk.colCount];
+            chunk.drawnMasks = new int[chunk.rowCount * chunk.colCount];
+            Arrays.fill(chunk.drawnMasks, -1);
+            this.cachedChunkCount++;
+        }
+
+        Graphics2D imageGraphics = null;
+        for (int cell = 0; cell < chunk.drawnImages.length; cell++) {
+            boolean isInLayer = state.depths[cell] >= this.minDepth;
+            BufferedImage image = isInLayer ? state.images[cell] : null;
+            int mask = isInLayer ? state.masks[cell] : 0;
+            if (image == chunk.drawnImages[cell] && mask == chunk.drawnMasks[cell]) continue;
+
+            // Cell is dirty, redraw it. Tiles are placed in map coordinates, so the image is moved to the chunk.
+            if (imageGraphics == null) {
+                imageGraphics = chunk.image.createGraphics();
+                imageGraphics.translate(-chunk.firstCol * cellWidth, -chunk.firstRow * cellHeight);
+            }
+            int col = chunk.firstCol + cell % chunk.colCount;
+            int row = chunk.firstRow + cell / chunk.colCount;
+            redrawCell(imageGraphics, image, mask, col * cellWidth, row * cellHeight, cellWidth, cellHeight);
+
+            chunk.drawnImages[cell] = image;
+            chunk.drawnMasks[cell] = mask;
+        }
+        if (imageGraphics != null) imageGraphics.dispose();
+        chunk.drawnState = state;
+    }
+
+    /**
+     * Releases the images of the chunks which are not drawn in the current frame.
+     */
+    private void releaseHiddenChunks() {
+        for (Chunk chunk : this.chunks) {
+            if (chunk.image == null || chunk.drawnFrame == this.frame) continue;
+
+            chunk.image = null;
+            chunk.drawnState = null;
+            chunk.drawnImages = null;
+            chunk.drawnMasks = null;
+            this.cachedChunkCount--;
+        }
+    }
+
+    private void redrawCell(Graphics2D g, BufferedImage image, int mask, int x, int y, int width, int height) {
+        // Clear the previous content of the cell
+        Composite composite = g.getComposite();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(x, y, width, height);
+        g.setComposite(composite);
+
+        if (image == null) return;
+
+        // Tiles have the size of a cell, so the cell is the area of the tile
+        Shape clip = g.getClip();
+        g.clipRect(x, y, width, height);
+        BufferedImage scaled = TextureRegistry.getInstance().getScaled(image, width, height);
+        if (scaled != null) g.drawImage(scaled, x, y, null);
+        Tile.drawHiddenSubpieces(g, mask, x + width / 2, y + height / 2, width, height);
+        g.setClip(clip);
+    }
+}
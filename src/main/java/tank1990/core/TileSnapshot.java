@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.core;
+
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+
+import tank1990.tile.Tile;
+
+/**
+ * @class TileSnapshot
+ * @brief Immutable state of the static tiles of a map, as the renderer draws them.
+ * @details The map is split into the same chunks as the images of TileLayerCache. For each cell of a chunk, the
+ * snapshot keeps the current frame of the tile, its visible sub-pieces and its depth. The game level keeps the
+ * snapshot of its map, and at the end of a tick it replaces only the chunks whose tiles were placed, removed or hit,
+ * while the other chunks are shared with the previous snapshot. Chunks are never modified once created, so the
+ * renderer can draw a published snapshot while the simulation keeps changing the map.
+ * Animated tiles (e.g. sea) change on every tick, so they are left out, and recorded into the render frame instead.
+ */
+public final class TileSnapshot {
+    /**
+     * State of the tiles of a chunk. Cells are stored row by row.
+     */
+    static final class Chunk {
+        final BufferedImage[] images;  /**< Current frame of the tile in each cell, null if there is no static tile. */
+        final int[] masks;             /**< Visible sub-pieces of the tile in each cell. */
+        final int[] depths;            /**< Depth of the tile in each cell. */
+
+        private Chunk(int cellCount) {
+            this.images = new BufferedImage[cellCount];
+            this.masks = new int[cellCount];
+            this.depths = new int[cellCount];
+        }
+    }
+
+    private final GridTransform transform;
+    private final int chunkColCount;
+    private final Chunk[] chunks;
+
+    private TileSnapshot(GridTransform transform, Chunk[] chunks) {
+        this.transform = transform;
+        this.chunkColCount = (transform.getColCount() + TileLayerCache.CHUNK_SIZE - 1) / TileLayerCache.CHUNK_SIZE;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Takes a snapshot of all tiles of a map.
+     *
+     * @param map Tiles of the map
+     * @param transform Grid transform of the map
+     * @return The snapshot
+     */
+    public static TileSnapshot of(Tile[][] map, GridTransform transform) {
+        int chunkRowCount = (transform.getRowCount() + TileLayerCache.CHUNK_SIZE - 1) / TileLayerCache.CHUNK_SIZE;
+        int chunkColCount = (transform.getColCount() + TileLayerCache.CHUNK_SIZE - 1) / TileLayerCache.CHUNK_SIZE;
+
+        TileSnapshot snapshot = new TileSnapshot(transform, new Chunk[chunkRowCount * chunkColCount]);
+        for (int index = 0; index < snapshot.chunks.length; index++) {
+            snapshot.chunks[index] = snapshot.createChunk(map, index);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Takes a new snapshot in which the given chunks are taken again from the map, and the others are shared.
+     *
+     * @param map Tiles of the map, with the same grid transform as this snapshot
+     * @param changedChunks Indices of the chunks to take again
+     * @return The new snapshot
+     */
+    public TileSnapshot withChanges(Tile[][] map, BitSet changedChunks) {
+        TileSnapshot snapshot = new TileSnapshot(this.transform, this.chunks.clone());
+        for (int index = changedChunks.nextSetBit(0); index >= 0; index = changedChunks.nextSetBit(index + 1)) {
+            snapshot.chunks[index] = snapshot.createChunk(map, index);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the index of the chunk which contains a tile.
+     *
+     * @param row Row index of the tile
+     * @param col Column index of the tile
+     * @return Index of the chunk
+     */
+    public int chunkIndexOf(int row, int col) {
+        return (row / TileLayerCache.CHUNK_SIZE) * this.chunkColCount + col / TileLayerCache.CHUNK_SIZE;
+    }
+
+    public GridTransform getTransform() { return this.transform; }
+
+    Chunk getChunk(int index) { return this.chunks[index]; }
+
+    private Chunk createChunk(Tile[][] map, int index) {
+        int firstRow = (index / this.chunkColCount) * TileLayerCache.CHUNK_SIZE;
+        int firstCol = (index % this.chunkColCount) * TileLayerCache.CHUNK_SIZE;
+        int rowCount = Math.min(TileLayerCache.CHUNK_SIZE, this.transform.getRowCount() - firstRow);
+        int colCount = Math.min(TileLayerCache.CHUNK_SIZE, this.transform.getColCount() - firstCol);
+
+        Chunk chunk = new Chunk(rowCount * colCount);
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Tile tile = map[firstRow + r][firstCol + c];
+                if (tile == null || tile.isAnimated()) continue;
+
+                int cell = r * colCount + c;
+                chunk.images[cell] = tile.getFrameImage();
+                chunk.masks[cell] = tile.getSubpieceMask();
+                chunk.depths[cell] = tile.getDepth();
+            }
+        }
+        return chunk;
+    }
+}
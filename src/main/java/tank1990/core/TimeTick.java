@@ -22,6 +22,9 @@
 
 package tank1990.core;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 
 
@@ -149,4 +152,28 @@ public class TimeTick implements Serializable {
         return this.tick == 0;
     }
 
+    /**
+     * Writes the state of the timer to a save game. The action of the timer is not saved.
+     *
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.tick);
+        out.writeInt(this.defaultTick);
+        out.writeInt(this.repeatCount);
+    }
+
+    /**
+     * Restores the state of the timer from a save game. The action of the timer is kept.
+     *
+     * @param in The input to read from.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void readState(DataInput in) throws IOException {
+        this.tick = in.readInt();
+        this.defaultTick = in.readInt();
+        this.repeatCount = in.readInt();
+    }
+
 }
\ No newline at end of file
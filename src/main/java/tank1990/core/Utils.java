@@ -82,17 +82,7 @@ public interface Utils {
     }
 
     static Image loadTexture(String fileName) {
-        try {
-            InputStream inputStream = Globals.class.getClassLoader().getResourceAsStream(fileName);
-            if (inputStream == null) {
-                System.err.println("Texture file not found: " + fileName);
-                return null;
-            }
-            return ImageIO.read(inputStream);  // Load as BufferedImage
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
+        return TextureRegistry.getInstance().getTexture(fileName);
     }
 
     /**
@@ -174,42 +164,37 @@ public interface Utils {
     }
 
     /**
-     * Converts a GridLocation to a Location in the game area.
-     * Converted location is the center of the cell.
-     * Note: This method assumes that the game area has been initialized and its dimensions are set.
-     * @param gloc GridLocation to convert
-     * @return Location corresponding to the GridLocation
+     * Gets the size of the game area.
+     * If the game panel has not been created (e.g. the game runs headless), the default game area size is returned.
+     * @return Size of the game area
      */
-    static Location gridLoc2Loc(GridLocation gloc) {
+    static Dimension getGameAreaDimension() {
         Dimension gameAreaDimension = GamePanel.getGameAreaDimension();
 
         if (gameAreaDimension == null) {
-            throw new IllegalStateException("Size of game area has not been set yet!");
+            return new Dimension(Globals.GAME_AREA_SIZE, Globals.GAME_AREA_SIZE);
         }
+        return gameAreaDimension;
+    }
 
-        int cellWidth = gameAreaDimension.width / Globals.COL_TILE_COUNT;
-        int cellHeight = gameAreaDimension.height / Globals.ROW_TILE_COUNT;
-        return new Location(cellWidth * gloc.colIndex() + cellWidth/2, cellHeight * gloc.rowIndex() + cellHeight/2);
+    /**
+     * Converts a GridLocation to a Location in the game area.
+     * Converted location is the center of the cell.
+     * @param gloc GridLocation to convert
+     * @return Location corresponding to the GridLocation
+     */
+    static Location gridLoc2Loc(GridLocation gloc) {
+        return GridTransform.forGameArea(getGameAreaDimension()).toLocation(gloc);
     }
 
     /**
      * Converts a Location in the game area to a GridLocation.
-     * Note: This method assumes that the game area has been initialized and its dimensions are set.
+     * Game objects should use the transform of their level instead, see GameLevel.getGridTransform().
      * @param loc Location to convert
      * @return GridLocation corresponding to the Location
      */
     static GridLocation loc2GridLoc(Location loc) {
-        Dimension gameAreaDimension = GamePanel.getGameAreaDimension();
-
-        if (gameAreaDimension == null) {
-            throw new IllegalStateException("Size of game area has not been set yet!");
-        }
-
-        int cellWidth = gameAreaDimension.width / Globals.COL_TILE_COUNT;
-        int cellHeight = gameAreaDimension.height / Globals.ROW_TILE_COUNT;
-
-        return new GridLocation(Math.max(Math.min((int) (loc.y() / cellHeight), Globals.ROW_TILE_COUNT-1), 0),
-                Math.max(Math.min((int) (loc.x() / cellWidth), Globals.COL_TILE_COUNT-1), 0));
+        return GridTransform.forGameArea(getGameAreaDimension()).toGridLocation(loc.x(), loc.y());
     }
 
     /*
@@ -221,8 +206,20 @@ public interface Utils {
      * @return normalized Dimension
      */
     static Dimension normalizeDimension(Graphics g, int width, int height) {
-        width = width * (g.getClipBounds().width / Globals.COL_TILE_COUNT) / Globals.TILE_WIDTH;
-        height = height * (g.getClipBounds().height / Globals.ROW_TILE_COUNT) / Globals.TILE_HEIGHT;
+        return normalizeDimension(g.getClipBounds().getSize(), width, height);
+    }
+
+    /*
+     * Normalizes width and height in respect to size of tile size.
+     *
+     * @param gameAreaSize Reference game area size
+     * @param width Width of source object
+     * @param height Height of source object
+     * @return normalized Dimension
+     */
+    static Dimension normalizeDimension(Dimension gameAreaSize, int width, int height) {
+        width = width * (gameAreaSize.width / Globals.COL_TILE_COUNT) / Globals.TILE_WIDTH;
+        height = height * (gameAreaSize.height / Globals.ROW_TILE_COUNT) / Globals.TILE_HEIGHT;
 
         return new Dimension(width, height);
     }
@@ -235,23 +232,21 @@ public interface Utils {
      * @return normalized Dimension
      */
     static int normalize(Graphics g, int value) {
-        int gSize = Math.min(g.getClipBounds().width, g.getClipBounds().height);
+        return normalize(g.getClipBounds().getSize(), value);
+    }
+
+    /*
+     * Normalizes length in respect to size of tile size.
+     *
+     * @param gameAreaSize Reference game area size
+     * @param value Value to be normalized
+     * @return normalized Dimension
+     */
+    static int normalize(Dimension gameAreaSize, int value) {
+        int gSize = Math.min(gameAreaSize.width, gameAreaSize.height);
         int tileCount = Math.min(Globals.COL_TILE_COUNT, Globals.ROW_TILE_COUNT);
         int tileSize = Math.min(Globals.TILE_WIDTH, Globals.TILE_HEIGHT);
 
         return value * (gSize / tileCount) / tileSize;
     }
-
-    /**
-     * Generates a random boolean based on the given probability percentage.
-     * @param percent Probability percentage (0-100)
-     * @return true with the given probability, false otherwise
-     */
-    static boolean getRandomProbability(int percent) {
-        if (percent < 0 || percent > 100) {
-            throw new IllegalArgumentException("Probability must be between 0 and 100");
-        }
-        if (percent == 0) return false; // 0% chance
-        return Math.random() * 100 < percent;
-    }
 }
@@ -22,7 +22,11 @@
 
 package tank1990.panels;
 
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
+import java.util.List;
 
 import javax.swing.JLayeredPane;
 
@@ -34,13 +38,21 @@ import tank1990.core.GameEngine;
  * @details This panel is responsible for displaying the game engine's graphics and handling the game state.
  */
 public class GameAreaPanel extends JLayeredPane {
+    private static final Font PROFILER_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color PROFILER_BACKGROUND = new Color(0, 0, 0, 160);
+
     private GameEngine gameEngine = null;
 
+    private boolean isProfilerOverlayVisible = false;
+
     GameAreaPanel() { }
 
     public void setGameEngine(GameEngine gameEngine) {
         this.gameEngine = gameEngine;
         this.gameEngine.setParentPanel(this);
+
+        // Profiler of the played game is available to JMX clients
+        this.gameEngine.getTickProfiler().registerMBean();
     }
 
     @Override
@@ -48,6 +60,44 @@ public class GameAreaPanel extends JLayeredPane {
         super.paintComponent(g);
 
         if (this.gameEngine!=null) this.gameEngine.paintComponent(g);
+
+        // Overlay is drawn after the game area, so it is not included in the measured painting
+        if (this.gameEngine!=null && this.isProfilerOverlayVisible) drawProfilerOverlay(g);
+    }
+
+    /**
+     * Shows or hides the measurements of the tick profiler on the game area.
+     */
+    public void toggleProfilerOverlay() {
+        this.isProfilerOverlayVisible = !this.isProfilerOverlayVisible;
+        repaint();
+    }
+
+    /**
+     * Draws the report of the tick profiler at the top left corner of the game area.
+     *
+     * @param g The graphics context
+     */
+    private void drawProfilerOverlay(Graphics g) {
+        List<String> lines = this.gameEngine.getTickProfiler().formatReport();
+
+        g.setFont(PROFILER_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, metrics.stringWidth(line));
+        }
+
+        g.setColor(PROFILER_BACKGROUND);
+        g.fillRect(0, 0, width + 8, lines.size() * lineHeight + 8);
+
+        g.setColor(Color.WHITE);
+        int y = 4 + metrics.getAscent();
+        for (String line : lines) {
+            g.drawString(line, 4, y);
+            y += lineHeight;
+        }
     }
 }
 
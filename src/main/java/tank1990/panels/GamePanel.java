@@ -31,7 +31,8 @@ import java.time.format.DateTimeFormatter;
 
 import tank1990.Game;
 import tank1990.core.*;
-import tank1990.player.Player;
+import tank1990.player.PlayerAction;
+import tank1990.player.PlayerType;
 
 /**
  * @class GamePanel
@@ -63,13 +64,42 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
         postInitPanel();
 
         this.gameEngine = new GameEngine(gameMode);
-        this.gameEngine.subscribe((Observer) this);
+        this.gameEngine.subscribe((Observer) this, SwingUtilities::invokeLater);
+        this.gameEngine.setAutosaveInterval(Globals.AUTOSAVE_INTERVAL_MS);
+
+        gameplayArea.setGameEngine(this.gameEngine);
+    }
+
+    /**
+     * Creates a game panel which plays a recorded game session.
+     *
+     * @param frame The main frame
+     * @param parentPanel The panel to return to when the replay is over
+     * @param replayPlayer The replay to play
+     * @param speed How many times faster than real time the replay is played
+     */
+    public GamePanel(JFrame frame, JPanel parentPanel, ReplayPlayer replayPlayer, int speed) {
+        super(frame);
+
+        setParentPanel(parentPanel);
+
+        postInitPanel();
+
+        this.gameEngine = replayPlayer.createEngine();
+        this.gameEngine.subscribe((Observer) this, SwingUtilities::invokeLater);
+        this.gameEngine.setPlaybackSpeed(speed);
 
         gameplayArea.setGameEngine(this.gameEngine);
     }
 
     @Override
     public void eventFilter(EventType event, Object data) {
+        // Events are raised from the game loop thread, but Swing components must only be accessed on the EDT
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> eventFilter(event, data));
+            return;
+        }
+
         switch (event) {
             case EventType.REPAINT:
                 repaint();
@@ -166,7 +196,7 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
         this.gameplayArea.setOpaque(true);
 
         // Calculate dimensions for square gameplay area
-        int gameplaySize = Math.min(Globals.WINDOW_WIDTH * 3 / 4, Globals.WINDOW_HEIGHT);
+        int gameplaySize = Globals.GAME_AREA_SIZE;
         this.gameplayArea.setPreferredSize(new Dimension(gameplaySize, gameplaySize));
         gameAreaDimension = this.gameplayArea.getPreferredSize();
 
@@ -310,44 +340,37 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
         int key = e.getKeyCode();
         int location = e.getKeyLocation();
         
-        Player player = null; 
         switch (key) {
             case (Globals.KEY_PLAYER_1_MOVE_UP):
-                player = gameEngine.getPlayer1();
-                if(player!=null) player.decrementDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.MOVE_UP);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_RIGHT):
-                player = gameEngine.getPlayer1();
-                if(player!=null) player.incrementDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.MOVE_RIGHT);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_DOWN):
-                player = gameEngine.getPlayer1();
-                if(player!=null) player.incrementDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.MOVE_DOWN);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_LEFT):
-                player = gameEngine.getPlayer1();
-                if(player!=null) player.decrementDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.MOVE_LEFT);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_UP):
-                player = gameEngine.getPlayer2();
-                if(player!=null) player.decrementDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.MOVE_UP);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_RIGHT):
-                player = gameEngine.getPlayer2();
-                if(player!=null) player.incrementDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.MOVE_RIGHT);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_DOWN):
-                player = gameEngine.getPlayer2();
-                if(player!=null) player.incrementDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.MOVE_DOWN);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_LEFT):
-                player = gameEngine.getPlayer2();
-                if(player!=null) player.decrementDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.MOVE_LEFT);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_SHOOT):
                 //System.out.println("Fire for Player 1");
-                player = gameEngine.getPlayer1();
-                if (player!=null) gameEngine.triggerPlayerShooting(player);
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.SHOOT);
+                break;
+            case (Globals.KEY_PROFILER_OVERLAY):
+                this.gameplayArea.toggleProfilerOverlay();
                 break;
             case KeyEvent.VK_ESCAPE:
                 // Toggle pause state when ESC is pressed
@@ -383,39 +406,30 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
         int key = e.getKeyCode();
         int location = e.getKeyLocation();
 
-        Player player = null;
         switch (key) {
             case (Globals.KEY_PLAYER_1_MOVE_UP):
-                player = gameEngine.getPlayer1();
-                if (player!=null) player.resetDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.STOP_VERTICAL);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_RIGHT):
-                player = gameEngine.getPlayer1();
-                if (player!=null) player.resetDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.STOP_HORIZONTAL);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_DOWN):
-                player = gameEngine.getPlayer1();
-                if (player!=null) player.resetDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.STOP_VERTICAL);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_LEFT):
-                player = gameEngine.getPlayer1();
-                if (player!=null) player.resetDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_1, PlayerAction.STOP_HORIZONTAL);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_UP):
-                player = gameEngine.getPlayer2();
-                if (player!=null) player.resetDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.STOP_VERTICAL);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_RIGHT):
-                player = gameEngine.getPlayer2();
-                if (player!=null) player.resetDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.STOP_HORIZONTAL);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_DOWN):
-                player = gameEngine.getPlayer2();
-                if (player!=null) player.resetDy();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.STOP_VERTICAL);
                 break;
             case (Globals.KEY_PLAYER_2_MOVE_LEFT):
-                player = gameEngine.getPlayer2();
-                if (player!=null) player.resetDx();
+                gameEngine.queuePlayerAction(PlayerType.PLAYER_2, PlayerAction.STOP_HORIZONTAL);
                 break;
             case (Globals.KEY_PLAYER_1_MOVE_SHOOT):
                 //System.out.println("Stopping fire for Player 1");
@@ -451,10 +465,29 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
      * This method is called when the game is started or resumed.
      */
     public void show() {
+        // New games are recorded from the beginning, so that they can be played again
+        if (!this.gameEngine.isReplay()) startRecording();
+
         this.gameEngine.loadGameLevel();
         showGetReadyPanel();
     }
 
+    /**
+     * Starts recording the game session to a replay file in default replay location.
+     */
+    private void startRecording() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+        String formattedDatetime = LocalDateTime.now().format(formatter);
+
+        try {
+            this.gameEngine.startRecording(new File(Globals.DEFAULT_REPLAY_LOCATION, formattedDatetime + ".rpl"));
+        } catch (IOException e) {
+            // Game can be played without a replay
+            System.err.println("Failed to start recording replay: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Shows the loaded game state by displaying the "Get Ready" panel.
      * This method is called when a game is loaded from a file.
@@ -558,7 +591,7 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
 
         // Position the pause panel to cover only the gameplay area
         // Calculate the gameplay area position within the game panel
-        int gameplaySize = Math.min(Globals.WINDOW_WIDTH * 3 / 4, Globals.WINDOW_HEIGHT);
+        int gameplaySize = Globals.GAME_AREA_SIZE;
         this.pausePanel.setBounds(0, 0, gameplaySize, gameplaySize);
         this.pausePanel.setVisible(true);
 
@@ -611,7 +644,7 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
 
         // Position the game over panel to cover only the gameplay area
         // Calculate the gameplay area position within the game panel
-        int gameplaySize = Math.min(Globals.WINDOW_WIDTH * 3 / 4, Globals.WINDOW_HEIGHT);
+        int gameplaySize = Globals.GAME_AREA_SIZE;
         this.gameOverPanel.setBounds(0, 0, gameplaySize, gameplaySize);
         this.gameOverPanel.setVisible(true);
 
@@ -710,8 +743,10 @@ public class GamePanel extends AbstractPanel implements ActionListener, KeyListe
 
         if (this.isGameOver) {
             // Reset the game engine
+            this.gameEngine.stopRecording();
+            this.gameEngine.closeReplay();
+            this.gameEngine.getTickProfiler().unregisterMBean();
             this.gameEngine = null;
-            GameLevelManager.getInstance().reset();
 
             // Reset current panel
             resetPanel();
@@ -38,6 +38,7 @@ import tank1990.Game;
 import tank1990.core.ConfigHandler;
 import tank1990.core.GameMode;
 import tank1990.core.Globals;
+import tank1990.core.ReplayPlayer;
 import tank1990.core.Utils;
 
 /**
@@ -231,6 +232,40 @@ public class MenuPanel extends SlidingPanel implements KeyListener {
         });
     }
 
+    /**
+     * Plays a recorded game session instead of the menu.
+     *
+     * @param replayFile The replay file to play
+     * @param speed How many times faster than real time the replay is played
+     */
+    public void playReplay(File replayFile, int speed) {
+        ReplayPlayer replayPlayer;
+        try {
+            replayPlayer = new ReplayPlayer(new FileInputStream(replayFile));
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(
+                    null,
+                    "Cannot read replay file!",
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE
+            );
+
+            e.printStackTrace();
+            return;
+        }
+
+        this.frame.getContentPane().removeAll();
+
+        GamePanel gamePanel = new GamePanel(frame, this, replayPlayer, speed);
+        this.frame.add(gamePanel);
+        SwingUtilities.invokeLater(() -> {
+            gamePanel.requestFocusInWindow();
+            gamePanel.show();
+            revalidate();
+            repaint();
+        });
+    }
+
     private void loadGame() {
         JFileChooser fileChooser = new JFileChooser(Globals.DEFAULT_SAVE_LOCATION);
         fileChooser.setDialogTitle("Open File");
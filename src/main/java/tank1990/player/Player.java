@@ -22,7 +22,9 @@
 
 package tank1990.player;
 
-import java.awt.Graphics;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 
 import tank1990.core.*;
@@ -45,6 +47,8 @@ public class Player implements Serializable {
 
     private PlayerTank myTank = null;
     private final PlayerType playerType;
+    private GridLocation spawnLocation = null;  // Location of the default map if null
+    private transient GridTransform spawnTransform = null;  // Transform of the map of the spawn location, the default game area if null
 
     public Player(PlayerType playerType) {
         this.playerType = playerType;
@@ -54,9 +58,12 @@ public class Player implements Serializable {
         spawnTank();
     }
 
-    public void draw(Graphics g) {
-        myTank.draw(g);
-        //System.out.println("x:" + myTank.getX() + " y:" + myTank.getY() + " dir:" + myTank.getDir() + " speed:" + this.speed);
+    /**
+     * Record the player tank into a frame to be drawn.
+     * @param frame the frame to record the tank into
+     */
+    public void render(RenderFrame frame) {
+        myTank.render(frame);
     }
 
     /**
@@ -67,7 +74,7 @@ public class Player implements Serializable {
         myTank.update(level);
 
         // Update player location in the level
-        GridLocation gLoc = Utils.loc2GridLoc(new Location(myTank.getX(), myTank.getY()));
+        GridLocation gLoc = level.getGridTransform().toGridLocation(myTank.getX(), myTank.getY());
         level.setPlayerLocation(gLoc);
     }
 
@@ -103,10 +110,11 @@ public class Player implements Serializable {
 
     /**
      * Shoot a bullet from the player's tank.
+     * @param bulletPool pool to take the bullet from
      * @return the bullet shot by the tank
      */
-    public Bullet shoot() {
-        return myTank.shoot();
+    public Bullet shoot(ObjectPool<Bullet> bulletPool) {
+        return myTank.shoot(bulletPool);
     }
 
     /**
@@ -124,10 +132,11 @@ public class Player implements Serializable {
 
     /**
      * Destroy the player's tank and return a blast effect.
+     * @param blastPool pool to take the blast from
      * @return the blast effect from the tank's destruction
      */
-    public Blast destroy() {
-        return myTank.destroy();
+    public Blast destroy(ObjectPool<Blast> blastPool) {
+        return myTank.destroy(blastPool);
     }
 
     /**
@@ -174,9 +183,6 @@ public class Player implements Serializable {
                 System.err.println("Unknown powerup type: " + powerup.getPowerupType());
             }
         }
-
-        // Add power-up points to the player's score
-        GameLevelManager.getInstance().addPlayerScore(powerup.getPoints());
     }
 
     /**
@@ -226,6 +232,71 @@ public class Player implements Serializable {
      */
     public RectangleBound getBoundingBox() { return myTank.getBoundingBox(); }
 
+    /**
+     * Write the state of the player and its tank to a save game.
+     * @param out the output to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(remainingLives);
+        out.writeBoolean(myTank != null);
+        if (myTank != null) myTank.writeState(out);
+    }
+
+    /**
+     * Restore the state of the player and its tank from a save game written by writeState().
+     * @param in the input to read from
+     * @throws IOException if an I/O error occurs
+     */
+    public void readState(DataInput in) throws IOException {
+        remainingLives = in.readInt();
+        if (in.readBoolean()) {
+            myTank.readState(in);
+        } else {
+            myTank = null;
+        }
+    }
+
+    /**
+     * Set the location where the tank of the player spawns, which depends on the size of the map.
+     * @param spawnLocation the spawn location of the tank, see MapLayout.getPlayerSpawnLocation()
+     * @param transform the grid transform of the map, see GameLevel.getGridTransform()
+     */
+    public void setSpawnLocation(GridLocation spawnLocation, GridTransform transform) {
+        this.spawnLocation = spawnLocation;
+        this.spawnTransform = transform;
+    }
+
+    /**
+     * Get the location where the tank of the player spawns.
+     * @return the spawn location of the tank
+     */
+    public GridLocation getSpawnLocation() {
+        if (spawnLocation != null) return spawnLocation;
+        return playerType == PlayerType.PLAYER_1 ? Globals.INITIAL_PLAYER_1_LOC : Globals.INITIAL_PLAYER_2_LOC;
+    }
+
+    /**
+     * Get the position of the tank of the player at its spawn location. Until the player is placed on a map, the
+     * default spawn location is located in the default game area.
+     * @return the position of the spawned tank
+     */
+    public Location getSpawnPoint() {
+        GridTransform transform = spawnTransform != null ? spawnTransform : GridTransform.forGameArea(Utils.getGameAreaDimension());
+        return transform.toLocation(getSpawnLocation());
+    }
+
+    /**
+     * Move the tank of the player to its spawn location, e.g. when a level with another map size is loaded.
+     */
+    public void moveTankToSpawnLocation() {
+        if (myTank == null || myTank.isDestroyed()) return;
+
+        Location loc = getSpawnPoint();
+        myTank.setX(loc.x());
+        myTank.setY(loc.y());
+    }
+
     /**
      * Spawn a new tank for the player.
      * This method is called when the player needs to respawn or start the game.
@@ -234,21 +305,11 @@ public class Player implements Serializable {
         --remainingLives;
 
         if (remainingLives >= 0) {
-            if (playerType == PlayerType.PLAYER_1) {
-                myTank = (PlayerTank) TankFactory.createTank(TankType.PLAYER_TANK,
-                                                             Utils.gridLoc2Loc(Globals.INITIAL_PLAYER_1_LOC).x(),
-                                                             Utils.gridLoc2Loc(Globals.INITIAL_PLAYER_1_LOC).y(),
-                                                             Globals.INITIAL_PLAYER_1_DIR);
-                myTank.setDir(Globals.INITIAL_PLAYER_1_DIR);
-                myTank.setPlayerType(playerType);
-            } else {
-                myTank = (PlayerTank) TankFactory.createTank(TankType.PLAYER_TANK,
-                                                             Utils.gridLoc2Loc(Globals.INITIAL_PLAYER_2_LOC).x(),
-                                                             Utils.gridLoc2Loc(Globals.INITIAL_PLAYER_2_LOC).y(),
-                                                             Globals.INITIAL_PLAYER_2_DIR);
-                myTank.setDir(Globals.INITIAL_PLAYER_2_DIR);
-                myTank.setPlayerType(playerType);
-            }
+            Location loc = getSpawnPoint();
+            Direction dir = playerType == PlayerType.PLAYER_1 ? Globals.INITIAL_PLAYER_1_DIR : Globals.INITIAL_PLAYER_2_DIR;
+            myTank = (PlayerTank) TankFactory.createTank(TankType.PLAYER_TANK, loc.x(), loc.y(), dir);
+            myTank.setDir(dir);
+            myTank.setPlayerType(playerType);
         }
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.player;
+
+import java.util.ArrayList;
+
+import tank1990.core.GameEngine;
+import tank1990.core.GameLevel;
+import tank1990.core.GameRandom;
+import tank1990.core.GridLocation;
+import tank1990.core.RectangleBound;
+import tank1990.core.Utils;
+
+/**
+ * @class PlayerBot
+ * @brief Plays a player tank without a human, e.g. for simulating many games without a window.
+ * @details The bot decides periodically: it shoots at the nearest enemy tank when they are on the same row or column,
+ * otherwise it heads towards that tank or wanders in a random direction, and shoots now and then to break through
+ * the bricks. Decisions are issued as player actions to the game engine, so they are applied like key presses.
+ * All random decisions are drawn from the given generator, so a game played by bots is reproducible from its seed.
+ */
+public class PlayerBot {
+    private static final int DECISION_PERIOD_MS = 400;    /**< Time between two decisions of the bot. */
+    private static final int CHASE_PROBABILITY = 60;      /**< Chance of heading towards the nearest enemy (%). */
+    private static final int RANDOM_SHOT_PROBABILITY = 30; /**< Chance of shooting without a target (%). */
+
+    private final GameEngine gameEngine;
+    private final PlayerType playerType;
+    private final GameRandom random;
+
+    private final int decisionPeriodTicks;
+    private long nextDecisionTick = 0;
+
+    /**
+     * Creates a bot for a player of the game engine.
+     *
+     * @param gameEngine The game engine to play
+     * @param playerType The player controlled by the bot
+     * @param random The random number generator of the decisions
+     */
+    public PlayerBot(GameEngine gameEngine, PlayerType playerType, GameRandom random) {
+        this.gameEngine = gameEngine;
+        this.playerType = playerType;
+        this.random = random;
+        this.decisionPeriodTicks = Math.max(1, Utils.Time2GameTick(DECISION_PERIOD_MS));
+    }
+
+    /**
+     * Issues the actions of the bot for the next tick, if it is time to decide.
+     * This method must be called between the ticks of the game engine, from the thread that runs them.
+     */
+    public void update() {
+        long tick = this.gameEngine.getTickCount();
+        if (tick < this.nextDecisionTick) return;
+        this.nextDecisionTick = tick + this.decisionPeriodTicks;
+
+        Player player = this.playerType == PlayerType.PLAYER_1 ? this.gameEngine.getPlayer1() : this.gameEngine.getPlayer2();
+        if (player == null || player.getTank() == null || player.isTankDestroyed()) return;
+
+        GameLevel level = this.gameEngine.getCurrentLevel();
+        if (level == null) return;
+
+        RectangleBound bound = player.getBoundingBox();
+        GridLocation location = level.getGridTransform().toGridLocation(bound.getOriginX(), bound.getOriginY());
+        GridLocation target = findNearestTank(location);
+
+        // Shoot at the target if it is in the line of fire
+        if (target != null && (target.rowIndex() == location.rowIndex() || target.colIndex() == location.colIndex())) {
+            act(directionTo(location, target, target.rowIndex() == location.rowIndex()));
+            act(PlayerAction.SHOOT);
+            return;
+        }
+
+        if (target != null && this.random.nextProbability(CHASE_PROBABILITY)) {
+            int rowDistance = Math.abs(target.rowIndex() - location.rowIndex());
+            int colDistance = Math.abs(target.colIndex() - location.colIndex());
+            act(directionTo(location, target, colDistance >= rowDistance));
+        } else {
+            act(switch (this.random.nextInt(4)) {
+                case 0 -> PlayerAction.MOVE_UP;
+                case 1 -> PlayerAction.MOVE_RIGHT;
+                case 2 -> PlayerAction.MOVE_DOWN;
+                default -> PlayerAction.MOVE_LEFT;
+            });
+        }
+
+        if (this.random.nextProbability(RANDOM_SHOT_PROBABILITY)) act(PlayerAction.SHOOT);
+    }
+
+    /**
+     * Finds the nearest tank other than the tank of the player.
+     *
+     * @param location Location of the player tank
+     * @return Location of the nearest tank, or null if there is no other tank
+     */
+    private GridLocation findNearestTank(GridLocation location) {
+        ArrayList<GridLocation> tankLocations = this.gameEngine.getTankLocations();
+
+        GridLocation nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (GridLocation tankLocation : tankLocations) {
+            if (tankLocation.equals(location)) continue;
+
+            int distance = Math.abs(tankLocation.rowIndex() - location.rowIndex())
+                         + Math.abs(tankLocation.colIndex() - location.colIndex());
+            if (distance < nearestDistance) {
+                nearest = tankLocation;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Gets the move action towards a target along one axis.
+     *
+     * @param from Location of the player tank
+     * @param to Location of the target
+     * @param isHorizontal true to move along the row, false to move along the column
+     * @return The move action
+     */
+    private static PlayerAction directionTo(GridLocation from, GridLocation to, boolean isHorizontal) {
+        if (isHorizontal) {
+            return to.colIndex() < from.colIndex() ? PlayerAction.MOVE_LEFT : PlayerAction.MOVE_RIGHT;
+        }
+        return to.rowIndex() < from.rowIndex() ? PlayerAction.MOVE_UP : PlayerAction.MOVE_DOWN;
+    }
+
+    /**
+     * Issues an action of the player.
+     *
+     * @param action The action
+     */
+    private void act(PlayerAction action) {
+        this.gameEngine.queuePlayerAction(this.playerType, action);
+    }
+}
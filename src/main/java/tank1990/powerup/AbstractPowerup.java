@@ -23,7 +23,9 @@
 package tank1990.powerup;
 
 import java.awt.Dimension;
-import java.awt.Graphics;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 import tank1990.core.*;
 
@@ -60,16 +62,10 @@ public abstract class AbstractPowerup extends DynamicGameObject {
         blinkTick.setRepeats(-1); // Repeat indefinitely
     }
 
-    public void draw(Graphics g) {
-        if (blinkTick.isTimeOut()) {
-            isVisible = !isVisible;  // Toggle visibility
-            blinkTick.reset();
-        }
-
-        setSize(Utils.normalizeDimension(g, Globals.POWERUP_WIDTH, Globals.POWERUP_HEIGHT));
-
+    @Override
+    public void render(RenderFrame frame) {
         if (!isVisible) {
-            this.textureFX.draw(g, getX(), getY(), 0);
+            this.textureFX.render(frame, getX(), getY());
         }
     }
 
@@ -78,8 +74,12 @@ public abstract class AbstractPowerup extends DynamicGameObject {
         lifeTimeTick.updateTick();
         blinkTick.updateTick();
 
+        if (blinkTick.isTimeOut()) {
+            isVisible = !isVisible;  // Toggle visibility
+            blinkTick.reset();
+        }
+
         if (lifeTimeTick.isTimeOut()) {
-            System.out.println("Powerup expired: " + powerupType);
             setActive(false);
         }
 
@@ -94,6 +94,43 @@ public abstract class AbstractPowerup extends DynamicGameObject {
         return !isActive || lifeTimeTick.isTimeOut();
     }
 
+    /**
+     * Writes the state of the powerup to a save game as a fixed-width record.
+     * Type of the powerup is written by the caller, since it is needed to create the powerup.
+     * @param out the output to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.x);
+        out.writeInt(this.y);
+        out.writeInt(this.width);
+        out.writeInt(this.height);
+        out.writeInt(this.lifeTimeMs);
+        out.writeInt(this.points);
+        out.writeBoolean(this.isActive);
+        out.writeBoolean(this.isVisible);
+        this.lifeTimeTick.writeState(out);
+        this.blinkTick.writeState(out);
+    }
+
+    /**
+     * Restores the state of the powerup from a save game written by writeState().
+     * @param in the input to read from.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void readState(DataInput in) throws IOException {
+        this.x = in.readInt();
+        this.y = in.readInt();
+        this.width = in.readInt();
+        this.height = in.readInt();
+        this.lifeTimeMs = in.readInt();
+        this.points = in.readInt();
+        this.isActive = in.readBoolean();
+        this.isVisible = in.readBoolean();
+        this.lifeTimeTick.readState(in);
+        this.blinkTick.readState(in);
+    }
+
     /**
      * Sets the active status of the powerup.
      * @param active true to activate the powerup, false to deactivate it.
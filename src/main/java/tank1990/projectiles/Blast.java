@@ -23,10 +23,13 @@
 package tank1990.projectiles;
 
 import java.awt.Dimension;
-import java.awt.Graphics;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 import tank1990.core.DynamicGameObject;
 import tank1990.core.Globals;
+import tank1990.core.RenderFrame;
 import tank1990.core.SpriteAnimation;
 import tank1990.core.Utils;
 
@@ -39,10 +42,22 @@ public class Blast extends DynamicGameObject {
     protected SpriteAnimation spriteAnimation;
 
     public Blast(int x, int y) {
+        this.spriteAnimation = new SpriteAnimation(Globals.BLAST_ANIMATION);
+        reset(x, y);
+    }
+
+    /**
+     * Moves the blast to the given position and restarts its animation, so that a pooled blast can be shown again.
+     *
+     * @param x The x-coordinate of the blast.
+     * @param y The y-coordinate of the blast.
+     */
+    public void reset(int x, int y) {
         setX(x);
         setY(y);
-        setSize(new Dimension(Globals.BLAST_WIDTH, Globals.BLAST_HEIGHT));
-        this.spriteAnimation = new SpriteAnimation(Globals.BLAST_ANIMATION);
+        this.width = Globals.BLAST_WIDTH;
+        this.height = Globals.BLAST_HEIGHT;
+        this.spriteAnimation.reset();
         this.spriteAnimation.setRepeat(1);  // Do not repeat the blast animation
     }
 
@@ -50,12 +65,40 @@ public class Blast extends DynamicGameObject {
         return this.spriteAnimation.update();
     }
 
+    /**
+     * Writes the state of the blast to a save game as a fixed-width record.
+     *
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.x);
+        out.writeInt(this.y);
+        out.writeInt(this.width);
+        out.writeInt(this.height);
+        this.spriteAnimation.writeState(out);
+    }
+
+    /**
+     * Restores the state of the blast from a save game written by writeState().
+     *
+     * @param in The input to read from.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void readState(DataInput in) throws IOException {
+        this.x = in.readInt();
+        this.y = in.readInt();
+        this.width = in.readInt();
+        this.height = in.readInt();
+        this.spriteAnimation.readState(in);
+    }
+
     @Override
-    public void draw(Graphics g) {
-        Dimension nDim = Utils.normalizeDimension(g, Globals.BLAST_WIDTH, Globals.BLAST_HEIGHT);
+    public void render(RenderFrame frame) {
+        Dimension nDim = Utils.normalizeDimension(frame.getGameAreaSize(), Globals.BLAST_WIDTH, Globals.BLAST_HEIGHT);
         
         this.spriteAnimation.setTargetSize(nDim.width, nDim.height);
-        this.spriteAnimation.draw(g, x - nDim.width/2, y - nDim.height/2, 0);
+        this.spriteAnimation.render(frame, x - nDim.width/2, y - nDim.height/2);
     }
 
 }
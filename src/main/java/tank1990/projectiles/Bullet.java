@@ -22,10 +22,10 @@
 
 package tank1990.projectiles;
 
-import java.awt.Dimension;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
+import java.awt.Rectangle;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 import tank1990.core.Utils;
 import tank1990.core.Direction;
@@ -33,7 +33,9 @@ import tank1990.core.DynamicGameObject;
 import tank1990.core.GameLevel;
 import tank1990.core.Globals;
 import tank1990.core.GridLocation;
-import tank1990.core.Location;
+import tank1990.core.ObjectPool;
+import tank1990.core.RenderFrame;
+import tank1990.core.SaveGameReader;
 import tank1990.tank.AbstractTank;
 import tank1990.tank.Enemy;
 import tank1990.tile.Tile;
@@ -55,52 +57,62 @@ public class Bullet extends DynamicGameObject {
     private int speed;
     private int baseSpeed;
     private BulletType type;
+    private boolean isDestroyed = false;
+
+    // Position before the last movement, the bullet is checked for collisions along the whole movement
+    private int prevX;
+    private int prevY;
 
     public Bullet(AbstractTank tankInst, int x, int y, Direction dir, int speed) {
-        this.tankInst = tankInst;
-        setX(x);
-        setY(y);
-        setDir(dir);
-        setSize(new Dimension(Globals.BULLET_WIDTH, Globals.BULLET_HEIGHT));
-        this.baseSpeed = speed;
-        this.speed = baseSpeed;
-        this.type = BulletType.NORMAL;
+        this(tankInst, x, y, dir, speed, BulletType.NORMAL);
     }
 
     public Bullet(AbstractTank tankInst, int x, int y, Direction dir, int speed, BulletType type) {
+        reset(tankInst, x, y, dir, speed, type);
+    }
+
+    /**
+     * Reinitializes the bullet as if it is newly created, so that a pooled bullet can be fired again.
+     *
+     * @param tankInst The tank that fires the bullet.
+     * @param x The x-coordinate of the bullet.
+     * @param y The y-coordinate of the bullet.
+     * @param dir The direction of the bullet.
+     * @param speed The speed of the bullet in ticks.
+     * @param type The type of the bullet.
+     */
+    public void reset(AbstractTank tankInst, int x, int y, Direction dir, int speed, BulletType type) {
         this.tankInst = tankInst;
         setX(x);
         setY(y);
+        this.prevX = x;
+        this.prevY = y;
         setDir(dir);
-        setSize(new Dimension(Globals.BULLET_WIDTH, Globals.BULLET_HEIGHT));
+        this.width = Globals.BULLET_WIDTH;
+        this.height = Globals.BULLET_HEIGHT;
         this.baseSpeed = speed;
         this.speed = baseSpeed;
         this.type = type;
+        this.isDestroyed = false;
     }
 
     @Override
-    public void draw(Graphics g) {
-        Dimension dim = Utils.normalizeDimension(g, Globals.BULLET_WIDTH, Globals.BULLET_HEIGHT);
-        this.speed = Utils.normalize(g, this.baseSpeed);
-        setSize(dim);
-
-        Graphics2D g2d = (Graphics2D) g;
-        AffineTransform oldTransform = g2d.getTransform();
-        g2d.setColor(Globals.COLOR_GRAY);
-        g2d.translate(x, y);
-
+    public void render(RenderFrame frame) {
         if (this.dir == Direction.DIRECTION_DOWNWARDS || this.dir == Direction.DIRECTION_UPWARDS) {
-            g2d.fillRect((int) -dim.getWidth(), (int) -dim.getHeight(),
-                    (int) dim.getWidth(), (int) dim.getHeight());
+            frame.fillRect(Globals.COLOR_GRAY, x - this.width, y - this.height, this.width, this.height);
         } else {
-            g2d.fillRect((int) -dim.getHeight(), (int) -dim.getWidth(),
-                    (int) dim.getHeight(), (int) dim.getWidth());
+            frame.fillRect(Globals.COLOR_GRAY, x - this.height, y - this.width, this.height, this.width);
         }
-
-        g2d.setTransform(oldTransform);
     }
 
     public void update(GameLevel level) {
+        // Size and speed of the bullet are relative to the size of the game area
+        setSize(Utils.normalizeDimension(level.getGameAreaSize(), Globals.BULLET_WIDTH, Globals.BULLET_HEIGHT));
+        this.speed = Utils.normalize(level.getGameAreaSize(), this.baseSpeed);
+
+        this.prevX = x;
+        this.prevY = y;
+
         //System.out.printf("Bullet update: x=%d, y=%d, dir=%s, speed=%d%n", x, y, dir, speed);
         switch (this.dir) {
             case DIRECTION_UPWARDS: y -= (int) this.speed; break; 
@@ -112,9 +124,48 @@ public class Bullet extends DynamicGameObject {
     }
 
     /**
-     * Gets the current speed of the bullet.
+     * Gets x-coordinate of the bullet before its last movement.
+     *
+     * @return The previous x-coordinate.
+     */
+    public int getPrevX() {
+        return this.prevX;
+    }
+
+    /**
+     * Gets y-coordinate of the bullet before its last movement.
+     *
+     * @return The previous y-coordinate.
+     */
+    public int getPrevY() {
+        return this.prevY;
+    }
+
+    /**
+     * Sets the bounding box of the bullet before its last movement, without creating a new object.
+     *
+     * @param bounds The rectangle to set.
+     * @return The bounds.
+     */
+    public Rectangle getStartBounds(Rectangle bounds) {
+        bounds.setBounds(this.prevX - (int) (this.width*0.5), this.prevY - (int) (this.height*0.5), this.width, this.height);
+        return bounds;
+    }
+
+    /**
+     * Moves the bullet back along its last movement, e.g. to the point where it hit an obstacle.
+     *
+     * @param time Fraction of the movement to keep, in [0, 1].
+     */
+    public void rewind(double time) {
+        this.x = this.prevX + (int) Math.round((this.x - this.prevX) * time);
+        this.y = this.prevY + (int) Math.round((this.y - this.prevY) * time);
+    }
+
+    /**
+     * Gets the type of the bullet.
      *
-     * @return The current speed of the bullet.
+     * @return The type of the bullet.
      */
     public BulletType getType() {
         return this.type;
@@ -139,16 +190,78 @@ public class Bullet extends DynamicGameObject {
     }
 
     /**
-     * Destroys the bullet and returns a new Blast object at the current bullet position.
+     * Gets the tank that fired the bullet.
+     *
+     * @return The tank that fired the bullet.
+     */
+    public AbstractTank getOwner() {
+        return this.tankInst;
+    }
+
+    /**
+     * Writes the state of the bullet to a save game as a fixed-width record.
+     * Owner of the bullet is written by the caller.
+     *
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.x);
+        out.writeInt(this.y);
+        out.writeByte(this.dir.ordinal());
+        out.writeInt(this.width);
+        out.writeInt(this.height);
+        out.writeInt(this.speed);
+        out.writeInt(this.baseSpeed);
+        out.writeByte(this.type.ordinal());
+        out.writeBoolean(this.isDestroyed);
+    }
+
+    /**
+     * Restores the state of the bullet from a save game written by writeState().
+     *
+     * @param in The input to read from.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void readState(DataInput in) throws IOException {
+        this.x = in.readInt();
+        this.y = in.readInt();
+        this.dir = SaveGameReader.readEnum(in, Direction.values());
+        this.width = in.readInt();
+        this.height = in.readInt();
+        this.speed = in.readInt();
+        this.baseSpeed = in.readInt();
+        this.type = SaveGameReader.readEnum(in, BulletType.values());
+        this.isDestroyed = in.readBoolean();
+
+        // Saved at the end of a tick, the next movement starts from here
+        this.prevX = this.x;
+        this.prevY = this.y;
+    }
+
+    /**
+     * Destroys the bullet and returns a Blast object at the current bullet position.
      * This method sets the bullet status in the tank instance to true,
      * indicating that the bullet has been destroyed.
-     * @return A new Blast object representing the explosion
+     * @param blastPool Pool to take the blast from
+     * @return A Blast object representing the explosion
      */
-    public Blast destroy() {
+    public Blast destroy(ObjectPool<Blast> blastPool) {
+        this.isDestroyed = true;
         this.tankInst.setBulletStatus(true);
         // Create a blast at the current bullet position
-        return new Blast(x, y);
+        Blast blast = blastPool.acquire();
+        blast.reset(x, y);
+        return blast;
+    }
 
+    /**
+     * Checks if the bullet is destroyed.
+     *
+     * @return true if the bullet is destroyed, false otherwise.
+     */
+    public boolean isDestroyed() {
+        return this.isDestroyed;
     }
 
     /**
@@ -184,19 +297,14 @@ public class Bullet extends DynamicGameObject {
         // Get the tile map
         Tile[][] map = gameLevel.getMap();
         
-        // Get game area dimensions
-        Dimension gameAreaSize = gameLevel.getGameAreaSize();
-        int maxWidth = (int) gameAreaSize.getWidth();
-        int maxHeight = (int) gameAreaSize.getHeight();
-        
         // Convert bullet position to grid location
-        GridLocation gLoc = Utils.loc2GridLoc(new Location(this.x, this.y));
+        GridLocation gLoc = gameLevel.getGridTransform().toGridLocation(this.x, this.y);
         
         int r = gLoc.rowIndex();
         int c = gLoc.colIndex();
         
         // Check bounds
-        if (r < 0 || r >= Globals.ROW_TILE_COUNT || c < 0 || c >= Globals.COL_TILE_COUNT) {
+        if (r < 0 || r >= map.length || c < 0 || c >= map[r].length) {
             return false;
         }
         
@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) 2025.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tank1990.projectiles;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import tank1990.core.Direction;
+import tank1990.core.GameLevel;
+import tank1990.core.Globals;
+import tank1990.core.ObjectPool;
+import tank1990.core.RectangleBound;
+import tank1990.core.RenderFrame;
+import tank1990.core.SaveGameReader;
+import tank1990.core.SweptCollision;
+import tank1990.core.Utils;
+import tank1990.tank.AbstractTank;
+import tank1990.tank.Enemy;
+import tank1990.tile.Tile;
+
+/**
+ * @class BulletStore
+ * @brief Stores a large number of bullets as parallel arrays of primitives instead of Bullet objects.
+ * @details Bullet objects are convenient for the few bullets of a regular game, but a game mode with thousands of
+ * bullets spends its time chasing references. The store keeps the fields of bullet i at index i of its arrays
+ * (structure of arrays), and processes all bullets in tight loops over these arrays: moving, bounds checking and
+ * tile collision are separate passes, and the movement and bounds passes are branch-free so that the JIT compiler
+ * can vectorize them. Collisions are checked along the movement of the last update, see SweptCollision.
+ *
+ * Bullets of the store are fired without the one-bullet-per-tank limit: their owner tank is not notified when they
+ * are destroyed. Owners are kept in a table and referred to by their index (owner id). Bullets are destroyed in the
+ * passes and removed at once by removeDestroyed(), which moves the last bullet into the place of a removed one.
+ * The store belongs to a single game engine and is not thread-safe.
+ */
+public class BulletStore {
+    public static final byte TEAM_PLAYER = 0;  /**< Bullets fired by the players, which hit enemy tanks. */
+    public static final byte TEAM_ENEMY = 1;   /**< Bullets fired by the enemies, which hit player tanks. */
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final BulletType[] BULLET_TYPES = BulletType.values();
+
+    // Movement of one pixel in each direction, indexed by the ordinal of Direction
+    private static final int[] DIRECTION_DX = {0, 0, 1, 0, -1};
+    private static final int[] DIRECTION_DY = {0, -1, 0, 1, 0};
+
+    /**
+     * @class TileHitHandler
+     * @brief Applies the effect of a bullet hitting a tile.
+     */
+    @FunctionalInterface
+    public interface TileHitHandler {
+        /**
+         * Called for a bullet of the store that collides with a tile.
+         *
+         * @param bullet Bullet object loaded with the fields of the colliding bullet, valid only during the call
+         * @param tile The tile that is hit
+         * @return true if the bullet is stopped by the tile
+         */
+        boolean onTileHit(Bullet bullet, Tile tile);
+    }
+
+    private int count = 0;
+    private int[] x;        /**< X-coordinates of the bullets. */
+    private int[] y;        /**< Y-coordinates of the bullets. */
+    private int[] vx;       /**< Movement of the bullets along x-axis in each tick, in pixels of the game area. */
+    private int[] vy;       /**< Movement of the bullets along y-axis in each tick, in pixels of the game area. */
+    private int[] speed;    /**< Speed of the bullets, relative to the tile size. */
+    private int[] owner;    /**< Owner ids of the bullets. */
+    private byte[] dir;     /**< Ordinals of the directions of the bullets. */
+    private byte[] type;    /**< Ordinals of the types of the bullets. */
+    private byte[] team;    /**< Teams of the bullets, TEAM_PLAYER or TEAM_ENEMY. */
+    private byte[] alive;   /**< 1 if the bullet is alive, 0 if it is destroyed and waits for removal. */
+
+    private final ArrayList<AbstractTank> owners = new ArrayList<>();  /**< Owner tanks, indexed by owner id, null if the id is free. */
+    private final IdentityHashMap<AbstractTank, Integer> ownerIds = new IdentityHashMap<>();  /**< Owner ids of the owner tanks. */
+    private int[] ownerBulletCounts = new int[16];                      /**< Number of bullets of each owner id in the store. */
+    private int[] freeOwnerIds = new int[16];                           /**< Owner ids whose bullets are all removed. */
+    private int freeOwnerIdCount = 0;
+    private final Rectangle startBounds = new Rectangle();              /**< Reused bounds of a bullet before its movement. */
+
+    private Dimension gameAreaSize;
+    private int bulletWidth;
+    private int bulletHeight;
+
+    /**
+     * Constructs an empty BulletStore.
+     * @param gameAreaSize Size of the game area, which the size and speed of the bullets are relative to
+     */
+    public BulletStore(Dimension gameAreaSize) {
+        this(gameAreaSize, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty BulletStore with the given capacity. The store grows when the capacity is exceeded.
+     * @param gameAreaSize Size of the game area, which the size and speed of the bullets are relative to
+     * @param capacity Initial number of bullets the store can hold
+     */
+    public BulletStore(Dimension gameAreaSize, int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.vx = new int[capacity];
+        this.vy = new int[capacity];
+        this.speed = new int[capacity];
+        this.owner = new int[capacity];
+        this.dir = new byte[capacity];
+        this.type = new byte[capacity];
+        this.team = new byte[capacity];
+        this.alive = new byte[capacity];
+        setGameAreaSize(gameAreaSize);
+    }
+
+    /**
+     * Sets the size of the game area, and rescales the size and speed of the bullets.
+     * @param gameAreaSize Size of the game area
+     */
+    public void setGameAreaSize(Dimension gameAreaSize) {
+        this.gameAreaSize = new Dimension(gameAreaSize);
+
+        Dimension bulletSize = Utils.normalizeDimension(gameAreaSize, Globals.BULLET_WIDTH, Globals.BULLET_HEIGHT);
+        this.bulletWidth = bulletSize.width;
+        this.bulletHeight = bulletSize.height;
+
+        for (int i = 0; i < this.count; i++) {
+            updateVelocity(i);
+        }
+    }
+
+    /**
+     * Gets the number of bullets in the store, including the destroyed ones waiting for removal.
+     * @return Number of bullets
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Adds a bullet to the store.
+     *
+     * @param owner The tank that fires the bullet
+     * @param x The x-coordinate of the bullet
+     * @param y The y-coordinate of the bullet
+     * @param direction The direction of the bullet
+     * @param speed The speed of the bullet, relative to the tile size
+     * @param bulletType The type of the bullet
+     * @return Index of the bullet
+     */
+    public int add(AbstractTank owner, int x, int y, Direction direction, int speed, BulletType bulletType) {
+        if (this.count == this.x.length) grow();
+
+        int i = this.count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.speed[i] = speed;
+        this.owner[i] = acquireOwnerId(owner);
+        this.dir[i] = (byte) direction.ordinal();
+        this.type[i] = (byte) bulletType.ordinal();
+        this.team[i] = owner instanceof Enemy ? TEAM_ENEMY : TEAM_PLAYER;
+        this.alive[i] = 1;
+        updateVelocity(i);
+        return i;
+    }
+
+    /**
+     * Moves all bullets by their velocity.
+     */
+    public void update() {
+        int n = this.count;
+        int[] x = this.x, y = this.y, vx = this.vx, vy = this.vy;
+        for (int i = 0; i < n; i++) {
+            x[i] += vx[i];
+            y[i] += vy[i];
+        }
+    }
+
+    /**
+     * Destroys the bullets which are out of the map.
+     * Like Bullet.isOutOfBounds(), a bullet on the border of the map is still inside.
+     * @param width Width of the map in pixels
+     * @param height Height of the map in pixels
+     */
+    public void markOutOfBounds(int width, int height) {
+        int n = this.count;
+        int[] x = this.x, y = this.y;
+        byte[] alive = this.alive;
+        for (int i = 0; i < n; i++) {
+            // Unsigned comparison checks both bounds at once: negative coordinates become huge
+            int inside = (Integer.compareUnsigned(x[i], width) <= 0 ? 1 : 0) & (Integer.compareUnsigned(y[i], height) <= 0 ? 1 : 0);
+            alive[i] &= (byte) inside;
+        }
+    }
+
+    /**
+     * Checks the alive bullets against the tiles of the game level along their movement in the last update, and
+     * destroys the bullets stopped by a tile. The tiles are hit in the order a bullet reaches them, until a tile
+     * stops the bullet.
+     *
+     * @param level The game level
+     * @param sweptCollision Finds the tiles along the movement of a bullet
+     * @param probe Bullet object which is loaded with the fields of each colliding bullet for the handler
+     * @param handler Applies the effect of the hit on the tile
+     */
+    public void collideTiles(GameLevel level, SweptCollision sweptCollision, Bullet probe, TileHitHandler handler) {
+        Tile[][] map = level.getMap();
+        if (map == null || map.length == 0) return;
+
+        for (int i = 0; i < this.count; i++) {
+            if (this.alive[i] == 0) continue;
+
+            Rectangle start = getStartBounds(i);
+            int tileCount = sweptCollision.findTiles(map, level.getGridTransform(), start, this.vx[i], this.vy[i]);
+            for (int t = 0; t < tileCount; t++) {
+                load(i, probe);
+                if (handler.onTileHit(probe, sweptCollision.getTile(t))) {
+                    this.alive[i] = 0;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the next alive bullet of a team that collides with the given bounds along its movement in the last update.
+     *
+     * @param bounds Bounding box of the target, e.g. a tank
+     * @param team Team of the bullets to check
+     * @param from Index of the first bullet to check
+     * @return Index of the colliding bullet, or -1 if no bullet at or after from collides
+     */
+    public int findHit(RectangleBound bounds, byte team, int from) {
+        int targetLeft = (int) bounds.getX();
+        int targetTop = (int) bounds.getY();
+        int targetWidth = (int) bounds.getWidth();
+        int targetHeight = (int) bounds.getHeight();
+        int targetRight = targetLeft + targetWidth;
+        int targetBottom = targetTop + targetHeight;
+
+        int halfWidth = (int) (this.bulletWidth * 0.5);
+        int halfHeight = (int) (this.bulletHeight * 0.5);
+
+        for (int i = from; i < this.count; i++) {
+            if (this.alive[i] == 0 || this.team[i] != team) continue;
+
+            // Area covered by the bullet during its movement, which must overlap the target to hit it
+            int left = this.x[i] - halfWidth - Math.max(this.vx[i], 0);
+            int top = this.y[i] - halfHeight - Math.max(this.vy[i], 0);
+            int right = left + this.bulletWidth + Math.abs(this.vx[i]);
+            int bottom = top + this.bulletHeight + Math.abs(this.vy[i]);
+            if (left >= targetRight || targetLeft >= right || top >= targetBottom || targetTop >= bottom) continue;
+
+            double time = SweptCollision.sweep(this.x[i] - this.vx[i] - halfWidth, this.y[i] - this.vy[i] - halfHeight,
+                                               this.bulletWidth, this.bulletHeight, this.vx[i], this.vy[i],
+                                               targetLeft, targetTop, targetWidth, targetHeight);
+            if (time != SweptCollision.NO_HIT) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Destroys a bullet. The bullet stays in the store until removeDestroyed() is called.
+     * @param index Index of the bullet
+     */
+    public void destroy(int index) {
+        this.alive[index] = 0;
+    }
+
+    /**
+     * Checks if a bullet is destroyed.
+     * @param index Index of the bullet
+     * @return true if the bullet is destroyed
+     */
+    public boolean isDestroyed(int index) {
+        return this.alive[index] == 0;
+    }
+
+    /**
+     * Removes the destroyed bullets, and adds a blast effect at the position of each of them.
+     * Indices of the remaining bullets may change.
+     *
+     * @param blastPool Pool to take the blasts from
+     * @param blasts List to add the blasts to
+     */
+    public void removeDestroyed(ObjectPool<Blast> blastPool, List<Blast> blasts) {
+        // Iterate backwards, so that the bullet moved into the place of a removed one is already checked
+        for (int i = this.count - 1; i >= 0; i--) {
+            if (this.alive[i] != 0) continue;
+
+            Blast blast = blastPool.acquire();
+            blast.reset(this.x[i], this.y[i]);
+            blasts.add(blast);
+            releaseOwnerId(this.owner[i]);
+
+            int last = --this.count;
+            this.x[i] = this.x[last];
+            this.y[i] = this.y[last];
+            this.vx[i] = this.vx[last];
+            this.vy[i] = this.vy[last];
+            this.speed[i] = this.speed[last];
+            this.owner[i] = this.owner[last];
+            this.dir[i] = this.dir[last];
+            this.type[i] = this.type[last];
+            this.team[i] = this.team[last];
+            this.alive[i] = this.alive[last];
+        }
+    }
+
+    /**
+     * Removes all bullets.
+     */
+    public void clear() {
+        this.count = 0;
+        this.owners.clear();
+        this.ownerIds.clear();
+        this.freeOwnerIdCount = 0;
+    }
+
+    /**
+     * Loads the fields of a bullet into a bullet object, e.g. to pass it to code which works with bullet objects.
+     *
+     * @param index Index of the bullet
+     * @param bullet The bullet object to load into
+     */
+    public void load(int index, Bullet bullet) {
+        bullet.reset(getOwner(index), this.x[index], this.y[index], getDir(index), this.speed[index], getType(index));
+    }
+
+    /**
+     * Gets x-coordinate of a bullet.
+     * @param index Index of the bullet
+     * @return x-coordinate
+     */
+    public int getX(int index) { return this.x[index]; }
+
+    /**
+     * Gets y-coordinate of a bullet.
+     * @param index Index of the bullet
+     * @return y-coordinate
+     */
+    public int getY(int index) { return this.y[index]; }
+
+    /**
+     * Gets direction of a bullet.
+     * @param index Index of the bullet
+     * @return direction
+     */
+    public Direction getDir(int index) { return DIRECTIONS[this.dir[index]]; }
+
+    /**
+     * Gets type of a bullet.
+     * @param index Index of the bullet
+     * @return bullet type
+     */
+    public BulletType getType(int index) { return BULLET_TYPES[this.type[index]]; }
+
+    /**
+     * Gets team of a bullet.
+     * @param index Index of the bullet
+     * @return TEAM_PLAYER or TEAM_ENEMY
+     */
+    public byte getTeam(int index) { return this.team[index]; }
+
+    /**
+     * Gets the tank that fired a bullet.
+     * @param index Index of the bullet
+     * @return owner tank
+     */
+    public AbstractTank getOwner(int index) { return this.owners.get(this.owner[index]); }
+
+    /**
+     * Records the alive bullets into a frame in the same way as Bullet.render().
+     * @param frame Frame to record the bullets into
+     */
+    public void render(RenderFrame frame) {
+        int w = this.bulletWidth;
+        int h = this.bulletHeight;
+        int upwards = Direction.DIRECTION_UPWARDS.ordinal();
+        int downwards = Direction.DIRECTION_DOWNWARDS.ordinal();
+        for (int i = 0; i < this.count; i++) {
+            if (this.alive[i] == 0) continue;
+
+            if (this.dir[i] == upwards || this.dir[i] == downwards) {
+                frame.fillRect(Globals.COLOR_GRAY, this.x[i] - w, this.y[i] - h, w, h);
+            } else {
+                frame.fillRect(Globals.COLOR_GRAY, this.x[i] - h, this.y[i] - w, h, w);
+            }
+        }
+    }
+
+    /**
+     * Writes a bullet to a save game as a fixed-width record. Owner of the bullet is written by the caller.
+     *
+     * @param out The output to write to
+     * @param index Index of the bullet
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeBullet(DataOutput out, int index) throws IOException {
+        out.writeInt(this.x[index]);
+        out.writeInt(this.y[index]);
+        out.writeByte(this.dir[index]);
+        out.writeInt(this.speed[index]);
+        out.writeByte(this.type[index]);
+        out.writeByte(this.team[index]);
+    }
+
+    /**
+     * Adds a bullet from a save game written by writeBullet().
+     *
+     * @param in The input to read from
+     * @param owner The owner of the bullet
+     * @throws IOException If an I/O error occurs
+     */
+    public void readBullet(DataInput in, AbstractTank owner) throws IOException {
+        int x = in.readInt();
+        int y = in.readInt();
+        Direction direction = SaveGameReader.readEnum(in, Direction.values());
+        int speed = in.readInt();
+        BulletType bulletType = SaveGameReader.readEnum(in, BulletType.values());
+        byte team = in.readByte();
+
+        int i = add(owner, x, y, direction, speed, bulletType);
+        // Team is kept even if the owner is replaced by a stand-in tank
+        this.team[i] = team;
+    }
+
+    /**
+     * Gets the owner id of a tank for a new bullet, adding the tank to the owner table if needed.
+     * Owner ids are counted by their bullets, and reused once all bullets of their owner are removed, so the table
+     * does not keep the destroyed tanks of a long game.
+     * @param tank The owner tank
+     * @return Owner id of the tank
+     */
+    private int acquireOwnerId(AbstractTank tank) {
+        Integer ownerId = this.ownerIds.get(tank);
+        int id;
+        if (ownerId != null) {
+            id = ownerId;
+        } else if (this.freeOwnerIdCount > 0) {
+            id = this.freeOwnerIds[--this.freeOwnerIdCount];
+            this.owners.set(id, tank);
+            this.ownerIds.put(tank, id);
+        } else {
+            id = this.owners.size();
+            this.owners.add(tank);
+            this.ownerIds.put(tank, id);
+            if (id == this.ownerBulletCounts.length) {
+                this.ownerBulletCounts = Arrays.copyOf(this.ownerBulletCounts, id * 2);
+                this.freeOwnerIds = Arrays.copyOf(this.freeOwnerIds, id * 2);
+            }
+        }
+
+        if (ownerId == null) this.ownerBulletCounts[id] = 0;
+        this.ownerBulletCounts[id]++;
+        return id;
+    }
+
+    /**
+     * Releases the owner id of a removed bullet. The id is freed when its owner has no more bullets in the store.
+     * @param id Owner id of the removed bullet
+     */
+    private void releaseOwnerId(int id) {
+        if (--this.ownerBulletCounts[id] > 0) return;
+
+        this.ownerIds.remove(this.owners.get(id));
+        this.owners.set(id, null);
+        this.freeOwnerIds[this.freeOwnerIdCount++] = id;
+    }
+
+    /**
+     * Computes the movement of a bullet in each tick from its direction and speed.
+     * @param i Index of the bullet
+     */
+    private void updateVelocity(int i) {
+        int pixels = Utils.normalize(this.gameAreaSize, this.speed[i]);
+        this.vx[i] = DIRECTION_DX[this.dir[i]] * pixels;
+        this.vy[i] = DIRECTION_DY[this.dir[i]] * pixels;
+    }
+
+    /**
+     * Sets the reused bounds to the bounding box of a bullet before its last movement.
+     * @param i Index of the bullet
+     * @return The bounds
+     */
+    private Rectangle getStartBounds(int i) {
+        this.startBounds.setBounds(this.x[i] - this.vx[i] - (int) (this.bulletWidth * 0.5),
+                                   this.y[i] - this.vy[i] - (int) (this.bulletHeight * 0.5),
+                                   this.bulletWidth, this.bulletHeight);
+        return this.startBounds;
+    }
+
+    /**
+     * Doubles the capacity of the arrays.
+     */
+    private void grow() {
+        int capacity = this.x.length * 2;
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.vx = Arrays.copyOf(this.vx, capacity);
+        this.vy = Arrays.copyOf(this.vy, capacity);
+        this.speed = Arrays.copyOf(this.speed, capacity);
+        this.owner = Arrays.copyOf(this.owner, capacity);
+        this.dir = Arrays.copyOf(this.dir, capacity);
+        this.type = Arrays.copyOf(this.type, capacity);
+        this.team = Arrays.copyOf(this.team, capacity);
+        this.alive = Arrays.copyOf(this.alive, capacity);
+    }
+}
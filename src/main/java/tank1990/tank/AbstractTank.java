@@ -23,6 +23,8 @@
 package tank1990.tank;
 
 import java.awt.*;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.*;
 
@@ -31,8 +33,6 @@ import tank1990.powerup.AbstractPowerup;
 import tank1990.projectiles.Blast;
 import tank1990.projectiles.Bullet;
 import tank1990.projectiles.BulletType;
-import tank1990.tile.Tile;
-import tank1990.tile.TileType;
 
 /**
  * @class AbstractTank
@@ -80,9 +80,10 @@ public abstract class AbstractTank extends DynamicGameObject {
 
     private int lastEagleDistance = Integer.MAX_VALUE;
 
-    private transient Thread movementThread;
     private volatile boolean moving = false;
 
+    private transient GridLocation plannedMove = null;  // Next tile decided by the path finding, see planMove()
+
     protected BulletType bulletType = BulletType.NORMAL; // Default bullet type
 
     protected enum TankState {
@@ -158,13 +159,60 @@ public abstract class AbstractTank extends DynamicGameObject {
     }
 
     @Override
-    public void draw(Graphics g) {
+    public void render(RenderFrame frame) {
+        if (this.spawnProtectionEnabled && isSpawnBlinkedOut) return;  // Do not draw the tank if it is blinked out
+
+        // Draw tank animations
+        Dimension tankSize = Utils.normalizeDimension(frame.getGameAreaSize(), Globals.TANK_WIDTH, Globals.TANK_HEIGHT);
+
+        // Set the tank size for collision detection - make it smaller to allow movement
+        // Tank should be about 80% of cell size to allow for movement between tiles
+        this.textureFXs.get(dir).setTargetSize(tankSize.width, tankSize.height);
+        this.textureFXs.get(dir).render(frame, getX(), getY());
+
+        if (this.hasHelmet || Globals.SHOW_BOUNDING_BOX) {
+            RectangleBound boundingBox = getBoundingBox();
+            int boxX = (int) boundingBox.getX();
+            int boxY = (int) boundingBox.getY();
+            int boxWidth = (int) boundingBox.getWidth();
+            int boxHeight = (int) boundingBox.getHeight();
+
+            if (this.hasHelmet) frame.drawRoundRect(Color.YELLOW, boxX, boxY, boxWidth, boxHeight);
+            if (Globals.SHOW_BOUNDING_BOX) frame.drawRect(Color.CYAN, boxX, boxY, boxWidth, boxHeight);
+        }
+    }
+
+    /**
+     * Updates the tank's position and direction based on its movement speed and direction.
+     * This method also handles the frozen state of the tank, preventing movement if it is frozen.
+     *
+     * @param level The current game level where the tank is located.
+     */
+    public void update(GameLevel level) {
+        if (prepareMove(level)) move(level);
+    }
+
+    /**
+     * Updates the timers and the size of the tank for the current tick without moving it.
+     * The game engine uses this method to collect the tanks that should move in this tick, so that their movement
+     * decisions can be computed together.
+     *
+     * @param level The current game level where the tank is located.
+     * @return true if the tank should move in this tick, false otherwise.
+     */
+    public boolean prepareMove(GameLevel level) {
+        // Movement speed is relative to the size of the game area
+        this.speed = Utils.normalize(level.getGameAreaSize(), this.speedUnit);
+        this.maxSpeed = Utils.normalize(level.getGameAreaSize(), this.maxSpeedUnit);
+
         if (this.spawnProtectionEnabled) {
+            spawnTick.updateTick();
+            spawnBlinkTick.updateTick();
+
             if (spawnBlinkTick.isTimeOut()) {
                 spawnBlinkTick.reset();
                 isSpawnBlinkedOut = !isSpawnBlinkedOut;
             }
-            if (isSpawnBlinkedOut) return;  // Do not draw the tank if it is blinked out
         }
 
         // Update the tank texture if it is red tank
@@ -184,40 +232,6 @@ public abstract class AbstractTank extends DynamicGameObject {
             }
         }
 
-        // Draw tank animations
-        Dimension tankSize = Utils.normalizeDimension(g, Globals.TANK_WIDTH, Globals.TANK_HEIGHT);
-
-        // Set the tank size for collision detection - make it smaller to allow movement
-        // Tank should be about 80% of cell size to allow for movement between tiles
-        this.textureFXs.get(dir).setTargetSize(tankSize.width, tankSize.height);
-        this.textureFXs.get(dir).draw(g, getX(), getY(), 0.0);
-
-        this.speed = Utils.normalize(g, this.speedUnit);
-        this.maxSpeed = Utils.normalize(g, this.maxSpeedUnit);
-
-        if (this.hasHelmet) {
-            g.setColor(Color.YELLOW);
-            g.drawRoundRect((int) getBoundingBox().getX(), (int) getBoundingBox().getY(), (int) getBoundingBox().getWidth(), (int) getBoundingBox().getHeight(), 5, 5);
-        }
-
-        if (Globals.SHOW_BOUNDING_BOX) {
-            g.setColor(Color.CYAN);
-            g.drawRect((int) getBoundingBox().getX(), (int) getBoundingBox().getY(), (int) getBoundingBox().getWidth(), (int) getBoundingBox().getHeight());
-        }
-    }
-
-    /**
-     * Updates the tank's position and direction based on its movement speed and direction.
-     * This method also handles the frozen state of the tank, preventing movement if it is frozen.
-     *
-     * @param level The current game level where the tank is located.
-     */
-    public void update(GameLevel level) {
-        if (this.spawnProtectionEnabled) {
-            spawnTick.updateTick();
-            spawnBlinkTick.updateTick();
-        }
-
         // If tank is frozen, do not update its position or direction.
         if (this.isFrozen) {
             this.frozenTick.updateTick();
@@ -225,7 +239,7 @@ public abstract class AbstractTank extends DynamicGameObject {
                 this.isFrozen = false;  // Unfreeze the tank after cooldown
                 this.frozenTick.reset();
             } else {
-                return;
+                return false;
             }
         }
 
@@ -240,34 +254,22 @@ public abstract class AbstractTank extends DynamicGameObject {
         movementTick.updateTick();
 
         // Do not update tank position if movement tick is not timed out.
-        if (!movementTick.isTimeOut()) return;
+        if (!movementTick.isTimeOut()) return false;
         movementTick.reset();
 
         // Get tank dimensions for boundary calculations
         int tankWidth = (int) getSize().getWidth();
         int tankHeight = (int) getSize().getHeight();
 
-        Dimension gameAreaSize = level.getGameAreaSize();
-
         // If tank size is not set, calculate it based on grid
         if (tankWidth == 0 || tankHeight == 0) {
-            int cellWidth = (int) gameAreaSize.getWidth() / Globals.COL_TILE_COUNT;
-            int cellHeight = (int) gameAreaSize.getHeight() / Globals.ROW_TILE_COUNT;
-            tankWidth = cellWidth;
-            tankHeight = cellHeight;
+            tankWidth = level.getGridTransform().getCellWidth();
+            tankHeight = level.getGridTransform().getCellHeight();
         }
 
         // TODO: Dynamically updating size is not ideal, but necessary for now.
         setSize(new Dimension(tankWidth, tankHeight));  // Dynamically update tank size.
-
-        // Calculate movement based on the current direction and speed in separate thread
-        Thread movementThread = new Thread(() -> {
-            synchronized (this) {
-                move(level);
-            }
-        });
-
-        waitThread(movementThread);
+        return true;
     }
 
     /**
@@ -412,22 +414,30 @@ public abstract class AbstractTank extends DynamicGameObject {
     }
 
     /**
-     * Shoots the bullet by returning bullet object.
+     * Shoots the bullet of an enemy tank, if its shooting period has elapsed and the bullet would not be wasted.
+     * The tank holds its fire until it has a line of fire (see GameLevel.hasLineOfFire()), and shoots as soon as it has.
+     * @param bulletPool Pool to take the bullet from
+     * @param level The current game level where the tank is located
      * @return Bullet object if shoot is successful, null otherwise.
      */
-    public Bullet shoot() {
-        // If tank is enemy regulate shooting rate with shoot tick.
-        if (this instanceof Enemy) {
-            this.shootTick.updateTick();
+    public Bullet shoot(ObjectPool<Bullet> bulletPool, GameLevel level) {
+        // Regulate shooting rate with shoot tick.
+        this.shootTick.updateTick();
+        if (!this.shootTick.isTimeOut()) return null;  // Do not shoot if shoot tick is not timed out
 
-            if (this.shootTick.isTimeOut()) {
-                this.shootTick.reset();  // Reset the shoot tick for next shot
-            }
-            else {
-                return null;  // Do not shoot if shoot tick is not timed out
-            }
-        }
+        // Shoot tick stays timed out until there is something to shoot at
+        if (!level.hasLineOfFire(this)) return null;
+        this.shootTick.reset();  // Reset the shoot tick for next shot
+
+        return shoot(bulletPool);
+    }
 
+    /**
+     * Shoots the bullet by returning bullet object.
+     * @param bulletPool Pool to take the bullet from
+     * @return Bullet object if shoot is successful, null otherwise.
+     */
+    public Bullet shoot(ObjectPool<Bullet> bulletPool) {
         // Frozen enemy tanks cannot shoot as well.
         if (this instanceof Enemy && this.isFrozen) {
             return null;
@@ -444,8 +454,8 @@ public abstract class AbstractTank extends DynamicGameObject {
         // This offset is defined in the textureFXs map.
         Dimension offset = this.textureFXs.get(dir).getOffsets();
 
-        Bullet bullet = new Bullet(this, getX() + (int) offset.getWidth(), getY() + (int) offset.getHeight(), getDir(), Globals.BULLET_SPEED_PER_TICK);
-        bullet.setType(this.bulletType);  // Set the bullet type
+        Bullet bullet = bulletPool.acquire();
+        bullet.reset(this, getX() + (int) offset.getWidth(), getY() + (int) offset.getHeight(), getDir(), Globals.BULLET_SPEED_PER_TICK, this.bulletType);
 
         // Configure bullet properties based on tank tier
         if (currentTier == TankTier.TIER_2) {
@@ -487,15 +497,18 @@ public abstract class AbstractTank extends DynamicGameObject {
 
     /**
      * Destroys the tank and returns a blast object.
-     * This method sets the armor level to -1 to indicate destruction and returns a new Blast object.
+     * This method sets the armor level to -1 to indicate destruction and returns a Blast object.
      *
-     * @return A new Blast object representing the explosion of the destroyed tank.
+     * @param blastPool Pool to take the blast from
+     * @return A Blast object representing the explosion of the destroyed tank.
      */
-    public Blast destroy() {
+    public Blast destroy(ObjectPool<Blast> blastPool) {
         this.armorLevel = -1;
         resetTier();  // Reset the tank tier to default upon destruction
         this.bulletType = BulletType.NORMAL;  // Reset bullet type to default
-        return new Blast(getX(), getY());
+        Blast blast = blastPool.acquire();
+        blast.reset(getX(), getY());
+        return blast;
     }
 
     /**
@@ -527,6 +540,22 @@ public abstract class AbstractTank extends DynamicGameObject {
         return this.isRedTank;
     }
 
+    /**
+     * Returns the type of the bullets shot by the tank.
+     *
+     * @return the bullet type of the tank.
+     */
+    public BulletType getBulletType() {
+        return this.bulletType;
+    }
+
+    /**
+     * Returns the type of the tank.
+     *
+     * @return The type of the tank.
+     */
+    public abstract TankType getTankType();
+
     /**
      * Sets the texture effects for a default tank.
      * This method should be implemented by subclasses to define specific default tank textures.
@@ -648,10 +677,10 @@ public abstract class AbstractTank extends DynamicGameObject {
      * This method is used to add some randomness to the tank's movement behavior.
      * The probabilities are set such that left and right movements are more likely than upwards.
      *
+     * @param random The random number generator of the game session.
      * @return A Direction object representing the chosen direction.
      */
-    private Direction getWeightedRandomDirection() {
-        Random random = new Random();
+    private Direction getWeightedRandomDirection(GameRandom random) {
         double r = random.nextDouble();
         if (r < 0.4) return Direction.DIRECTION_LEFT;
         else if (r < 0.7) return Direction.DIRECTION_RIGHT;
@@ -659,120 +688,23 @@ public abstract class AbstractTank extends DynamicGameObject {
     }
 
     /**
-     * Waits for a thread to finish execution.
-     * @param thread The thread to wait for.
-     */
-    private void waitThread(Thread thread) {
-        thread.start();
-        try {
-            thread.join();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    /**
-     * Represents a cell in the grid with its row, column, distance from the start,
-     * and the first move coordinates that led to this cell.
-     * This class is used for pathfinding algorithms like Dijkstra's.
-     */
-    private static class Cell implements Comparable<Cell> {
-        int r, c, dist;
-        int firstMoveRow, firstMoveCol;
-
-        Cell(int r, int c, int dist, int firstMoveRow, int firstMoveCol) {
-            this.r = r;
-            this.c = c;
-            this.dist = dist;
-            this.firstMoveRow = firstMoveRow;
-            this.firstMoveCol = firstMoveCol;
-        }
-
-        public int compareTo(Cell other) {
-            return Integer.compare(this.dist, other.dist);
-        }
-    }
-
-    /**
-     * Finds the best move for the tank to reach the eagle location applying Dijkstra path finding algorithm.
-     * This method uses a priority queue to find the shortest path to the eagle location.
-     * It returns the first move that leads towards the eagle.
+     * Finds the best move for the tank by following the flow fields of the level.
+     * The tank heads to the eagle, unless the player is closer than the eagle.
+     * It returns the first move on the shortest path, skipping tiles occupied by other tanks.
      *
      * @param level The current game level where the tank is located.
      * @param start The starting location of the tank.
      * @return The best move as a GridLocation, or null if no valid move is found.
      */
     private GridLocation findBestMove(GameLevel level, GridLocation start) {
-        int[][] costMap = new int[Globals.ROW_TILE_COUNT][Globals.COL_TILE_COUNT];
-        Tile[][] map = level.getMap();
-
-        int eagleRow = level.getEagleLocation().rowIndex();
-        int eagleCol = level.getEagleLocation().colIndex();
-
-        for (int[] row : costMap) {
-            Arrays.fill(row, Integer.MAX_VALUE);
-        }
-
-        costMap[start.rowIndex()][start.colIndex()] = 0;
-
-        PriorityQueue<Cell> pq = new PriorityQueue<>();
-        pq.offer(new Cell(start.rowIndex(), start.colIndex(), 0, start.rowIndex(), start.colIndex()));
-
-        while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-
-            if (current.c == eagleCol && current.r == eagleRow) {
-                if (current.r == start.rowIndex() && current.c == start.colIndex()) {
-                    return null;
-                }
-                return new GridLocation(current.firstMoveRow, current.firstMoveCol);
-            }
-
-            for (Direction dir: Direction.values()) {
-                if (dir == Direction.DIRECTION_INVALID) continue;
-
-                int dRow =0;
-                int dCol =0;
-                switch (dir) {
-                    case DIRECTION_UPWARDS -> dRow=-1;
-                    case DIRECTION_RIGHT -> dCol=1;
-                    case DIRECTION_LEFT -> dCol=-1;
-                    case DIRECTION_DOWNWARDS -> dRow=1;
-                    default -> throw new IllegalStateException("Unexpected value: " + dir);
-                }
-
-                int nRow = current.r + dRow;
-                int nCol = current.c + dCol;
-
-                if (nRow < 0 || nRow >= Globals.ROW_TILE_COUNT ||
-                    nCol < 0 || nCol >= Globals.COL_TILE_COUNT) continue;
+        FlowField eagleField = level.getEagleFlowField();
+        FlowField playerField = level.getPlayerFlowField();
+        if (eagleField == null || playerField == null) return null;
 
-                Tile t = map[nRow][nCol];
+        FlowField targetField = playerField.getDistance(start) < eagleField.getDistance(start) ? playerField : eagleField;
 
-                if (t != null && !TileType.isPassable(t.getType())) continue;
-
-                int tileCost = (t == null) ? 1 : TileType.getCost(t.getType());
-
-                // Skip if tile is occupied by another tank or object
-                if (level.isTileOccupied(new GridLocation(nRow, nCol), start)) continue;
-
-                // Calculate new cumulative cost to reach this neighbor
-                int newCost = current.dist + tileCost;
-
-                if (newCost < costMap[nRow][nCol]) {
-                    costMap[nRow][nCol] = newCost;
-
-                    int firstMoveRow = (current.r == start.rowIndex() && current.c == start.colIndex()) ? nRow : current.firstMoveRow;
-                    int firstMoveCol = (current.r == start.rowIndex() && current.c == start.colIndex()) ? nCol : current.firstMoveCol;
-
-                    // Add this neighbor to the priority queue for further exploration
-                    pq.offer(new Cell(nRow, nCol, newCost, firstMoveRow, firstMoveCol));
-                }
-            }
-        }
-
-        // No path found to eagle location
-        return null;
+        // Skip if tile is occupied by another tank
+        return targetField.getNextMove(start, gloc -> level.isTileOccupied(gloc, start));
     }
 
     /**
@@ -782,18 +714,19 @@ public abstract class AbstractTank extends DynamicGameObject {
      *
      * @param level The current game level where the tank is located.
      * @param depth The depth of recursion for random movement.
+     * @param random The random number generator of the game session.
      */
-    private void randomMove(GameLevel level, int depth) {
+    private void randomMove(GameLevel level, int depth, GameRandom random) {
         if (depth < 0) return;
 
         // If the next tile is not movable, try to find a random direction
-        Direction randomDir = getWeightedRandomDirection();
+        Direction randomDir = getWeightedRandomDirection(random);
         setDir(randomDir);
         RectangleBound nextTileHint = moveForwardHint();
 
         if (level.checkMovable(this, nextTileHint)) {
             moveForward();
-            randomMove(level, --depth);  // Continue moving in the random direction
+            randomMove(level, --depth, random);  // Continue moving in the random direction
         }
     }
 
@@ -803,23 +736,44 @@ public abstract class AbstractTank extends DynamicGameObject {
      *
      * @param level The current game level where the tank is located.
      */
-    public synchronized void move(GameLevel level) {
-        GridLocation startLoc = Utils.loc2GridLoc(new Location(getX(), getY()));
-
-        Location currentLoc = new Location(getX(), getY());
-        GridLocation currentGridLoc = Utils.loc2GridLoc(currentLoc);
-        Location gridCenterLoc = Utils.gridLoc2Loc(currentGridLoc);
+    public void move(GameLevel level) {
+        planMove(level);
+        applyMove(level, level.getGameEngine().getRandom());
+    }
 
-        GridLocation nextTileLoc = null;
+    /**
+     * Decides the next tile of the tank by applying path finding towards the eagle.
+     * This method only reads the game state, so it can be called for several tanks in parallel as long as no tank
+     * is moved in the meantime. The decision is applied later by applyMove().
+     *
+     * @param level The current game level where the tank is located.
+     */
+    public void planMove(GameLevel level) {
+        GridTransform transform = level.getGridTransform();
+        GridLocation currentGridLoc = transform.toGridLocation(getX(), getY());
 
         // Try to calculate best move only if the tank is at the center of a grid cell.
-        if (currentLoc.x()==gridCenterLoc.x() && currentLoc.y()==gridCenterLoc.y()) {
-            nextTileLoc = findBestMove(level, startLoc);
+        if (transform.isCellCenter(getX(), getY())) {
+            this.plannedMove = findBestMove(level, currentGridLoc);
         } else {
-            nextTileLoc = currentGridLoc;  // If not at the center, stay in the grid center
+            this.plannedMove = currentGridLoc;  // If not at the center, stay in the grid center
         }
+    }
 
-        if (Utils.getRandomProbability(10)) nextTileLoc = null;  // Randomly nullify the next tile location to add randomness
+    /**
+     * Moves the tank according to the decision of the last planMove() call.
+     * This method modifies the game state, so it must be called from the game loop, one tank at a time.
+     *
+     * @param level The current game level where the tank is located.
+     * @param random The random number generator of the game session.
+     */
+    public void applyMove(GameLevel level, GameRandom random) {
+        GridLocation startLoc = level.getGridTransform().toGridLocation(getX(), getY());
+
+        GridLocation nextTileLoc = this.plannedMove;
+        this.plannedMove = null;
+
+        if (random.nextProbability(10)) nextTileLoc = null;  // Randomly nullify the next tile location to add randomness
 
         if (nextTileLoc != null) {
             // Update the tank's position based on the next tile
@@ -836,11 +790,101 @@ public abstract class AbstractTank extends DynamicGameObject {
                 moveForward();
             } else {
                 // If the next tile is not movable, try to find a random direction
-                randomMove(level, 0);  // No recursion depth limit for random movement
+                randomMove(level, 0, random);  // No recursion depth limit for random movement
             }
         } else {
             // If the next tile is not movable, try to find a random direction
-            randomMove(level, 0);  // No recursion depth limit for random movement
+            randomMove(level, 0, random);  // No recursion depth limit for random movement
+        }
+    }
+
+    /**
+     * Writes the state of the tank to a save game as a fixed-width record.
+     * Type of the tank is written by the caller, since it is needed to create the tank.
+     *
+     * @param out The output to write to.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(this.x);
+        out.writeInt(this.y);
+        out.writeByte(this.dir.ordinal());
+        out.writeInt(this.width);
+        out.writeInt(this.height);
+
+        out.writeInt(this.points);
+        out.writeInt(this.armorLevel);
+        out.writeInt(this.dx);
+        out.writeInt(this.dy);
+        out.writeInt(this.speedUnit);
+        out.writeInt(this.maxSpeedUnit);
+        out.writeInt(this.speed);
+        out.writeInt(this.maxSpeed);
+        out.writeByte(this.currentTier.ordinal());
+        out.writeByte(this.bulletType.ordinal());
+
+        out.writeBoolean(this.isBulletDestroyed);
+        out.writeBoolean(this.isRedTank);
+        out.writeBoolean(this.isColorRed);
+        out.writeBoolean(this.isSpawnBlinkedOut);
+        out.writeBoolean(this.spawnProtectionEnabled);
+        out.writeBoolean(this.hasHelmet);
+        out.writeBoolean(this.isFrozen);
+
+        this.redTankTick.writeState(out);
+        this.spawnTick.writeState(out);
+        this.spawnBlinkTick.writeState(out);
+        this.movementTick.writeState(out);
+        this.shootTick.writeState(out);
+        this.frozenTick.writeState(out);
+        this.helmetTick.writeState(out);
+    }
+
+    /**
+     * Restores the state of the tank from a save game written by writeState().
+     * Textures of the tank are selected again according to the restored state.
+     *
+     * @param in The input to read from.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void readState(DataInput in) throws IOException {
+        this.x = in.readInt();
+        this.y = in.readInt();
+        this.dir = SaveGameReader.readEnum(in, Direction.values());
+        this.width = in.readInt();
+        this.height = in.readInt();
+
+        this.points = in.readInt();
+        this.armorLevel = in.readInt();
+        this.dx = in.readInt();
+        this.dy = in.readInt();
+        this.speedUnit = in.readInt();
+        this.maxSpeedUnit = in.readInt();
+        this.speed = in.readInt();
+        this.maxSpeed = in.readInt();
+        this.currentTier = SaveGameReader.readEnum(in, TankTier.values());
+        this.bulletType = SaveGameReader.readEnum(in, BulletType.values());
+
+        this.isBulletDestroyed = in.readBoolean();
+        this.isRedTank = in.readBoolean();
+        this.isColorRed = in.readBoolean();
+        this.isSpawnBlinkedOut = in.readBoolean();
+        this.spawnProtectionEnabled = in.readBoolean();
+        this.hasHelmet = in.readBoolean();
+        this.isFrozen = in.readBoolean();
+
+        this.redTankTick.readState(in);
+        this.spawnTick.readState(in);
+        this.spawnBlinkTick.readState(in);
+        this.movementTick.readState(in);
+        this.shootTick.readState(in);
+        this.frozenTick.readState(in);
+        this.helmetTick.readState(in);
+
+        if (this.isRedTank && this.isColorRed) {
+            setRedTankTextureFXs();
+        } else {
+            setDefaultTankTextureFXs();
         }
     }
 
@@ -856,11 +900,4 @@ public abstract class AbstractTank extends DynamicGameObject {
         createTextureFXs();
     }
 
-    public synchronized void setX(int x) { this.x = x; }
-    public synchronized int getX() { return this.x; }
-    public synchronized void setY(int y) { this.y = y; }
-    public synchronized int getY() { return this.y; }
-    public synchronized void setDir(Direction dir) { this.dir = dir; }
-    public synchronized Direction getDir() { return this.dir; }
-
 }
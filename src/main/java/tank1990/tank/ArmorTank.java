@@ -76,6 +76,11 @@ public class ArmorTank extends AbstractTank implements Enemy {
         }
     }
 
+    @Override
+    public TankType getTankType() {
+        return TankType.ARMOR_TANK;
+    }
+
     @Override
     protected void setDefaultTankTextureFXs() {
         int armorLevel = getArmorLevel();
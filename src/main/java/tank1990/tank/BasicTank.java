@@ -51,6 +51,11 @@ public class BasicTank extends AbstractTank implements Enemy {
         setMaxSpeedUnit(Globals.BASIC_TANK_MOVEMENT_MAX_SPEED);
     }
 
+    @Override
+    public TankType getTankType() {
+        return TankType.BASIC_TANK;
+    }
+
     @Override
     protected void setDefaultTankTextureFXs() {
         this.tankTextureFxStruct = Globals.TEXTURE_BASIC_TANK_STRUCT;
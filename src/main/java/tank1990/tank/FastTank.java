@@ -53,6 +53,11 @@ public class FastTank extends AbstractTank implements Enemy {
         setMaxSpeedUnit(Globals.FAST_TANK_MOVEMENT_MAX_SPEED);
     }
 
+    @Override
+    public TankType getTankType() {
+        return TankType.FAST_TANK;
+    }
+
     @Override
     protected void setDefaultTankTextureFXs() {
         this.tankTextureFxStruct = Globals.TEXTURE_FAST_TANK_STRUCT;
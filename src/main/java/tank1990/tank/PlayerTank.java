@@ -22,8 +22,6 @@
 
 package tank1990.tank;
 
-import java.awt.Dimension;
-
 import tank1990.core.*;
 import tank1990.player.PlayerType;
 
@@ -58,6 +56,11 @@ public class PlayerTank extends AbstractTank {
         this.movementTick.setDefaultTick(Utils.Time2GameTick(60));  // This value is more suitable for player tank
     }
 
+    @Override
+    public TankType getTankType() {
+        return TankType.PLAYER_TANK;
+    }
+
     @Override
     protected void setDefaultTankTextureFXs() { }
 
@@ -83,15 +86,15 @@ public class PlayerTank extends AbstractTank {
         int tankWidth = (int) getSize().getWidth();
         int tankHeight = (int) getSize().getHeight();
 
-        Dimension gameAreaSize = level.getGameAreaSize();
+        GridTransform transform = level.getGridTransform();
 
         // Since tank position is center point, calculate proper boundaries
         int halfWidth = tankWidth / 2;
         int halfHeight = tankHeight / 2;
         
-        // Calculate new position with boundary checking (accounting for center position)
-        int newX = Math.max(halfWidth, Math.min(getX() + getDx(), (int) gameAreaSize.getWidth() - halfWidth));
-        int newY = Math.max(halfHeight, Math.min(getY() + getDy(), (int) gameAreaSize.getHeight() - halfHeight));
+        // Calculate new position with boundary checking within the map (accounting for center position)
+        int newX = Math.max(halfWidth, Math.min(getX() + getDx(), transform.getWidth() - halfWidth));
+        int newY = Math.max(halfHeight, Math.min(getY() + getDy(), transform.getHeight() - halfHeight));
         //System.out.println("newX:" + newX + " newY:" + newY);
         RectangleBound newTankBound = new RectangleBound(newX - halfWidth, newY - halfHeight, tankWidth, tankHeight);
 
@@ -53,6 +53,11 @@ public class PowerTank extends AbstractTank implements Enemy {
         setMaxSpeedUnit(Globals.POWER_TANK_MOVEMENT_MAX_SPEED);
     }
 
+    @Override
+    public TankType getTankType() {
+        return TankType.POWER_TANK;
+    }
+
     @Override
     protected void setDefaultTankTextureFXs() {
         this.tankTextureFxStruct = Globals.TEXTURE_POWER_TANK_STRUCT;
@@ -23,6 +23,15 @@
 package tank1990.tile;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.io.Serial;
+import java.util.concurrent.atomic.LongAdder;
 
 import tank1990.core.*;
 import tank1990.projectiles.Bullet;
@@ -34,6 +43,35 @@ import tank1990.tank.AbstractTank;
  * including their type, block configuration, sprite animation, and interaction with tanks and bullets.
  */
 public abstract class Tile extends StaticGameObject {
+    @Serial
+    private static final long serialVersionUID = -8644477400178611263L;  // Keeps predefined maps (*.bin) loadable
+
+    /**
+     * Serialized fields of the tile. Sub-pieces are kept as Boolean[][] in the serialized form,
+     * so that predefined maps (*.bin) and the tiles written by this class stay interchangeable.
+     */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("type", TileType.class),
+        new ObjectStreamField("blockConf", BlockConfiguration.class),
+        new ObjectStreamField("spriteAnimationFX", SpriteAnimation.class),
+        new ObjectStreamField("isDestroyed", boolean.class),
+        new ObjectStreamField("includedTankInst", AbstractTank.class),
+        new ObjectStreamField("gloc", GridLocation.class),
+        new ObjectStreamField("isCoordinatesUpdated", boolean.class),
+        new ObjectStreamField("subpieces", Boolean[][].class)
+    };
+
+    // Sub-piece masks. Bit (row * TILE_SUBDIVISION + col) of a mask represents the sub-piece at (row, col).
+    private static final int SUBDIVISION = Globals.TILE_SUBDIVISION;
+    private static final int ROW_MASK = (1 << SUBDIVISION) - 1;                        /**< Sub-pieces of the first row. */
+    private static final int FULL_MASK = (1 << (SUBDIVISION * SUBDIVISION)) - 1;       /**< All sub-pieces. */
+    private static final int COLUMN_MASK = blockMask(0, SUBDIVISION, 0, 1);            /**< Sub-pieces of the first column. */
+
+    // Statistics of the bounding box cache, shared by all tiles
+    private static final LongAdder BOUNDING_BOX_CACHE_HITS = new LongAdder();
+    private static final LongAdder BOUNDING_BOX_CACHE_MISSES = new LongAdder();
+
     protected TileType type = null;
     protected BlockConfiguration blockConf = BlockConfiguration.BLOCK_CONF_FULL;
     protected SpriteAnimation spriteAnimationFX = null;
@@ -45,7 +83,7 @@ public abstract class Tile extends StaticGameObject {
 
     private boolean isCoordinatesUpdated = false;
 
-    protected Boolean[][] subpieces = null;
+    private int subpieceMask = 0;  // Visible sub-pieces. Serialized as "subpieces", see serialPersistentFields.
 
     /**
      * Constructor for Tile.
@@ -62,7 +100,6 @@ public abstract class Tile extends StaticGameObject {
 
         this.type = type;
         this.blockConf = BlockConfiguration.BLOCK_CONF_FULL;
-        this.subpieces = new Boolean[Globals.TILE_SUBDIVISION][Globals.TILE_SUBDIVISION];
         setSubPieceVisibility(this.blockConf);
     }
 
@@ -83,7 +120,6 @@ public abstract class Tile extends StaticGameObject {
         this.type = type;
         this.blockConf = blockConf;
         this.gloc = new GridLocation(y, x); // Initialize grid location based on row (y) and column (x) indices
-        this.subpieces = new Boolean[Globals.TILE_SUBDIVISION][Globals.TILE_SUBDIVISION];
         setSubPieceVisibility(this.blockConf);
     }
 
@@ -115,43 +151,15 @@ public abstract class Tile extends StaticGameObject {
             return;
         }
 
-        setSize(Utils.normalizeDimension(g, Globals.TILE_WIDTH, Globals.TILE_HEIGHT));
-
-        // Dynamically update the grid location based on the current x and y coordinates
+        // Tiles are normally placed by their game level. Fall back to the graphics context for standalone drawing.
         if (!isCoordinatesUpdated) {
-            GridLocation gloc = new GridLocation(this.y, this.x);
-            Location loc = Utils.gridLoc2Loc(gloc);
-
-            setX(loc.x());
-            setY(loc.y());
-
-            isCoordinatesUpdated = true;
+            updateGeometry(g.getClipBounds().getSize());
         }
 
-        // Get the clip bounds of the graphics context
-        java.awt.Rectangle clipBounds = g.getClipBounds();
         this.spriteAnimationFX.setTargetSize(getSize().width, getSize().height);
         this.spriteAnimationFX.draw(g, x, y, 0.0);
 
-        boolean allSubpiecesDestroyed = true;
-        // If the sub-pieces are not visible, draw it as a black rectangle
-        for (int r=0; r<Globals.TILE_SUBDIVISION; r++) {
-            for (int c=0; c<Globals.TILE_SUBDIVISION; c++) {
-                if (!this.subpieces[r][c]) {
-                    int subX = x + ((c-2) * getSize().width / Globals.TILE_SUBDIVISION);
-                    int subY = y + ((r-2) * getSize().height / Globals.TILE_SUBDIVISION);
-                    g.setColor(Color.BLACK);
-                    g.fillRect(subX, subY, getSize().width / Globals.TILE_SUBDIVISION, getSize().height / Globals.TILE_SUBDIVISION);
-                } else {
-                    allSubpiecesDestroyed = false;
-                }
-            }
-        }
-
-        // If all sub-pieces are not visible, set the tile as destroyed
-        if (allSubpiecesDestroyed) {
-            setAsDestroyed();
-        }
+        drawHiddenSubpieces(g, this.subpieceMask, x, y, this.width, this.height);
 
         if (Globals.SHOW_BOUNDING_BOX) {
             g.setColor(Color.pink);
@@ -159,6 +167,104 @@ public abstract class Tile extends StaticGameObject {
         }
     }
 
+    /**
+     * Draws the sub-pieces which are not visible as black rectangles.
+     *
+     * @param g The graphics context to draw on
+     * @param subpieceMask Visible sub-pieces of the tile
+     * @param x X coordinate of the tile center
+     * @param y Y coordinate of the tile center
+     * @param width Width of the tile
+     * @param height Height of the tile
+     */
+    public static void drawHiddenSubpieces(Graphics g, int subpieceMask, int x, int y, int width, int height) {
+        int hiddenMask = ~subpieceMask & FULL_MASK;
+        if (hiddenMask == 0) return;
+
+        int subpieceWidth = width / SUBDIVISION;
+        int subpieceHeight = height / SUBDIVISION;
+        g.setColor(Color.BLACK);
+
+        // Visit only the hidden sub-pieces
+        while (hiddenMask != 0) {
+            int bit = Integer.numberOfTrailingZeros(hiddenMask);
+            int r = bit / SUBDIVISION;
+            int c = bit % SUBDIVISION;
+            int subX = x + ((c - SUBDIVISION / 2) * width / SUBDIVISION);
+            int subY = y + ((r - SUBDIVISION / 2) * height / SUBDIVISION);
+            g.fillRect(subX, subY, subpieceWidth, subpieceHeight);
+
+            hiddenMask &= hiddenMask - 1;  // Clear the lowest set bit
+        }
+    }
+
+    /**
+     * Records the current frame of the tile into a frame to be drawn.
+     * It is used for animated tiles, which are not pre-rendered. These cannot be hit, so all of their sub-pieces
+     * are visible.
+     *
+     * @param frame The frame to record the tile into
+     */
+    public void render(RenderFrame frame) {
+        frame.addImage(getFrameImage(), x, y, this.width, this.height);
+    }
+
+    /**
+     * Returns the current frame of the tile, not scaled.
+     *
+     * @return the current frame, or null if the tile has no texture
+     */
+    public BufferedImage getFrameImage() {
+        return (this.spriteAnimationFX == null) ? null : this.spriteAnimationFX.getCurrentFrame();
+    }
+
+    /**
+     * Returns the visible sub-pieces of the tile.
+     * Bit (row * TILE_SUBDIVISION + col) of the mask is set if the sub-piece at (row, col) is visible.
+     *
+     * @return the mask of the visible sub-pieces
+     */
+    public int getSubpieceMask() {
+        return this.subpieceMask;
+    }
+
+    /**
+     * Updates the size and the position of the tile according to the size of the game area.
+     * Tiles are created with their grid indices as coordinates, so the first call also converts
+     * these indices to the actual X-Y coordinate of the tile center.
+     *
+     * @param gameAreaSize The size of the game area
+     */
+    public void updateGeometry(Dimension gameAreaSize) {
+        invalidate();  // Bounding box depends on the size and the position
+        setSize(Utils.normalizeDimension(gameAreaSize, Globals.TILE_WIDTH, Globals.TILE_HEIGHT));
+
+        if (!isCoordinatesUpdated) {
+            GridTransform transform = GridTransform.forGameArea(gameAreaSize);
+            setX(transform.toX(this.x));
+            setY(transform.toY(this.y));
+
+            isCoordinatesUpdated = true;
+        }
+    }
+
+    /**
+     * Checks if the tile is animated, i.e. its appearance changes on every update.
+     * Animated tiles cannot be pre-rendered.
+     *
+     * @return true if the tile is animated, false otherwise
+     */
+    public boolean isAnimated() {
+        return false;
+    }
+
+    /**
+     * Clears the cached bounding box.
+     */
+    private void invalidate() {
+        this.boundingBox = null;
+    }
+
     public boolean includesTank() {
         return this.includedTankInst!=null;
     }
@@ -194,75 +300,8 @@ public abstract class Tile extends StaticGameObject {
      * @param blockConfiguration the block configuration to set visibility for sub-pieces
      */
     protected void setSubPieceVisibility(BlockConfiguration blockConfiguration) {
-        for (int r=0; r<Globals.TILE_SUBDIVISION; r++) {
-            for (int c=0; c<Globals.TILE_SUBDIVISION; c++) {
-                this.subpieces[r][c] = false;
-            }
-        }
-
-        if (blockConfiguration == BlockConfiguration.BLOCK_CONF_FULL) {
-            for (int r=0; r<Globals.TILE_SUBDIVISION; r++) {
-                for (int c=0; c<Globals.TILE_SUBDIVISION; c++) {
-                    this.subpieces[r][c] = true;
-                }
-            }
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_1) {
-            this.subpieces[0][0] = true;
-            this.subpieces[0][1] = true;
-            this.subpieces[1][0] = true;
-            this.subpieces[1][1] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_2) {
-            this.subpieces[0][2] = true;
-            this.subpieces[0][3] = true;
-            this.subpieces[1][2] = true;
-            this.subpieces[1][3] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_3) {
-            this.subpieces[2][2] = true;
-            this.subpieces[2][3] = true;
-            this.subpieces[3][2] = true;
-            this.subpieces[3][3] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_4) {
-            this.subpieces[2][0] = true;
-            this.subpieces[2][1] = true;
-            this.subpieces[3][0] = true;
-            this.subpieces[3][1] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_5) {
-            this.subpieces[0][0] = true;
-            this.subpieces[0][1] = true;
-            this.subpieces[0][2] = true;
-            this.subpieces[0][3] = true;
-            this.subpieces[1][0] = true;
-            this.subpieces[1][1] = true;
-            this.subpieces[1][2] = true;
-            this.subpieces[1][3] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_6) {
-            this.subpieces[0][2] = true;
-            this.subpieces[0][3] = true;
-            this.subpieces[1][2] = true;
-            this.subpieces[1][3] = true;
-            this.subpieces[2][2] = true;
-            this.subpieces[2][3] = true;
-            this.subpieces[3][2] = true;
-            this.subpieces[3][3] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_7) {
-            this.subpieces[2][0] = true;
-            this.subpieces[2][1] = true;
-            this.subpieces[2][2] = true;
-            this.subpieces[2][3] = true;
-            this.subpieces[3][0] = true;
-            this.subpieces[3][1] = true;
-            this.subpieces[3][2] = true;
-            this.subpieces[3][3] = true;
-        } else if (blockConfiguration == BlockConfiguration.BLOCK_CONF_8) {
-            this.subpieces[0][0] = true;
-            this.subpieces[0][1] = true;
-            this.subpieces[1][0] = true;
-            this.subpieces[1][1] = true;
-            this.subpieces[2][0] = true;
-            this.subpieces[2][1] = true;
-            this.subpieces[3][0] = true;
-            this.subpieces[3][1] = true;
-        } else { }
+        this.subpieceMask = getBlockMask(blockConfiguration);
+        invalidate();
     }
 
     /**
@@ -271,33 +310,13 @@ public abstract class Tile extends StaticGameObject {
      * @return true if a row or column was hit, false otherwise
      */
     protected boolean hitRow(Direction hitDir) {
-        boolean isHit = false;
-        if (hitDir == Direction.DIRECTION_DOWNWARDS) {
-            for (int r=0; r<Globals.TILE_SUBDIVISION; r++) {
-                if (this.subpieces[r][0] || this.subpieces[r][1] |
-                    this.subpieces[r][2] || this.subpieces[r][3]) {
-                    this.subpieces[r][0] = false;
-                    this.subpieces[r][1] = false;
-                    this.subpieces[r][2] = false;
-                    this.subpieces[r][3] = false;
-                    isHit = true;
-                    break;
-                }
-            }
-        } else {  // Direction.DIRECTION_UPWARDS
-            for (int r=Globals.TILE_SUBDIVISION-1; r>=0; r--) {
-                if (this.subpieces[r][0] || this.subpieces[r][1] |
-                    this.subpieces[r][2] || this.subpieces[r][3]) {
-                    this.subpieces[r][0] = false;
-                    this.subpieces[r][1] = false;
-                    this.subpieces[r][2] = false;
-                    this.subpieces[r][3] = false;
-                    isHit = true;
-                    break;
-                }
-            }
-        }
-        return isHit;
+        if (this.subpieceMask == 0) return false;
+
+        // Bullets moving downwards hit the top-most row, others hit the bottom-most row
+        int row = (hitDir == Direction.DIRECTION_DOWNWARDS) ? firstRow(this.subpieceMask) : lastRow(this.subpieceMask);
+        this.subpieceMask &= ~(ROW_MASK << (row * SUBDIVISION));
+        invalidate();
+        return true;
     }
 
     /**
@@ -306,33 +325,14 @@ public abstract class Tile extends StaticGameObject {
      * @return true if a column was hit, false otherwise
      */
     protected boolean hitColumn(Direction hitDir) {
-        boolean isHit = false;
-        if (hitDir == Direction.DIRECTION_LEFT) {
-            for (int c=Globals.TILE_SUBDIVISION-1; c>=0; c--) {
-                if (this.subpieces[0][c] || this.subpieces[1][c] |
-                    this.subpieces[2][c] || this.subpieces[3][c]) {
-                    this.subpieces[0][c] = false;
-                    this.subpieces[1][c] = false;
-                    this.subpieces[2][c] = false;
-                    this.subpieces[3][c] = false;
-                    isHit = true;
-                    break;
-                }
-            }
-        } else {  // Direction.DIRECTION_RIGHT
-            for (int c=0; c<Globals.TILE_SUBDIVISION; c++) {
-                if (this.subpieces[0][c] || this.subpieces[1][c] |
-                    this.subpieces[2][c] || this.subpieces[3][c]) {
-                    this.subpieces[0][c] = false;
-                    this.subpieces[1][c] = false;
-                    this.subpieces[2][c] = false;
-                    this.subpieces[3][c] = false;
-                    isHit = true;
-                    break;
-                }
-            }
-        }
-        return isHit;
+        if (this.subpieceMask == 0) return false;
+
+        // Bullets moving to the left hit the right-most column, others hit the left-most column
+        int columns = visibleColumns(this.subpieceMask);
+        int col = (hitDir == Direction.DIRECTION_LEFT) ? 31 - Integer.numberOfLeadingZeros(columns) : Integer.numberOfTrailingZeros(columns);
+        this.subpieceMask &= ~(COLUMN_MASK << col);
+        invalidate();
+        return true;
     }
 
     /**
@@ -353,51 +353,247 @@ public abstract class Tile extends StaticGameObject {
             isHit = hitColumn(hitDir);
         }
 
-        // If no sub-pieces were hit, set the tile as destroyed
-        if (!isHit) setAsDestroyed();
+        // If no sub-pieces were hit or none of them is left, set the tile as destroyed
+        if (!isHit || !hasVisibleSubpieces()) setAsDestroyed();
     }
 
-    public RectangleBound getBoundingBox() {
-        int minRow = Globals.TILE_SUBDIVISION;
-        int maxRow = -1;
-        int minCol = Globals.TILE_SUBDIVISION;
-        int maxCol = -1;
+    /**
+     * Checks if any of the sub-pieces of the tile is still visible.
+     * @return true if at least one sub-piece is visible, false otherwise
+     */
+    private boolean hasVisibleSubpieces() {
+        return this.subpieceMask != 0;
+    }
 
-        // Find the bounds of visible sub-pieces
-        boolean hasVisibleSubpieces = false;
-        for (int r = 0; r < Globals.TILE_SUBDIVISION; r++) {
-            for (int c = 0; c < Globals.TILE_SUBDIVISION; c++) {
-                if (this.subpieces[r][c]) {
-                    hasVisibleSubpieces = true;
-                    minRow = Math.min(minRow, r);
-                    maxRow = Math.max(maxRow, r);
-                    minCol = Math.min(minCol, c);
-                    maxCol = Math.max(maxCol, c);
-                }
-            }
+    /**
+     * Returns the bounding box of the visible sub-pieces.
+     * The bounding box is cached until the sub-pieces or the geometry of the tile change, so the returned object is
+     * shared and must not be modified.
+     *
+     * @return the bounding box of the tile
+     */
+    @Override
+    public RectangleBound getBoundingBox() {
+        RectangleBound bound = this.boundingBox;
+        if (bound != null) {
+            BOUNDING_BOX_CACHE_HITS.increment();
+            return bound;
         }
 
+        BOUNDING_BOX_CACHE_MISSES.increment();
+        bound = computeBoundingBox();
+        this.boundingBox = bound;
+        return bound;
+    }
+
+    /**
+     * Returns the number of bounding box requests served from the cache since the last reset.
+     * @return number of cache hits
+     */
+    public static long getBoundingBoxCacheHits() {
+        return BOUNDING_BOX_CACHE_HITS.sum();
+    }
+
+    /**
+     * Returns the number of bounding box requests which required computation since the last reset.
+     * @return number of cache misses
+     */
+    public static long getBoundingBoxCacheMisses() {
+        return BOUNDING_BOX_CACHE_MISSES.sum();
+    }
+
+    /**
+     * Resets the statistics of the bounding box cache.
+     */
+    public static void resetBoundingBoxCacheStats() {
+        BOUNDING_BOX_CACHE_HITS.reset();
+        BOUNDING_BOX_CACHE_MISSES.reset();
+    }
+
+    /**
+     * Computes the bounding box of the visible sub-pieces.
+     * @return the bounding box of the tile
+     */
+    private RectangleBound computeBoundingBox() {
         // If no visible sub-pieces, return empty bounding box
-        if (!hasVisibleSubpieces) {
+        if (this.subpieceMask == 0) {
             return new RectangleBound(getX(), getY(), 0, 0);
         }
 
+        // Find the bounds of visible sub-pieces
+        int columns = visibleColumns(this.subpieceMask);
+        int minRow = firstRow(this.subpieceMask);
+        int maxRow = lastRow(this.subpieceMask);
+        int minCol = Integer.numberOfTrailingZeros(columns);
+        int maxCol = 31 - Integer.numberOfLeadingZeros(columns);
+
         // Calculate sub-piece dimensions
-        int subpieceWidth = getSize().width / Globals.TILE_SUBDIVISION;
-        int subpieceHeight = getSize().height / Globals.TILE_SUBDIVISION;
+        int subpieceWidth = this.width / SUBDIVISION;
+        int subpieceHeight = this.height / SUBDIVISION;
 
         // Calculate the actual bounding box dimensions
         int boundingWidth = (maxCol - minCol + 1) * subpieceWidth;
         int boundingHeight = (maxRow - minRow + 1) * subpieceHeight;
 
         // Calculate the top-left position of the visible area (not center)
-        int topLeftX = (getX() - getSize().width / 2) + (minCol * subpieceWidth);
-        int topLeftY = (getY() - getSize().height / 2) + (minRow * subpieceHeight);
+        int topLeftX = (getX() - this.width / 2) + (minCol * subpieceWidth);
+        int topLeftY = (getY() - this.height / 2) + (minRow * subpieceHeight);
 
         // Return bounding box with top-left position
         return new RectangleBound(topLeftX, topLeftY, boundingWidth, boundingHeight);
     }
 
+    /**
+     * Returns the index of the top-most row which has a visible sub-piece.
+     * @param mask sub-piece mask, must not be zero
+     * @return row index
+     */
+    private static int firstRow(int mask) {
+        return Integer.numberOfTrailingZeros(mask) / SUBDIVISION;
+    }
+
+    /**
+     * Returns the index of the bottom-most row which has a visible sub-piece.
+     * @param mask sub-piece mask, must not be zero
+     * @return row index
+     */
+    private static int lastRow(int mask) {
+        return (31 - Integer.numberOfLeadingZeros(mask)) / SUBDIVISION;
+    }
+
+    /**
+     * Folds the rows of a sub-piece mask into a single row.
+     * @param mask sub-piece mask
+     * @return mask where bit c is set if column c has a visible sub-piece
+     */
+    private static int visibleColumns(int mask) {
+        int columns = 0;
+        for (int r = 0; r < SUBDIVISION; r++) {
+            columns |= mask >>> (r * SUBDIVISION);
+        }
+        return columns & ROW_MASK;
+    }
+
+    /**
+     * Builds a sub-piece mask of a rectangular block.
+     * @param firstRow first row of the block (inclusive)
+     * @param lastRow last row of the block (exclusive)
+     * @param firstCol first column of the block (inclusive)
+     * @param lastCol last column of the block (exclusive)
+     * @return sub-piece mask of the block
+     */
+    private static int blockMask(int firstRow, int lastRow, int firstCol, int lastCol) {
+        int mask = 0;
+        for (int r = firstRow; r < lastRow; r++) {
+            for (int c = firstCol; c < lastCol; c++) {
+                mask |= 1 << (r * SUBDIVISION + c);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the visible sub-pieces of a block configuration.
+     * @param blockConfiguration the block configuration
+     * @return sub-piece mask of the block configuration
+     */
+    private static int getBlockMask(BlockConfiguration blockConfiguration) {
+        final int n = SUBDIVISION;
+        final int h = SUBDIVISION / 2;
+
+        return switch (blockConfiguration) {
+            case BLOCK_CONF_FULL -> FULL_MASK;
+            case BLOCK_CONF_1 -> blockMask(0, h, 0, h);  // Top-left
+            case BLOCK_CONF_2 -> blockMask(0, h, h, n);  // Top-right
+            case BLOCK_CONF_3 -> blockMask(h, n, h, n);  // Bottom-right
+            case BLOCK_CONF_4 -> blockMask(h, n, 0, h);  // Bottom-left
+            case BLOCK_CONF_5 -> blockMask(0, h, 0, n);  // Top half
+            case BLOCK_CONF_6 -> blockMask(0, n, h, n);  // Right half
+            case BLOCK_CONF_7 -> blockMask(h, n, 0, n);  // Bottom half
+            case BLOCK_CONF_8 -> blockMask(0, n, 0, h);  // Left half
+            default -> 0;
+        };
+    }
+
+    /**
+     * Writes the state of the tile to a save game: visible sub-pieces (short) and destroyed flag (byte).
+     * Type and block configuration are written by the game level, since they are needed to create the tile.
+     * @param out Output to write the state to
+     * @throws IOException
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeShort(this.subpieceMask);
+        out.writeBoolean(this.isDestroyed);
+    }
+
+    /**
+     * Restores the state of the tile from a save game written by writeState().
+     * @param in Input to read the state from
+     * @throws IOException
+     */
+    public void readState(DataInput in) throws IOException {
+        this.subpieceMask = in.readUnsignedShort() & FULL_MASK;
+        this.isDestroyed = in.readBoolean();
+        invalidate();
+    }
+
+    /**
+     * Writes the tile to the stream, converting the sub-piece mask to its serialized form.
+     * @param out ObjectOutputStream to write the tile to
+     * @throws IOException
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        Boolean[][] subpieces = new Boolean[SUBDIVISION][SUBDIVISION];
+        for (int r = 0; r < SUBDIVISION; r++) {
+            for (int c = 0; c < SUBDIVISION; c++) {
+                subpieces[r][c] = (this.subpieceMask & (1 << (r * SUBDIVISION + c))) != 0;
+            }
+        }
+
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("type", this.type);
+        fields.put("blockConf", this.blockConf);
+        fields.put("spriteAnimationFX", this.spriteAnimationFX);
+        fields.put("isDestroyed", this.isDestroyed);
+        fields.put("includedTankInst", this.includedTankInst);
+        fields.put("gloc", this.gloc);
+        fields.put("isCoordinatesUpdated", this.isCoordinatesUpdated);
+        fields.put("subpieces", subpieces);
+        out.writeFields();
+    }
+
+    /**
+     * Reads the tile from the stream, converting the serialized sub-pieces to the sub-piece mask.
+     * @param in ObjectInputStream to read the tile from
+     * @throws IOException
+     * @throws ClassNotFoundException
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        this.type = (TileType) fields.get("type", null);
+        this.blockConf = (BlockConfiguration) fields.get("blockConf", BlockConfiguration.BLOCK_CONF_FULL);
+        this.spriteAnimationFX = (SpriteAnimation) fields.get("spriteAnimationFX", null);
+        this.isDestroyed = fields.get("isDestroyed", false);
+        this.includedTankInst = (AbstractTank) fields.get("includedTankInst", null);
+        this.gloc = (GridLocation) fields.get("gloc", null);
+        this.isCoordinatesUpdated = fields.get("isCoordinatesUpdated", false);
+
+        Boolean[][] subpieces = (Boolean[][]) fields.get("subpieces", null);
+        if (subpieces == null) {
+            setSubPieceVisibility(this.blockConf);
+            return;
+        }
+
+        this.subpieceMask = 0;
+        for (int r = 0; r < SUBDIVISION && r < subpieces.length; r++) {
+            for (int c = 0; c < SUBDIVISION && c < subpieces[r].length; c++) {
+                if (Boolean.TRUE.equals(subpieces[r][c])) this.subpieceMask |= 1 << (r * SUBDIVISION + c);
+            }
+        }
+    }
+
     public String toString() {
         return "Tile{" +
                 "type=" + type +
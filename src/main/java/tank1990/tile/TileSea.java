@@ -22,6 +22,8 @@
 
 package tank1990.tile;
 
+import java.io.Serial;
+
 import tank1990.core.Globals;
 import tank1990.core.SpriteAnimation;
 import tank1990.core.TextureFX;
@@ -33,6 +35,9 @@ import tank1990.projectiles.Bullet;
  * @details This class extends Tile and initializes the sea tile with its specific sprite animation.
  */
 public class TileSea extends Tile {
+    @Serial
+    private static final long serialVersionUID = 5341211946300169597L;  // Keeps predefined maps (*.bin) loadable
+
     public TileSea(int x, int y, BlockConfiguration blockConf) {
         super(x, y, TileType.TILE_SEA, blockConf);
 
@@ -46,6 +51,11 @@ public class TileSea extends Tile {
         }
     }
 
+    @Override
+    public boolean isAnimated() {
+        return true;
+    }
+
     public boolean destroy(Bullet b) {
         return false;
     }
@@ -1,12 +1,16 @@
 package RandomMapGenerator;
 
+import tank1990.core.GameRandom;
 import tank1990.core.LevelInfo;
 import tank1990.core.MapGenerator;
 import tank1990.tank.TankType;
 
 public class Main {
     public static void main(String[] args) {
-        LevelInfo levelInfo = MapGenerator.generateRandomLevelInfo();
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : System.nanoTime();
+        System.out.printf("Seed: %d\n", seed);
+
+        LevelInfo levelInfo = MapGenerator.generateRandomLevelInfo(new GameRandom(seed));
         MapGenerator.printGrid(levelInfo.levelGrid);
         
         for (TankType tt: levelInfo.enemyTankCount.keySet()) {